@@ -0,0 +1,77 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.hand.StandardPokerHandEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchEvaluationBenchmark {
+  private static final int HAND_COUNT = 4096;
+
+  @Param({"standard", "lookupTable"})
+  public String evaluatorType;
+
+  private HandEvaluator handEvaluator;
+  private final int[] cards = new int[HAND_COUNT * CompactHand.MAX_CARDS];
+  private final long[] scores = new long[HAND_COUNT];
+  private final CompactHand[] hands = new CompactHand[HAND_COUNT];
+
+  @Setup
+  public void setUp() {
+    handEvaluator = "standard".equals(evaluatorType) ? new StandardPokerHandEvaluator() : new LookupTableHandEvaluator();
+    SplittableRandom random = new SplittableRandom(42);
+    int[] deck = new int[CardIndex.CARD_COUNT];
+    for (int card = 0; card < deck.length; card++) {
+      deck[card] = card;
+    }
+    for (int hand = 0; hand < HAND_COUNT; hand++) {
+      hands[hand] = new CompactHand();
+      for (int card = 0; card < CompactHand.MAX_CARDS; card++) {
+        int j = card + random.nextInt(deck.length - card);
+        int swap = deck[j];
+        deck[j] = deck[card];
+        deck[card] = swap;
+        cards[hand * CompactHand.MAX_CARDS + card] = deck[card];
+        hands[hand].add(deck[card]);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HAND_COUNT)
+  public long[] singleCalls() {
+    for (int hand = 0; hand < HAND_COUNT; hand++) {
+      scores[hand] = handEvaluator.evaluate(hands[hand]);
+    }
+    return scores;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HAND_COUNT)
+  public long[] batch() {
+    handEvaluator.evaluateAll(cards, scores, HAND_COUNT);
+    return scores;
+  }
+}
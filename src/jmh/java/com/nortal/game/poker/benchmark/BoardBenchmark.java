@@ -0,0 +1,61 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.hand.StandardPokerHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+  @Param({"2", "3", "4", "5"})
+  public int playerCount;
+
+  @Param({"standard", "lookupTable"})
+  public String evaluatorType;
+
+  private Board board;
+
+  @Setup
+  public void setUp() {
+    board = new Board(new Deck(), "standard".equals(evaluatorType)
+        ? new StandardPokerHandEvaluator() : new LookupTableHandEvaluator());
+    for (int i = 0; i < playerCount; i++) {
+      Player player = new Computer("Computer-" + i);
+      player.setChips(1000);
+      board.addPlayer(player);
+    }
+    board.deal();
+  }
+
+  @Benchmark
+  public void deal() {
+    board.giveChipsBackToPlayers();
+    board.deal();
+  }
+
+  @Benchmark
+  public List<Player> findPlayersWithBestHand() {
+    return board.findPlayersWithBestHand();
+  }
+}
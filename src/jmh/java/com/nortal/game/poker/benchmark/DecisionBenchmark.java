@@ -0,0 +1,87 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.EquityDecisionStrategy;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import com.nortal.game.poker.player.HandStrengthBidStrategy;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.TWO_PAIRS_BASE;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecisionBenchmark {
+  @Param({"fixed", "handStrength", "equity64", "equity1024"})
+  public String strategy;
+
+  @Param({"2", "5"})
+  public int playerCount;
+
+  @Param({"1000000"})
+  public long budgetNanos;
+
+  private Board board;
+  private Computer bidder;
+
+  @Setup
+  public void setUp() {
+    HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    board = new Board(new Deck(new SplittableRandomSource(1)), handEvaluator);
+    bidder = createBidder(handEvaluator);
+    bidder.setChips(1_000_000);
+    board.addPlayer(bidder);
+    for (int i = 1; i < playerCount; i++) {
+      Computer player = new Computer("Computer-" + i);
+      player.setChips(1_000_000);
+      board.addPlayer(player);
+    }
+  }
+
+  private Computer createBidder(HandEvaluator handEvaluator) {
+    switch (strategy) {
+      case "fixed":
+        return new Computer("Bidder", new FixedBidStrategy(1));
+      case "handStrength":
+        return new Computer("Bidder", new HandStrengthBidStrategy(handEvaluator, TWO_PAIRS_BASE));
+      case "equity64":
+        return new Computer("Bidder", new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(2), 64, 0.5), budgetNanos);
+      case "equity1024":
+        return new Computer("Bidder", new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(2), 1024, 0.5), budgetNanos);
+      default:
+        throw new RuntimeException("Unknown strategy: " + strategy);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void deal() {
+    board.giveChipsBackToPlayers();
+    board.deal();
+  }
+
+  @Benchmark
+  public int decide() {
+    return bidder.getExtraBid(board.getDecisionContext(bidder, bidder.getDecisionBudgetNanos()));
+  }
+}
@@ -0,0 +1,80 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.random.RandomSource;
+import com.nortal.game.poker.random.SecureRandomSource;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import com.nortal.game.poker.random.Xoshiro256RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+  @Param({"splittable", "xoshiro", "secure"})
+  public String randomType;
+
+  @Param({"false", "true"})
+  public boolean lazyShuffle;
+
+  private Deck deck;
+
+  @Setup
+  public void setUp() {
+    deck = new Deck(createRandom(randomType), lazyShuffle);
+  }
+
+  @Benchmark
+  public void shuffle() {
+    deck.shuffle();
+  }
+
+  @Benchmark
+  public void getNextCardForFullTable(Blackhole blackhole) {
+    deck.collectCards();
+    for (int i = 0; i < Board.MAX_PLAYERS_COUNT * Board.CARDS_PER_PLAYER; i++) {
+      Card card = deck.getNextCard();
+      blackhole.consume(card);
+    }
+  }
+
+  @Benchmark
+  public void shuffleAndDealTwoPlayers(Blackhole blackhole) {
+    deck.collectCards();
+    deck.shuffle();
+    for (int i = 0; i < 2 * Board.CARDS_PER_PLAYER; i++) {
+      blackhole.consume(deck.getNextCard());
+    }
+  }
+
+  private static RandomSource createRandom(String randomType) {
+    switch (randomType) {
+      case "splittable":
+        return new SplittableRandomSource(42);
+      case "xoshiro":
+        return new Xoshiro256RandomSource(42);
+      case "secure":
+        return new SecureRandomSource();
+      default:
+        throw new RuntimeException("Unknown random type: " + randomType);
+    }
+  }
+}
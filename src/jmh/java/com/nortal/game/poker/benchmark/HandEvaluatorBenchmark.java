@@ -0,0 +1,85 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.hand.StandardPokerHandEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandEvaluatorBenchmark {
+  @Param({"HIGH_CARD", "ONE_PAIR", "TWO_PAIRS", "THREE_OF_A_KIND", "STRAIGHT",
+      "FLUSH", "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH"})
+  public String category;
+
+  @Param({"standard", "lookupTable"})
+  public String evaluatorType;
+
+  private HandEvaluator handEvaluator;
+  private Hand hand;
+
+  @Setup
+  public void setUp() {
+    handEvaluator = "standard".equals(evaluatorType) ? new StandardPokerHandEvaluator() : new LookupTableHandEvaluator();
+    hand = createHand(category);
+  }
+
+  @Benchmark
+  public long evaluate() {
+    return handEvaluator.evaluate(hand);
+  }
+
+  static Hand createHand(String category) {
+    switch (category) {
+      case "HIGH_CARD":
+        return hand(new Card(ACE, SPADE), new Card(JACK, HEART), new Card(NINE, SPADE), new Card(SIX, CLUB), new Card(THREE, DIAMOND));
+      case "ONE_PAIR":
+        return hand(new Card(ACE, SPADE), new Card(ACE, HEART), new Card(NINE, SPADE), new Card(SIX, CLUB), new Card(THREE, DIAMOND));
+      case "TWO_PAIRS":
+        return hand(new Card(ACE, SPADE), new Card(ACE, HEART), new Card(NINE, SPADE), new Card(NINE, CLUB), new Card(THREE, DIAMOND));
+      case "THREE_OF_A_KIND":
+        return hand(new Card(ACE, SPADE), new Card(ACE, HEART), new Card(ACE, CLUB), new Card(NINE, CLUB), new Card(THREE, DIAMOND));
+      case "STRAIGHT":
+        return hand(new Card(NINE, SPADE), new Card(EIGHT, HEART), new Card(SEVEN, SPADE), new Card(SIX, CLUB), new Card(FIVE, DIAMOND));
+      case "FLUSH":
+        return hand(new Card(ACE, SPADE), new Card(JACK, SPADE), new Card(NINE, SPADE), new Card(SIX, SPADE), new Card(THREE, SPADE));
+      case "FULL_HOUSE":
+        return hand(new Card(ACE, SPADE), new Card(ACE, HEART), new Card(ACE, CLUB), new Card(NINE, CLUB), new Card(NINE, DIAMOND));
+      case "FOUR_OF_A_KIND":
+        return hand(new Card(ACE, SPADE), new Card(ACE, HEART), new Card(ACE, CLUB), new Card(ACE, DIAMOND), new Card(NINE, DIAMOND));
+      case "STRAIGHT_FLUSH":
+        return hand(new Card(NINE, HEART), new Card(EIGHT, HEART), new Card(SEVEN, HEART), new Card(SIX, HEART), new Card(FIVE, HEART));
+      default:
+        throw new RuntimeException("Unknown hand category: " + category);
+    }
+  }
+
+  private static Hand hand(Card... cards) {
+    Hand hand = new Hand();
+    for (Card card : cards) {
+      hand.add(card);
+    }
+    return hand;
+  }
+}
@@ -0,0 +1,90 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.history.HandHistoryReader;
+import com.nortal.game.poker.history.HandHistoryRecord;
+import com.nortal.game.poker.history.HandHistoryWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandHistoryBenchmark {
+  private static final int ROUNDS = 1_000_000;
+
+  private final int[] chipDeltas = {3, -1, -1, -1};
+  private final int[] cards = new int[20];
+  private Path writePath;
+  private Path scanPath;
+  private HandHistoryReader reader;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    for (int card = 0; card < cards.length; card++) {
+      cards[card] = card;
+    }
+    scanPath = Files.createTempFile("hand-history-scan", ".bin");
+    Files.delete(scanPath);
+    try (HandHistoryWriter writer = new HandHistoryWriter(scanPath)) {
+      appendRounds(writer);
+    }
+    reader = new HandHistoryReader(scanPath);
+  }
+
+  @Setup(Level.Invocation)
+  public void createWritePath() throws IOException {
+    writePath = Files.createTempFile("hand-history-write", ".bin");
+    Files.delete(writePath);
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteWritePath() throws IOException {
+    Files.deleteIfExists(writePath);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    reader.close();
+    Files.deleteIfExists(scanPath);
+  }
+
+  @Benchmark
+  public void writeMillionRounds() throws IOException {
+    try (HandHistoryWriter writer = new HandHistoryWriter(writePath)) {
+      appendRounds(writer);
+    }
+  }
+
+  @Benchmark
+  public long scanMillionRounds() {
+    long chipsWon = 0;
+    for (HandHistoryRecord record : reader) {
+      if (record.isWinner(0)) chipsWon += record.getChipDelta(0);
+    }
+    return chipsWon;
+  }
+
+  private void appendRounds(HandHistoryWriter writer) {
+    for (int round = 0; round < ROUNDS; round++) {
+      writer.append(round, 42, round & 3, chipDeltas, 4, 1, cards);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.equity.OpeningHandStrength;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+public class OpeningHandStrengthBenchmark {
+  private Path tableFile;
+  private OpeningHandStrength strength;
+  private long[] scores;
+  private int next;
+
+  @Setup
+  public void setUp() throws IOException {
+    tableFile = Files.createTempFile("opening-hand-strength", ".bin");
+    try (InputStream input = OpeningHandStrength.class.getResourceAsStream(OpeningHandStrength.RESOURCE)) {
+      Files.write(tableFile, input.readAllBytes());
+    }
+    strength = OpeningHandStrength.load(tableFile);
+    SplittableRandom random = new SplittableRandom(1);
+    scores = new long[1024];
+    for (int i = 0; i < scores.length; i++) {
+      scores[i] = strength.getScore(random.nextInt(strength.getClassCount()));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(tableFile);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(10)
+  public double coldStartDefault() {
+    return OpeningHandStrength.getDefault().getClassWinProbability(0, 1);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @Fork(1)
+  public OpeningHandStrength loadMapped() throws IOException {
+    return OpeningHandStrength.load(tableFile);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @Fork(1)
+  public double lookup() {
+    return strength.getWinProbability(scores[next++ & (scores.length - 1)], 3);
+  }
+}
@@ -0,0 +1,43 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.simulation.ParallelSimulation;
+import com.nortal.game.poker.simulation.Simulation;
+import com.nortal.game.poker.simulation.SimulationStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSimulationBenchmark {
+  private static final long ROUNDS = 1_000_000;
+
+  @Param({"1", "2", "4", "8", "16", "32"})
+  public int workerCount;
+
+  private ParallelSimulation simulation;
+
+  @Setup
+  public void setUp() {
+    simulation = new ParallelSimulation(Simulation::createDefault, workerCount, 42);
+  }
+
+  @Benchmark
+  public SimulationStats millionRounds() {
+    return simulation.run(ROUNDS);
+  }
+}
@@ -0,0 +1,54 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.simulation.ShowdownPipeline;
+import com.nortal.game.poker.simulation.Simulation;
+import com.nortal.game.poker.simulation.SimulationStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShowdownPipelineBenchmark {
+  private static final long ROUNDS = 1_000_000;
+
+  @Param({"1", "2", "4"})
+  public int evaluateThreads;
+
+  @Param({"1", "2"})
+  public int settleThreads;
+
+  @Param({"64", "256", "1024"})
+  public int batchSize;
+
+  private ShowdownPipeline pipeline;
+
+  @Setup
+  public void setUp() {
+    HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    pipeline = new ShowdownPipeline(42, handEvaluator, () -> Simulation.createDefaultPlayers(handEvaluator),
+        Simulation.DEFAULT_STARTING_CHIPS, 1, evaluateThreads, settleThreads, batchSize,
+        ShowdownPipeline.DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @Benchmark
+  public SimulationStats millionRounds() {
+    return pipeline.run(ROUNDS);
+  }
+}
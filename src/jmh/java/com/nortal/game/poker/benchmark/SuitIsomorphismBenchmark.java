@@ -0,0 +1,72 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.card.SuitIsomorphism;
+import com.nortal.game.poker.hand.CachingHandEvaluator;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.StandardPokerHandEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SuitIsomorphismBenchmark {
+  private static final int HAND_COUNT = 1 << 16;
+
+  private final CompactHand[] hands = new CompactHand[HAND_COUNT];
+  private HandEvaluator standardEvaluator;
+  private HandEvaluator cachingEvaluator;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(1);
+    int[] deck = new int[CardIndex.CARD_COUNT];
+    for (int card = 0; card < deck.length; card++) {
+      deck[card] = card;
+    }
+    for (int i = 0; i < HAND_COUNT; i++) {
+      hands[i] = new CompactHand();
+      for (int card = 0; card < CompactHand.MAX_CARDS; card++) {
+        int j = card + random.nextInt(deck.length - card);
+        int swap = deck[j];
+        deck[j] = deck[card];
+        deck[card] = swap;
+        hands[i].add(deck[card]);
+      }
+    }
+    standardEvaluator = new StandardPokerHandEvaluator();
+    cachingEvaluator = new CachingHandEvaluator(standardEvaluator);
+  }
+
+  @Benchmark
+  public int classIndex() {
+    return SuitIsomorphism.classIndex(hands[next++ & (HAND_COUNT - 1)].mask());
+  }
+
+  @Benchmark
+  public long standardEvaluate() {
+    return standardEvaluator.evaluate(hands[next++ & (HAND_COUNT - 1)]);
+  }
+
+  @Benchmark
+  public long cachingEvaluate() {
+    return cachingEvaluator.evaluate(hands[next++ & (HAND_COUNT - 1)]);
+  }
+}
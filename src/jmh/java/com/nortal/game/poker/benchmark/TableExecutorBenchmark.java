@@ -0,0 +1,117 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.Poker;
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.UI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableExecutorBenchmark {
+  private static final int FIXED_POOL_SIZE = 64;
+  private static final int STARTING_CHIPS = 3;
+  private static final long THINK_TIME_MILLIS = 1;
+
+  @Param({"virtual", "fixed"})
+  public String executorType;
+
+  @Param({"1000", "10000"})
+  public int tableCount;
+
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    executor = executorType.equals("virtual")
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(FIXED_POOL_SIZE);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void playTables() throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(tableCount);
+    for (int table = 0; table < tableCount; table++) {
+      Poker poker = createTable();
+      executor.execute(() -> {
+        poker.play();
+        finished.countDown();
+      });
+    }
+    finished.await();
+  }
+
+  private Poker createTable() {
+    Board board = new Board(new Deck(), handEvaluator);
+    Human human = new Human("Human");
+    human.setChips(STARTING_CHIPS);
+    Computer computer = new Computer("Computer");
+    computer.setChips(STARTING_CHIPS);
+    board.addPlayer(human).addPlayer(computer);
+    return new Poker(board, new ThinkingUI(), human, computer);
+  }
+
+  private static class ThinkingUI extends UI {
+    @Override
+    public int getExtraBid(int maxPossibleBid) {
+      try {
+        Thread.sleep(THINK_TIME_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return 0;
+    }
+
+    @Override
+    public void showPlayerCards(Player human, Hand hand) {
+    }
+
+    @Override
+    public void announceWinner(Player winner) {
+    }
+
+    @Override
+    public void announceChipsReturn() {
+    }
+
+    @Override
+    public void gameOver() {
+    }
+
+    @Override
+    public void newRound() {
+    }
+  }
+}
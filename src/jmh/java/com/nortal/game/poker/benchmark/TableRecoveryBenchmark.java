@@ -0,0 +1,95 @@
+package com.nortal.game.poker.benchmark;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.recovery.JournalingBoard;
+import com.nortal.game.poker.recovery.RecoveredTable;
+import com.nortal.game.poker.recovery.TableStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableRecoveryBenchmark {
+  private static final int ROUNDS_PER_TABLE = 100;
+
+  @Param({"1000", "10000"})
+  public int tableCount;
+
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+  private Path directory;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("table-store");
+    try (TableStore store = new TableStore(directory, TimeUnit.HOURS.toMillis(1))) {
+      for (long tableId = 0; tableId < tableCount; tableId++) {
+        JournalingBoard board = new JournalingBoard(new Deck(new CounterRandomSource(tableId)), handEvaluator, store,
+            tableId);
+        Human human = new Human("Human");
+        human.setChips(1000);
+        Computer computer = new Computer("Computer");
+        computer.setChips(1000);
+        board.addPlayer(human).addPlayer(computer);
+        board.submitSnapshot();
+        for (int round = 0; round < ROUNDS_PER_TABLE; round++) {
+          board.deal();
+          board.raiseBid(1);
+          List<Player> winners = board.findPlayersWithBestHand();
+          if (winners.size() == 1) {
+            board.giveChipsOnBoardToPlayer(winners.get(0));
+          } else {
+            board.giveChipsBackToPlayers();
+          }
+        }
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public int recoverAllTables() throws IOException {
+    Map<Long, RecoveredTable> tables = TableStore.recover(directory);
+    int restored = 0;
+    for (RecoveredTable table : tables.values()) {
+      JournalingBoard.restore(table, new Deck(new CounterRandomSource(table.getSnapshot().getTableId())),
+          handEvaluator, null);
+      restored++;
+    }
+    return restored;
+  }
+}
@@ -0,0 +1,104 @@
+package com.nortal.game;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.AsyncUI;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncPoker {
+  public enum State { NEW_ROUND, WAITING_FOR_BID, SHOWDOWN, GAME_OVER }
+
+  protected final Board board;
+  protected final AsyncUI userInterface;
+  protected final Player human;
+  protected final Player computer;
+  protected final Executor executor;
+  protected final long bidTimeoutMillis;
+  protected final CompletableFuture<Void> finished = new CompletableFuture<>();
+  protected volatile State state = State.NEW_ROUND;
+
+  public AsyncPoker(Board board, AsyncUI userInterface, Player human, Player computer, Executor executor,
+                    long bidTimeoutMillis) {
+    this.board = board;
+    this.userInterface = userInterface;
+    this.human = human;
+    this.computer = computer;
+    this.executor = executor;
+    this.bidTimeoutMillis = bidTimeoutMillis;
+  }
+
+  public CompletableFuture<Void> play() {
+    executor.execute(this::startRound);
+    return finished;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  protected void startRound() {
+    try {
+      if (!board.everybodyHasChips()) {
+        state = State.GAME_OVER;
+        userInterface.gameOver();
+        userInterface.flush();
+        finished.complete(null);
+        return;
+      }
+      state = State.NEW_ROUND;
+      userInterface.newRound();
+      board.deal();
+      userInterface.showPlayerCards(human, board.getPlayerHand(human));
+      requestBid();
+    } catch (RuntimeException e) {
+      finished.completeExceptionally(e);
+    }
+  }
+
+  protected void requestBid() {
+    state = State.WAITING_FOR_BID;
+    int maxPossibleBid = board.getMaxPossibleBid();
+    userInterface.getExtraBid(maxPossibleBid)
+        .completeOnTimeout(0, bidTimeoutMillis, TimeUnit.MILLISECONDS)
+        .whenCompleteAsync((extraBid, error) -> {
+          if (error != null) {
+            finished.completeExceptionally(error);
+          } else {
+            finishRound(extraBid >= 0 && extraBid <= maxPossibleBid ? extraBid : 0);
+          }
+        }, executor);
+  }
+
+  protected void finishRound(int extraBid) {
+    try {
+      state = State.SHOWDOWN;
+      board.raiseBid(extraBid);
+      openCards();
+      giveChipsToWinnerOrReturnChips();
+    } catch (RuntimeException e) {
+      finished.completeExceptionally(e);
+      return;
+    }
+    startRound();
+  }
+
+  protected void openCards() {
+    userInterface.showPlayerCards(human, board.getPlayerHand(human));
+    userInterface.showPlayerCards(computer, board.getPlayerHand(computer));
+  }
+
+  protected void giveChipsToWinnerOrReturnChips() {
+    List<Player> playersWithBestHand = board.findPlayersWithBestHand();
+    if (playersWithBestHand.size() == 1) {
+      board.giveChipsOnBoardToPlayer(playersWithBestHand.get(0));
+      userInterface.announceWinner(playersWithBestHand.get(0));
+    } else {
+      board.giveChipsBackToPlayers();
+      userInterface.announceChipsReturn();
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.nortal.game.poker.hand.StandardPokerHandEvaluator;
 import com.nortal.game.poker.player.Computer;
 import com.nortal.game.poker.player.Human;
 import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.SecureRandomSource;
 import com.nortal.game.poker.ui.ConsoleUI;
 import com.nortal.game.poker.ui.UI;
 
@@ -17,6 +18,16 @@ public class Poker {
   protected Player computer;
   protected UI userInterface;
 
+  public Poker() {
+  }
+
+  public Poker(Board board, UI userInterface, Player human, Player computer) {
+    this.board = board;
+    this.userInterface = userInterface;
+    this.human = human;
+    this.computer = computer;
+  }
+
   public static void main(String[] args) {
     Poker poker = new Poker();
     poker.init();
@@ -24,7 +35,7 @@ public class Poker {
   }
 
   private void init() {
-    board = new Board(new Deck(), new StandardPokerHandEvaluator());
+    board = new Board(new Deck(new SecureRandomSource()), new StandardPokerHandEvaluator());
     userInterface = new ConsoleUI();
 
     human = new Human("Human");
@@ -36,7 +47,7 @@ public class Poker {
         .addPlayer(computer);
   }
 
-  private void play() {
+  public void play() {
     while(board.everybodyHasChips()) {
       userInterface.newRound();
       board.deal();
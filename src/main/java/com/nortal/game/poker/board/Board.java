@@ -1,23 +1,30 @@
 package com.nortal.game.poker.board;
 
+import com.nortal.game.poker.hand.CompactHand;
 import com.nortal.game.poker.hand.Hand;
 import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.ledger.ChipAccount;
+import com.nortal.game.poker.ledger.ChipLedger;
+import com.nortal.game.poker.player.DecisionContext;
 import com.nortal.game.poker.player.Player;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class Board {
   public static final int MAX_PLAYERS_COUNT = 5;
   public static final int CARDS_PER_PLAYER = 5;
   private HandEvaluator handEvaluator;
-  private Deck deck;
+  protected Deck deck;
 
-  protected Map<Player, Integer> chipsOnBoard = new HashMap<>();
-  protected Map<Player, Hand> hands = new HashMap<>();
+  protected final Player[] players = new Player[MAX_PLAYERS_COUNT];
+  protected final ChipAccount[] accounts = new ChipAccount[MAX_PLAYERS_COUNT];
+  protected int playerCount = 0;
+  protected final int[] chipsOnBoard = new int[MAX_PLAYERS_COUNT];
+  protected final Hand[] hands = new Hand[MAX_PLAYERS_COUNT];
+  protected final long[] evaluations = new long[MAX_PLAYERS_COUNT];
+  protected final List<Player> playersWithBestHand = new ArrayList<>(MAX_PLAYERS_COUNT);
+  protected final BoardDecisionContext decisionContext = new BoardDecisionContext(this);
 
   public Board(Deck deck, HandEvaluator handEvaluator) {
     this.deck = deck;
@@ -25,15 +32,34 @@ public class Board {
   }
 
   public Board addPlayer(Player player) {
-    if (chipsOnBoard.size() + 1 > MAX_PLAYERS_COUNT) throw new RuntimeException("Too many players");
-    chipsOnBoard.put(player, 0);
-    hands.put(player, new Hand());
+    if (playerCount + 1 > MAX_PLAYERS_COUNT) throw new RuntimeException("Too many players");
+    players[playerCount] = player;
+    accounts[playerCount] = player.getAccount();
+    chipsOnBoard[playerCount] = 0;
+    hands[playerCount] = new Hand();
+    hands[playerCount].ensureCapacity(CARDS_PER_PLAYER);
+    playerCount++;
     return this;
   }
 
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  public Player getPlayer(int playerIndex) {
+    return players[playerIndex];
+  }
+
+  public int indexOf(Player player) {
+    for (int i = 0; i < playerCount; i++) {
+      if (players[i] == player) return i;
+    }
+    return -1;
+  }
+
   public boolean everybodyHasChips() {
-    for (Player player : chipsOnBoard.keySet()) {
-      if (!player.hasChips()) return false;
+    for (int i = 0; i < playerCount; i++) {
+      if (!players[i].hasChips()) return false;
     }
     return true;
   }
@@ -45,41 +71,78 @@ public class Board {
     takeChipsFromEveryPlayer(1);
   }
 
+  public void deal(long round) {
+    collectCardsFromPlayers();
+    shuffleCards(round);
+    dealCards();
+    takeChipsFromEveryPlayer(1);
+  }
+
   protected void shuffleCards() {
     deck.shuffle();
   }
 
+  protected void shuffleCards(long round) {
+    deck.shuffle(round);
+  }
+
   protected void collectCardsFromPlayers() {
-    for (Player player : hands.keySet()) {
-      hands.get(player).clear();
+    for (int i = 0; i < playerCount; i++) {
+      hands[i].clear();
     }
     deck.collectCards();
   }
 
   protected void dealCards() {
     for (int card = 0; card < CARDS_PER_PLAYER; card++) {
-      for (Player player : hands.keySet()) {
-        hands.get(player).add(deck.getNextCard());
+      for (int i = 0; i < playerCount; i++) {
+        hands[i].add(deck.getNextCard());
+      }
+    }
+  }
+
+  public void dealCards(CompactHand[] compactHands) {
+    for (CompactHand compactHand : compactHands) {
+      compactHand.clear();
+    }
+    for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+      for (CompactHand compactHand : compactHands) {
+        compactHand.add(deck.getNextCardIndex());
       }
     }
   }
 
   protected void takeChipsFromEveryPlayer(int chipCount) {
-    for (Player player : chipsOnBoard.keySet()) {
-      player.takeChips(chipCount);
-      chipsOnBoard.put(player, chipsOnBoard.get(player) + chipCount);
+    ChipLedger.debitAll(accounts, playerCount, chipCount);
+    for (int i = 0; i < playerCount; i++) {
+      chipsOnBoard[i] += chipCount;
     }
   }
 
   public Hand getPlayerHand(Player player) {
-    return hands.get(player);
+    int playerIndex = indexOf(player);
+    return playerIndex < 0 ? null : hands[playerIndex];
+  }
+
+  public DecisionContext getDecisionContext(Player player, long budgetNanos) {
+    int playerIndex = indexOf(player);
+    if (playerIndex < 0) throw new RuntimeException("Player is not on the board: " + player.getName());
+    return decisionContext.reset(playerIndex, budgetNanos);
+  }
+
+  public int getPot() {
+    int pot = 0;
+    for (int i = 0; i < playerCount; i++) {
+      pot += chipsOnBoard[i];
+    }
+    return pot;
   }
 
   public int getMaxPossibleBid() {
     int maxPossibleBid = Integer.MAX_VALUE;
-    for (Player player : chipsOnBoard.keySet()) {
-      if (player.chipCount() < maxPossibleBid) {
-        maxPossibleBid = player.chipCount();
+    for (int i = 0; i < playerCount; i++) {
+      if (players[i].chipCount() < maxPossibleBid) {
+        maxPossibleBid = players[i].chipCount();
       }
     }
     return maxPossibleBid;
@@ -91,32 +154,36 @@ public class Board {
   }
 
   public List<Player> findPlayersWithBestHand() {
-    Map<Player, Long> evaluations = getPlayersHandEvaluations();
-    Long maxValue = evaluations.values().stream().max(Comparator.<Long>naturalOrder()).get();
-    return evaluations.keySet().stream()
-        .filter(player -> evaluations.get(player).equals(maxValue))
-        .collect(Collectors.toList());
+    long[] evaluations = getPlayersHandEvaluations();
+    long maxValue = Long.MIN_VALUE;
+    for (int i = 0; i < playerCount; i++) {
+      if (evaluations[i] > maxValue) maxValue = evaluations[i];
+    }
+    playersWithBestHand.clear();
+    for (int i = 0; i < playerCount; i++) {
+      if (evaluations[i] == maxValue) playersWithBestHand.add(players[i]);
+    }
+    return playersWithBestHand;
   }
 
-  protected Map<Player, Long> getPlayersHandEvaluations() {
-    Map<Player, Long> evaluations = new HashMap<>();
-    for (Player player : hands.keySet()) {
-      evaluations.put(player, handEvaluator.evaluate(hands.get(player)));
+  protected long[] getPlayersHandEvaluations() {
+    for (int i = 0; i < playerCount; i++) {
+      evaluations[i] = handEvaluator.evaluate(hands[i]);
     }
     return evaluations;
   }
 
   public void giveChipsOnBoardToPlayer(Player newChipOwner) {
-    for (Player player : chipsOnBoard.keySet()) {
-      newChipOwner.addChips(chipsOnBoard.get(player));
-      chipsOnBoard.put(player, 0);
+    for (int i = 0; i < playerCount; i++) {
+      newChipOwner.addChips(chipsOnBoard[i]);
+      chipsOnBoard[i] = 0;
     }
   }
 
   public void giveChipsBackToPlayers() {
-    for (Player player : chipsOnBoard.keySet()) {
-      player.addChips(chipsOnBoard.get(player));
-      chipsOnBoard.put(player, 0);
+    for (int i = 0; i < playerCount; i++) {
+      players[i].addChips(chipsOnBoard[i]);
+      chipsOnBoard[i] = 0;
     }
   }
 }
@@ -0,0 +1,104 @@
+package com.nortal.game.poker.board;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.player.DecisionContext;
+
+public class BoardDecisionContext implements DecisionContext {
+  public static final int SAFETY_MARGIN_DIVISOR = 4;
+
+  protected final Board board;
+  protected final int[] cards = new int[Board.CARDS_PER_PLAYER];
+  protected int cardCount;
+  protected long cardMask;
+  protected int seat;
+  protected long deadlineNanos;
+  protected long hardDeadlineNanos;
+
+  public BoardDecisionContext(Board board) {
+    this.board = board;
+  }
+
+  protected BoardDecisionContext reset(int seat, long budgetNanos) {
+    Hand hand = board.hands[seat];
+    this.seat = seat;
+    cardCount = hand.size();
+    cardMask = 0;
+    for (int i = 0; i < cardCount; i++) {
+      cards[i] = CardIndex.of(hand.get(i));
+      cardMask |= CardIndex.mask(cards[i]);
+    }
+    long now = System.nanoTime();
+    hardDeadlineNanos = now + budgetNanos;
+    deadlineNanos = now + (budgetNanos - budgetNanos / SAFETY_MARGIN_DIVISOR);
+    return this;
+  }
+
+  @Override
+  public int getCardCount() {
+    return cardCount;
+  }
+
+  @Override
+  public int getCard(int position) {
+    if (position >= cardCount) throw new RuntimeException("No card at position: " + position);
+    return cards[position];
+  }
+
+  @Override
+  public long getCardMask() {
+    return cardMask;
+  }
+
+  @Override
+  public Hand copyHand(Hand target) {
+    target.clear();
+    for (int i = 0; i < cardCount; i++) {
+      Card card = CardIndex.toCard(cards[i]);
+      target.add(card);
+    }
+    return target;
+  }
+
+  @Override
+  public int getSeat() {
+    return seat;
+  }
+
+  @Override
+  public int getPlayerCount() {
+    return board.playerCount;
+  }
+
+  @Override
+  public int getChips() {
+    return board.players[seat].chipCount();
+  }
+
+  @Override
+  public int getChipsOnBoard(int seat) {
+    if (seat >= board.playerCount) throw new RuntimeException("No player at seat: " + seat);
+    return board.chipsOnBoard[seat];
+  }
+
+  @Override
+  public int getPot() {
+    return board.getPot();
+  }
+
+  @Override
+  public int getMaxPossibleBid() {
+    return board.getMaxPossibleBid();
+  }
+
+  @Override
+  public long getDeadlineNanos() {
+    return deadlineNanos;
+  }
+
+  @Override
+  public long getHardDeadlineNanos() {
+    return hardDeadlineNanos;
+  }
+}
@@ -0,0 +1,61 @@
+package com.nortal.game.poker.board;
+
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.random.CounterRandomSource;
+
+import static com.nortal.game.poker.board.Board.CARDS_PER_PLAYER;
+
+public class DealGenerator {
+  protected final Deck deck;
+
+  public DealGenerator(long seed) {
+    deck = new Deck(new CounterRandomSource(seed));
+  }
+
+  public static void main(String[] args) {
+    if (args.length != 3) {
+      System.out.println("Usage: DealGenerator <seed> <round> <player count>");
+      return;
+    }
+    DealGenerator dealGenerator = new DealGenerator(Long.parseLong(args[0]));
+    CompactHand[] hands = new CompactHand[Integer.parseInt(args[2])];
+    for (int i = 0; i < hands.length; i++) {
+      hands[i] = new CompactHand();
+    }
+    dealGenerator.deal(Long.parseLong(args[1]), hands);
+    for (int i = 0; i < hands.length; i++) {
+      System.out.println("Player " + i + ": " + hands[i]);
+    }
+  }
+
+  public void deckOrder(long round, int[] cardIndexes) {
+    deck.collectCards();
+    deck.shuffle(round);
+    for (int i = 0; i < Deck.CARDS_IN_DECK; i++) {
+      cardIndexes[i] = deck.getNextCardIndex();
+    }
+  }
+
+  public void deal(long round, CompactHand[] hands) {
+    deck.collectCards();
+    deck.shuffle(round);
+    for (CompactHand hand : hands) {
+      hand.clear();
+    }
+    for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+      for (CompactHand hand : hands) {
+        hand.add(deck.getNextCardIndex());
+      }
+    }
+  }
+
+  public void deal(long round, int[] cards, int offset, int playerCount) {
+    deck.collectCards();
+    deck.shuffle(round);
+    for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+      for (int player = 0; player < playerCount; player++) {
+        cards[offset + player * CARDS_PER_PLAYER + card] = deck.getNextCardIndex();
+      }
+    }
+  }
+}
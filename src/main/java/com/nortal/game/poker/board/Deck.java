@@ -1,8 +1,12 @@
 package com.nortal.game.poker.board;
 
 import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
 import com.nortal.game.poker.card.Rank;
 import com.nortal.game.poker.card.Suit;
+import com.nortal.game.poker.random.RandomSource;
+import com.nortal.game.poker.random.SeekableRandomSource;
+import com.nortal.game.poker.random.SplittableRandomSource;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -11,9 +15,22 @@ import java.util.List;
 public class Deck {
   public static final int CARDS_IN_DECK = 52;
   protected List<Card> cards = new ArrayList<>(CARDS_IN_DECK);
+  protected final Card[] orderedCards = new Card[CARDS_IN_DECK];
   protected int cardsShared = 0;
+  protected RandomSource random;
+  protected boolean lazyShuffle;
 
   public Deck() {
+    this(new SplittableRandomSource());
+  }
+
+  public Deck(RandomSource random) {
+    this(random, false);
+  }
+
+  public Deck(RandomSource random, boolean lazyShuffle) {
+    this.random = random;
+    this.lazyShuffle = lazyShuffle;
     createDeck();
   }
 
@@ -23,17 +40,49 @@ public class Deck {
         cards.add(new Card(rank, suit));
       }
     }
+    cards.toArray(orderedCards);
   }
 
   public void shuffle() {
-    Collections.shuffle(cards);
+    if (lazyShuffle) return;
+    for (int i = cards.size() - 1; i > 0; i--) {
+      Collections.swap(cards, i, random.nextInt(i + 1));
+    }
+  }
+
+  public void shuffle(long round) {
+    if (!isSeekable()) throw new RuntimeException("Round shuffle needs a seekable random source: " + random.getClass().getSimpleName());
+    restoreOrder();
+    ((SeekableRandomSource) random).seek(round);
+    shuffle();
+  }
+
+  public boolean isSeekable() {
+    return random instanceof SeekableRandomSource;
+  }
+
+  protected void restoreOrder() {
+    for (int i = 0; i < CARDS_IN_DECK; i++) {
+      cards.set(i, orderedCards[i]);
+    }
   }
 
   public Card getNextCard() {
+    if (lazyShuffle) {
+      Collections.swap(cards, cardsShared, cardsShared + random.nextInt(cards.size() - cardsShared));
+    }
     cardsShared++;
     return cards.get(cardsShared-1);
   }
 
+  public int getNextCardIndex() {
+    return CardIndex.of(getNextCard());
+  }
+
+  public int getCardsShared() {
+    return cardsShared;
+  }
+
   public void collectCards() {
     cardsShared = 0;
   }
@@ -0,0 +1,52 @@
+package com.nortal.game.poker.card;
+
+public final class CardIndex {
+  public static final int RANK_COUNT = Rank.values().length;
+  public static final int SUIT_COUNT = Suit.values().length;
+  public static final int CARD_COUNT = RANK_COUNT * SUIT_COUNT;
+
+  private static final Rank[] RANKS = Rank.values();
+  private static final Suit[] SUITS = Suit.values();
+  private static final Card[] CARDS = new Card[CARD_COUNT];
+
+  static {
+    for (int index = 0; index < CARD_COUNT; index++) {
+      CARDS[index] = new Card(RANKS[rankOrdinal(index)], SUITS[suitOrdinal(index)]);
+    }
+  }
+
+  private CardIndex() {
+  }
+
+  public static int of(Rank rank, Suit suit) {
+    return suit.ordinal() * RANK_COUNT + rank.ordinal();
+  }
+
+  public static int of(Card card) {
+    return of(card.getRank(), card.getSuit());
+  }
+
+  public static int rankOrdinal(int cardIndex) {
+    return cardIndex % RANK_COUNT;
+  }
+
+  public static int suitOrdinal(int cardIndex) {
+    return cardIndex / RANK_COUNT;
+  }
+
+  public static Rank rank(int cardIndex) {
+    return RANKS[rankOrdinal(cardIndex)];
+  }
+
+  public static Suit suit(int cardIndex) {
+    return SUITS[suitOrdinal(cardIndex)];
+  }
+
+  public static long mask(int cardIndex) {
+    return 1L << cardIndex;
+  }
+
+  public static Card toCard(int cardIndex) {
+    return CARDS[cardIndex];
+  }
+}
@@ -0,0 +1,117 @@
+package com.nortal.game.poker.card;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class SuitIsomorphism {
+  public static final int HAND_SIZE = 5;
+  public static final int CLASS_COUNT = 134459;
+  protected static final long SUIT_MASK = (1L << CardIndex.RANK_COUNT) - 1;
+
+  private static final long[] CANONICAL_MASKS = new long[CLASS_COUNT];
+  private static final long[] SLOT_MASKS = new long[1 << 18];
+  private static final int[] SLOT_CLASSES = new int[SLOT_MASKS.length];
+  private static final int SLOT_MASK = SLOT_MASKS.length - 1;
+
+  static {
+    int[][] suitMasksByCardCount = new int[HAND_SIZE + 1][];
+    for (int cardCount = 0; cardCount <= HAND_SIZE; cardCount++) {
+      int masks = 0;
+      int[] suitMasks = new int[1 << CardIndex.RANK_COUNT];
+      for (int mask = 0; mask < suitMasks.length; mask++) {
+        if (Integer.bitCount(mask) == cardCount) suitMasks[masks++] = mask;
+      }
+      suitMasksByCardCount[cardCount] = Arrays.copyOf(suitMasks, masks);
+    }
+    int classCount = fill(suitMasksByCardCount, 0, (int) SUIT_MASK, HAND_SIZE, 0, 0);
+    if (classCount != CLASS_COUNT) throw new RuntimeException("Expected " + CLASS_COUNT + " classes: " + classCount);
+    Arrays.sort(CANONICAL_MASKS);
+    for (int classIndex = 0; classIndex < CLASS_COUNT; classIndex++) {
+      int slot = slot(CANONICAL_MASKS[classIndex]);
+      while (SLOT_MASKS[slot] != 0) slot = (slot + 1) & SLOT_MASK;
+      SLOT_MASKS[slot] = CANONICAL_MASKS[classIndex];
+      SLOT_CLASSES[slot] = classIndex;
+    }
+  }
+
+  private SuitIsomorphism() {
+  }
+
+  public static long canonicalMask(long mask) {
+    long suit0 = mask & SUIT_MASK;
+    long suit1 = (mask >>> CardIndex.RANK_COUNT) & SUIT_MASK;
+    long suit2 = (mask >>> (2 * CardIndex.RANK_COUNT)) & SUIT_MASK;
+    long suit3 = (mask >>> (3 * CardIndex.RANK_COUNT)) & SUIT_MASK;
+    long swap;
+    if (suit0 < suit1) { swap = suit0; suit0 = suit1; suit1 = swap; }
+    if (suit2 < suit3) { swap = suit2; suit2 = suit3; suit3 = swap; }
+    if (suit0 < suit2) { swap = suit0; suit0 = suit2; suit2 = swap; }
+    if (suit1 < suit3) { swap = suit1; suit1 = suit3; suit3 = swap; }
+    if (suit1 < suit2) { swap = suit1; suit1 = suit2; suit2 = swap; }
+    return suit0
+        | (suit1 << CardIndex.RANK_COUNT)
+        | (suit2 << (2 * CardIndex.RANK_COUNT))
+        | (suit3 << (3 * CardIndex.RANK_COUNT));
+  }
+
+  public static int classIndex(long mask) {
+    if (Long.bitCount(mask) != HAND_SIZE || (mask >>> CardIndex.CARD_COUNT) != 0) {
+      throw new RuntimeException("Not a " + HAND_SIZE + " card hand: " + Long.toHexString(mask));
+    }
+    long canonicalMask = canonicalMask(mask);
+    int slot = slot(canonicalMask);
+    while (SLOT_MASKS[slot] != canonicalMask) slot = (slot + 1) & SLOT_MASK;
+    return SLOT_CLASSES[slot];
+  }
+
+  public static int classIndex(int[] cards, int offset) {
+    return classIndex(handMask(cards, offset));
+  }
+
+  public static int classIndex(List<Card> cards) {
+    return classIndex(handMask(cards));
+  }
+
+  public static long handMask(int[] cards, int offset) {
+    long mask = 0;
+    for (int i = offset; i < offset + HAND_SIZE; i++) {
+      mask |= CardIndex.mask(cards[i]);
+    }
+    return mask;
+  }
+
+  public static long handMask(List<Card> cards) {
+    long mask = 0;
+    for (int i = 0; i < cards.size(); i++) {
+      mask |= CardIndex.mask(CardIndex.of(cards.get(i)));
+    }
+    return mask;
+  }
+
+  public static long representative(int classIndex) {
+    return CANONICAL_MASKS[classIndex];
+  }
+
+  private static int fill(int[][] suitMasksByCardCount, int suit, int maxSuitMask, int remainingCards, long mask,
+                          int classCount) {
+    if (suit == CardIndex.SUIT_COUNT - 1) {
+      for (int suitMask : suitMasksByCardCount[remainingCards]) {
+        if (suitMask > maxSuitMask) break;
+        CANONICAL_MASKS[classCount++] = mask | ((long) suitMask << (suit * CardIndex.RANK_COUNT));
+      }
+      return classCount;
+    }
+    for (int cardCount = 0; cardCount <= remainingCards; cardCount++) {
+      for (int suitMask : suitMasksByCardCount[cardCount]) {
+        if (suitMask > maxSuitMask) break;
+        classCount = fill(suitMasksByCardCount, suit + 1, suitMask, remainingCards - cardCount,
+            mask | ((long) suitMask << (suit * CardIndex.RANK_COUNT)), classCount);
+      }
+    }
+    return classCount;
+  }
+
+  private static int slot(long canonicalMask) {
+    return (int) ((canonicalMask * 0x9E3779B97F4A7C15L) >>> 46) & SLOT_MASK;
+  }
+}
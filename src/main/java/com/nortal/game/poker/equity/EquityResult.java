@@ -0,0 +1,56 @@
+package com.nortal.game.poker.equity;
+
+public class EquityResult {
+  protected final long samples;
+  protected final long[] wins;
+  protected final long[] ties;
+
+  public EquityResult(long samples, long[] wins, long[] ties) {
+    this.samples = samples;
+    this.wins = wins;
+    this.ties = ties;
+  }
+
+  public long getSamples() {
+    return samples;
+  }
+
+  public int getPlayerCount() {
+    return wins.length;
+  }
+
+  public long getWins(int player) {
+    return wins[player];
+  }
+
+  public long getTies(int player) {
+    return ties[player];
+  }
+
+  public long getLosses(int player) {
+    return samples - wins[player] - ties[player];
+  }
+
+  public double getWinProbability(int player) {
+    return samples == 0 ? 0 : (double) wins[player] / samples;
+  }
+
+  public double getTieProbability(int player) {
+    return samples == 0 ? 0 : (double) ties[player] / samples;
+  }
+
+  public double getStandardError(int player) {
+    if (samples == 0) return Double.POSITIVE_INFINITY;
+    double winProbability = getWinProbability(player);
+    return Math.sqrt(winProbability * (1 - winProbability) / samples);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Samples: " + samples);
+    for (int player = 0; player < wins.length; player++) {
+      result.append(String.format(", player %d: win %.4f tie %.4f", player, getWinProbability(player), getTieProbability(player)));
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,177 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ExactEquityEnumerator {
+  protected final HandEvaluator handEvaluator;
+  protected final ExecutorService executor;
+  protected final int workerCount;
+
+  public ExactEquityEnumerator(HandEvaluator handEvaluator) {
+    this(handEvaluator, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+  }
+
+  public ExactEquityEnumerator(HandEvaluator handEvaluator, ExecutorService executor, int workerCount) {
+    if (workerCount < 1) throw new RuntimeException("At least one worker is needed");
+    this.handEvaluator = handEvaluator;
+    this.executor = executor;
+    this.workerCount = workerCount;
+  }
+
+  public static long countOutcomes(int[][] knownCards) {
+    Showdown showdown = new Showdown(null, knownCards);
+    long outcomes = 1;
+    int available = showdown.getUnseenCards().length;
+    for (int player = 0; player < showdown.getPlayerCount(); player++) {
+      int missing = showdown.getMissingCardCount(player);
+      for (int i = 1; i <= missing; i++) {
+        outcomes = Math.multiplyExact(outcomes, available - missing + i) / i;
+      }
+      available -= missing;
+    }
+    return outcomes;
+  }
+
+  public EquityResult calculate(List<Hand> knownHands) {
+    return calculate(Showdown.toCardIndexes(knownHands));
+  }
+
+  public EquityResult calculate(int[][] knownCards) {
+    Showdown showdown = new Showdown(handEvaluator, knownCards);
+    List<Future<EquityResult>> results = new ArrayList<>();
+    for (int worker = 0; worker < workerCount; worker++) {
+      Enumeration enumeration = new Enumeration(worker == 0 ? showdown : showdown.copy(), worker, workerCount);
+      results.add(executor.submit(enumeration::run));
+    }
+
+    long outcomes = 0;
+    long[] wins = new long[showdown.getPlayerCount()];
+    long[] ties = new long[showdown.getPlayerCount()];
+    try {
+      for (Future<EquityResult> result : results) {
+        EquityResult workerResult = result.get();
+        outcomes += workerResult.getSamples();
+        for (int player = 0; player < wins.length; player++) {
+          wins[player] += workerResult.getWins(player);
+          ties[player] += workerResult.getTies(player);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Enumeration was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Enumeration failed", e.getCause());
+    }
+    return new EquityResult(outcomes, wins, ties);
+  }
+
+  protected static class Enumeration {
+    private final Showdown showdown;
+    private final int worker;
+    private final int workerCount;
+    private final int[] players;
+    private final int[][] availableCards;
+    private final int[][] slotOfCard;
+    private final RevolvingDoorCombinations[] combinations;
+    private final long[] wins;
+    private final long[] ties;
+    private long outcomes;
+
+    Enumeration(Showdown showdown, int worker, int workerCount) {
+      this.showdown = showdown;
+      this.worker = worker;
+      this.workerCount = workerCount;
+      wins = new long[showdown.getPlayerCount()];
+      ties = new long[showdown.getPlayerCount()];
+
+      int levels = 0;
+      for (int player = 0; player < showdown.getPlayerCount(); player++) {
+        if (showdown.getMissingCardCount(player) > 0) levels++;
+      }
+      players = new int[levels];
+      availableCards = new int[levels][];
+      slotOfCard = new int[levels][];
+      combinations = new RevolvingDoorCombinations[levels];
+
+      int level = 0;
+      int available = showdown.getUnseenCards().length;
+      for (int player = 0; player < showdown.getPlayerCount(); player++) {
+        int missing = showdown.getMissingCardCount(player);
+        if (missing == 0) continue;
+        players[level] = player;
+        availableCards[level] = new int[available];
+        slotOfCard[level] = new int[available];
+        combinations[level] = new RevolvingDoorCombinations(available, missing);
+        available -= missing;
+        level++;
+      }
+      if (levels > 0) System.arraycopy(showdown.getUnseenCards(), 0, availableCards[0], 0, availableCards[0].length);
+    }
+
+    EquityResult run() {
+      if (players.length == 0) {
+        if (worker == 0) recordOutcome();
+      } else {
+        enumerate(0);
+      }
+      return new EquityResult(outcomes, wins, ties);
+    }
+
+    private void enumerate(int level) {
+      RevolvingDoorCombinations combination = combinations[level];
+      int[] cards = availableCards[level];
+      int[] slots = slotOfCard[level];
+      combination.reset();
+      for (int slot = 0; slot < combination.size(); slot++) {
+        slots[combination.get(slot)] = slot;
+        showdown.setMissingCard(players[level], slot, cards[combination.get(slot)]);
+      }
+
+      long index = 0;
+      do {
+        if (level > 0 || index % workerCount == worker) visit(level);
+        index++;
+        if (combination.next()) {
+          int slot = slots[combination.getRemoved()];
+          slots[combination.getAdded()] = slot;
+          showdown.setMissingCard(players[level], slot, cards[combination.getAdded()]);
+        } else {
+          break;
+        }
+      } while (true);
+    }
+
+    private void visit(int level) {
+      if (level == players.length - 1) {
+        recordOutcome();
+        return;
+      }
+      RevolvingDoorCombinations combination = combinations[level];
+      int[] cards = availableCards[level];
+      int[] nextCards = availableCards[level + 1];
+      int next = 0;
+      int chosen = 0;
+      for (int i = 0; i < cards.length; i++) {
+        if (chosen < combination.size() && combination.get(chosen) == i) {
+          chosen++;
+        } else {
+          nextCards[next++] = cards[i];
+        }
+      }
+      enumerate(level + 1);
+    }
+
+    private void recordOutcome() {
+      showdown.recordWinners(wins, ties);
+      outcomes++;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MonteCarloEquityCalculator {
+  public static final int BATCH_SIZE = 1024;
+  public static final long MIN_SAMPLES_FOR_CONVERGENCE = 10_000;
+  public static final double DEFAULT_TARGET_STANDARD_ERROR = 0.001;
+
+  protected final HandEvaluator handEvaluator;
+  protected final ExecutorService executor;
+  protected final int workerCount;
+  protected final double targetStandardError;
+  protected final SplittableRandom rootRandom;
+
+  public MonteCarloEquityCalculator(HandEvaluator handEvaluator) {
+    this(handEvaluator, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(),
+        DEFAULT_TARGET_STANDARD_ERROR, new SplittableRandom());
+  }
+
+  public MonteCarloEquityCalculator(HandEvaluator handEvaluator, ExecutorService executor, int workerCount,
+                                    double targetStandardError, SplittableRandom rootRandom) {
+    if (workerCount < 1) throw new RuntimeException("At least one worker is needed");
+    this.handEvaluator = handEvaluator;
+    this.executor = executor;
+    this.workerCount = workerCount;
+    this.targetStandardError = targetStandardError;
+    this.rootRandom = rootRandom;
+  }
+
+  public EquityResult calculate(List<Hand> knownHands, long maxSamples, long timeBudgetMillis) {
+    return calculate(Showdown.toCardIndexes(knownHands), maxSamples, timeBudgetMillis);
+  }
+
+  public EquityResult calculate(int[][] knownCards, long maxSamples, long timeBudgetMillis) {
+    Showdown showdown = new Showdown(handEvaluator, knownCards);
+    Progress progress = new Progress(showdown.getPlayerCount(), maxSamples, TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+
+    List<Future<?>> results = new ArrayList<>();
+    for (int worker = 0; worker < workerCount; worker++) {
+      Showdown workerShowdown = worker == 0 ? showdown : showdown.copy();
+      SplittableRandom random = splitRandom();
+      results.add(executor.submit(() -> sample(workerShowdown, random, progress)));
+    }
+    try {
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      progress.stop();
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Equity calculation was interrupted", e);
+    } catch (ExecutionException e) {
+      progress.stop();
+      throw new RuntimeException("Equity calculation failed", e.getCause());
+    }
+    return progress.toResult();
+  }
+
+  protected void sample(Showdown showdown, SplittableRandom random, Progress progress) {
+    int[] cards = showdown.getUnseenCards().clone();
+    int missingCardCount = showdown.getMissingCardCount();
+    long[] wins = new long[showdown.getPlayerCount()];
+    long[] ties = new long[showdown.getPlayerCount()];
+
+    int batchSize;
+    while ((batchSize = progress.claimBatch()) > 0) {
+      for (int sample = 0; sample < batchSize; sample++) {
+        for (int i = 0; i < missingCardCount; i++) {
+          int j = i + random.nextInt(cards.length - i);
+          int card = cards[j];
+          cards[j] = cards[i];
+          cards[i] = card;
+        }
+        showdown.fillMissingCards(cards);
+        showdown.recordWinners(wins, ties);
+      }
+      progress.add(batchSize, wins, ties);
+      if (progress.isFinished(targetStandardError)) progress.stop();
+    }
+  }
+
+  private synchronized SplittableRandom splitRandom() {
+    return rootRandom.split();
+  }
+
+  protected static class Progress {
+    private final long maxSamples;
+    private final long startNanos = System.nanoTime();
+    private final long timeBudgetNanos;
+    private final AtomicLong claimedSamples = new AtomicLong();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder[] wins;
+    private final LongAdder[] ties;
+    private volatile boolean stopped = false;
+
+    Progress(int playerCount, long maxSamples, long timeBudgetNanos) {
+      this.maxSamples = maxSamples;
+      this.timeBudgetNanos = timeBudgetNanos;
+      wins = new LongAdder[playerCount];
+      ties = new LongAdder[playerCount];
+      for (int player = 0; player < playerCount; player++) {
+        wins[player] = new LongAdder();
+        ties[player] = new LongAdder();
+      }
+    }
+
+    int claimBatch() {
+      if (stopped) return 0;
+      long claimed = claimedSamples.getAndAdd(BATCH_SIZE);
+      return (int) Math.max(0, Math.min(BATCH_SIZE, maxSamples - claimed));
+    }
+
+    void add(int batchSize, long[] batchWins, long[] batchTies) {
+      samples.add(batchSize);
+      for (int player = 0; player < wins.length; player++) {
+        wins[player].add(batchWins[player]);
+        ties[player].add(batchTies[player]);
+        batchWins[player] = 0;
+        batchTies[player] = 0;
+      }
+    }
+
+    boolean isFinished(double targetStandardError) {
+      if (System.nanoTime() - startNanos >= timeBudgetNanos) return true;
+      long sampleCount = samples.sum();
+      if (sampleCount < MIN_SAMPLES_FOR_CONVERGENCE) return false;
+      for (LongAdder playerWins : wins) {
+        double winProbability = (double) playerWins.sum() / sampleCount;
+        if (Math.sqrt(winProbability * (1 - winProbability) / sampleCount) > targetStandardError) return false;
+      }
+      return true;
+    }
+
+    void stop() {
+      stopped = true;
+    }
+
+    EquityResult toResult() {
+      long[] winCounts = new long[wins.length];
+      long[] tieCounts = new long[ties.length];
+      for (int player = 0; player < wins.length; player++) {
+        winCounts[player] = wins[player].sum();
+        tieCounts[player] = ties[player].sum();
+      }
+      return new EquityResult(samples.sum(), winCounts, tieCounts);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.nortal.game.poker.equity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OpeningHandStrength {
+  public static final int MAGIC = 0x4F485331;
+  public static final int VERSION = 1;
+  public static final int HEADER_SIZE = 16;
+  public static final int MAX_OPPONENTS = 4;
+  public static final String RESOURCE = "opening-hand-strength.bin";
+  protected static final int PROBABILITY_SCALE = 0xFFFF;
+
+  protected final ByteBuffer buffer;
+  protected final int classCount;
+  protected final int maxOpponents;
+  protected final int probabilityOffset;
+  protected final int[] slots;
+  protected final int slotMask;
+
+  private static class DefaultHolder {
+    static final OpeningHandStrength INSTANCE = loadResource();
+  }
+
+  protected OpeningHandStrength(ByteBuffer buffer) {
+    this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) throw new RuntimeException("Not an opening hand strength table");
+    if (buffer.getInt(4) != VERSION) throw new RuntimeException("Unsupported opening hand strength version: " + buffer.getInt(4));
+    classCount = buffer.getInt(8);
+    maxOpponents = buffer.getInt(12);
+    probabilityOffset = HEADER_SIZE + classCount * Integer.BYTES;
+    if (buffer.capacity() != fileSize(classCount, maxOpponents)) throw new RuntimeException("Opening hand strength table is truncated");
+
+    slots = new int[Integer.highestOneBit(Math.max(1, classCount)) << 2];
+    slotMask = slots.length - 1;
+    for (int classIndex = 0; classIndex < classCount; classIndex++) {
+      int slot = slot(getScore(classIndex));
+      while (slots[slot] != 0) slot = (slot + 1) & slotMask;
+      slots[slot] = classIndex + 1;
+    }
+  }
+
+  public static OpeningHandStrength getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  public static OpeningHandStrength load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new OpeningHandStrength(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public static OpeningHandStrength load(InputStream input) throws IOException {
+    return new OpeningHandStrength(ByteBuffer.wrap(input.readAllBytes()));
+  }
+
+  protected static OpeningHandStrength loadResource() {
+    try (InputStream input = OpeningHandStrength.class.getResourceAsStream(RESOURCE)) {
+      if (input == null) throw new RuntimeException("Missing resource: " + RESOURCE);
+      return load(input);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not load opening hand strength table", e);
+    }
+  }
+
+  public static ByteBuffer encode(long[] scores, double[][] winProbabilities) {
+    int maxOpponents = winProbabilities.length;
+    ByteBuffer buffer = ByteBuffer.allocate(fileSize(scores.length, maxOpponents)).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(scores.length).putInt(maxOpponents);
+    for (long score : scores) {
+      if (score < 0 || score > Integer.MAX_VALUE) throw new RuntimeException("Score does not fit the table: " + score);
+      buffer.putInt((int) score);
+    }
+    for (int classIndex = 0; classIndex < scores.length; classIndex++) {
+      for (int opponents = 1; opponents <= maxOpponents; opponents++) {
+        double probability = winProbabilities[opponents - 1][classIndex];
+        buffer.putShort((short) Math.round(Math.max(0, Math.min(1, probability)) * PROBABILITY_SCALE));
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  protected static int fileSize(int classCount, int maxOpponents) {
+    return HEADER_SIZE + classCount * Integer.BYTES + classCount * maxOpponents * Short.BYTES;
+  }
+
+  public int getClassCount() {
+    return classCount;
+  }
+
+  public int getMaxOpponents() {
+    return maxOpponents;
+  }
+
+  public long getScore(int classIndex) {
+    return buffer.getInt(HEADER_SIZE + classIndex * Integer.BYTES);
+  }
+
+  public int classIndex(long score) {
+    int slot = slot(score);
+    while (slots[slot] != 0) {
+      int classIndex = slots[slot] - 1;
+      if (getScore(classIndex) == score) return classIndex;
+      slot = (slot + 1) & slotMask;
+    }
+    return -1;
+  }
+
+  public double getWinProbability(long score, int opponents) {
+    int classIndex = classIndex(score);
+    if (classIndex < 0) throw new RuntimeException("Unknown hand score: " + score);
+    return getClassWinProbability(classIndex, opponents);
+  }
+
+  public double getClassWinProbability(int classIndex, int opponents) {
+    if (opponents < 1 || opponents > maxOpponents) throw new RuntimeException("Opponent count must be 1-" + maxOpponents);
+    int offset = probabilityOffset + (classIndex * maxOpponents + opponents - 1) * Short.BYTES;
+    return (double) (buffer.getShort(offset) & 0xFFFF) / PROBABILITY_SCALE;
+  }
+
+  private int slot(long score) {
+    return (int) ((score * 0x9E3779B97F4A7C15L) >>> 40) & slotMask;
+  }
+}
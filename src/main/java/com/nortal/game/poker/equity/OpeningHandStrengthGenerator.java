@@ -0,0 +1,140 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.random.CounterRandomSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.nortal.game.poker.equity.OpeningHandStrength.MAX_OPPONENTS;
+
+public class OpeningHandStrengthGenerator {
+  public static final String DEFAULT_OUTPUT = "src/main/resources/com/nortal/game/poker/equity/" + OpeningHandStrength.RESOURCE;
+  protected static final int REPRESENTATIVES_PER_CLASS = 16;
+  protected static final int CARDS = CompactHand.MAX_CARDS;
+
+  protected final HandEvaluator handEvaluator;
+  protected final int samplesPerClass;
+  protected final long seed;
+
+  public OpeningHandStrengthGenerator(HandEvaluator handEvaluator, int samplesPerClass, long seed) {
+    if (samplesPerClass < 1) throw new RuntimeException("At least one sample is needed");
+    this.handEvaluator = handEvaluator;
+    this.samplesPerClass = samplesPerClass;
+    this.seed = seed;
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+    int samplesPerClass = args.length > 1 ? Integer.parseInt(args[1]) : 16384;
+    long start = System.nanoTime();
+    OpeningHandStrengthGenerator generator = new OpeningHandStrengthGenerator(new LookupTableHandEvaluator(), samplesPerClass, 42);
+    generator.write(output);
+    System.out.printf("Wrote %s (%d bytes) in %.1f s%n", output, Files.size(output), (System.nanoTime() - start) / 1e9);
+  }
+
+  public void write(Path output) throws IOException {
+    ByteBuffer table = generate();
+    if (output.getParent() != null) Files.createDirectories(output.getParent());
+    try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (table.hasRemaining()) {
+        channel.write(table);
+      }
+    }
+  }
+
+  public ByteBuffer generate() {
+    Map<Long, long[]> representatives = collectRepresentatives();
+    long[] scores = representatives.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    double[][] winProbabilities = new double[MAX_OPPONENTS][scores.length];
+    double[] shares = new double[MAX_OPPONENTS];
+    int[] unseenCards = new int[CardIndex.CARD_COUNT];
+    int[] opponentCards = new int[MAX_OPPONENTS * CARDS];
+    long[] opponentScores = new long[MAX_OPPONENTS];
+    CounterRandomSource random = new CounterRandomSource(seed);
+
+    for (int classIndex = 0; classIndex < scores.length; classIndex++) {
+      long[] classHands = representatives.get(scores[classIndex]);
+      int handCount = (int) classHands[REPRESENTATIVES_PER_CLASS];
+      random.seek(classIndex);
+      Arrays.fill(shares, 0);
+      for (int sample = 0; sample < samplesPerClass; sample++) {
+        long handMask = classHands[sample % handCount];
+        int unseenCount = 0;
+        for (int card = 0; card < CardIndex.CARD_COUNT; card++) {
+          if ((handMask & CardIndex.mask(card)) == 0) unseenCards[unseenCount++] = card;
+        }
+        for (int i = 0; i < opponentCards.length; i++) {
+          int j = i + random.nextInt(unseenCount - i);
+          opponentCards[i] = unseenCards[j];
+          unseenCards[j] = unseenCards[i];
+        }
+        handEvaluator.evaluateAll(opponentCards, opponentScores, MAX_OPPONENTS);
+        addShares(scores[classIndex], opponentScores, shares);
+      }
+      for (int opponents = 1; opponents <= MAX_OPPONENTS; opponents++) {
+        winProbabilities[opponents - 1][classIndex] = shares[opponents - 1] / samplesPerClass;
+      }
+    }
+    return OpeningHandStrength.encode(scores, winProbabilities);
+  }
+
+  protected static void addShares(long ownScore, long[] opponentScores, double[] shares) {
+    int tied = 1;
+    for (int opponents = 1; opponents <= MAX_OPPONENTS; opponents++) {
+      long opponentScore = opponentScores[opponents - 1];
+      if (opponentScore > ownScore) return;
+      if (opponentScore == ownScore) tied++;
+      shares[opponents - 1] += 1.0 / tied;
+    }
+  }
+
+  protected Map<Long, long[]> collectRepresentatives() {
+    Map<Long, long[]> representatives = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(seed);
+    CompactHand hand = new CompactHand();
+    int cardCount = CardIndex.CARD_COUNT;
+    for (int a = 0; a < cardCount; a++) {
+      for (int b = a + 1; b < cardCount; b++) {
+        for (int c = b + 1; c < cardCount; c++) {
+          for (int d = c + 1; d < cardCount; d++) {
+            for (int e = d + 1; e < cardCount; e++) {
+              hand.clear();
+              hand.add(a);
+              hand.add(b);
+              hand.add(c);
+              hand.add(d);
+              hand.add(e);
+              long[] classHands = representatives.computeIfAbsent(handEvaluator.evaluate(hand),
+                  score -> new long[REPRESENTATIVES_PER_CLASS + 1]);
+              long seen = ++classHands[REPRESENTATIVES_PER_CLASS];
+              if (seen <= REPRESENTATIVES_PER_CLASS) {
+                classHands[(int) seen - 1] = hand.mask();
+              } else {
+                long replaced = random.nextLong(seen);
+                if (replaced < REPRESENTATIVES_PER_CLASS) classHands[(int) replaced] = hand.mask();
+              }
+            }
+          }
+        }
+      }
+    }
+    for (long[] classHands : representatives.values()) {
+      classHands[REPRESENTATIVES_PER_CLASS] = Math.min(REPRESENTATIVES_PER_CLASS, classHands[REPRESENTATIVES_PER_CLASS]);
+    }
+    return representatives;
+  }
+}
@@ -0,0 +1,97 @@
+package com.nortal.game.poker.equity;
+
+public class RevolvingDoorCombinations {
+  protected final int n;
+  protected final int k;
+  protected final int[] c;
+  protected int removed = -1;
+  protected int added = -1;
+  protected boolean finished;
+
+  public RevolvingDoorCombinations(int n, int k) {
+    if (k < 0 || k > n) throw new RuntimeException("Cannot choose " + k + " elements out of " + n);
+    this.n = n;
+    this.k = k;
+    c = new int[k + 2];
+    reset();
+  }
+
+  public void reset() {
+    for (int j = 1; j <= k; j++) {
+      c[j] = j - 1;
+    }
+    c[k + 1] = n;
+    removed = -1;
+    added = -1;
+    finished = false;
+  }
+
+  public int size() {
+    return k;
+  }
+
+  public int get(int i) {
+    return c[i + 1];
+  }
+
+  public int getRemoved() {
+    return removed;
+  }
+
+  public int getAdded() {
+    return added;
+  }
+
+  public boolean next() {
+    if (finished || k == 0 || k == n) {
+      finished = true;
+      return false;
+    }
+
+    int j = 2;
+    boolean increase;
+    if ((k & 1) == 1) {
+      if (c[1] + 1 < c[2]) {
+        change(c[1], c[1] + 1);
+        c[1]++;
+        return true;
+      }
+      increase = false;
+    } else {
+      if (c[1] > 0) {
+        change(c[1], c[1] - 1);
+        c[1]--;
+        return true;
+      }
+      increase = true;
+    }
+
+    while (j <= k) {
+      if (!increase) {
+        if (c[j] >= j) {
+          change(c[j], j - 2);
+          c[j] = c[j - 1];
+          c[j - 1] = j - 2;
+          return true;
+        }
+        j++;
+        if (j > k) break;
+      }
+      if (c[j] + 1 < c[j + 1]) {
+        change(j - 2, c[j] + 1);
+        c[j - 1] = c[j];
+        c[j]++;
+        return true;
+      }
+      j++;
+      increase = false;
+    }
+    finished = true;
+    return false;
+  }
+
+  private void change(int removedElement, int addedElement) {
+    removed = removedElement;
+    added = addedElement;
+  }
+}
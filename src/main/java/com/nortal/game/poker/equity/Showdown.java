@@ -0,0 +1,114 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+import java.util.List;
+
+import static com.nortal.game.poker.board.Board.CARDS_PER_PLAYER;
+
+public class Showdown {
+  protected final HandEvaluator handEvaluator;
+  protected final int[][] knownCards;
+  protected final CompactHand[] hands;
+  protected final int[] unseenCards;
+  protected final int missingCardCount;
+  protected final long[] scores;
+
+  public Showdown(HandEvaluator handEvaluator, int[][] knownCards) {
+    if (knownCards.length < 2) throw new RuntimeException("At least two players are needed");
+    this.handEvaluator = handEvaluator;
+    this.knownCards = knownCards;
+    hands = new CompactHand[knownCards.length];
+    scores = new long[knownCards.length];
+
+    long knownMask = 0;
+    int missingCards = 0;
+    for (int player = 0; player < knownCards.length; player++) {
+      if (knownCards[player].length > CARDS_PER_PLAYER) throw new RuntimeException("Too many cards for player " + player);
+      hands[player] = new CompactHand();
+      for (int card : knownCards[player]) {
+        if (card < 0 || card >= CardIndex.CARD_COUNT) throw new RuntimeException("Unknown card: " + card);
+        if ((knownMask & CardIndex.mask(card)) != 0) throw new RuntimeException("Card is used twice: " + CardIndex.toCard(card));
+        knownMask |= CardIndex.mask(card);
+        hands[player].add(card);
+      }
+      for (int i = knownCards[player].length; i < CARDS_PER_PLAYER; i++) {
+        hands[player].add(0);
+        missingCards++;
+      }
+    }
+    missingCardCount = missingCards;
+
+    unseenCards = new int[CardIndex.CARD_COUNT - Long.bitCount(knownMask)];
+    int unseen = 0;
+    for (int card = 0; card < CardIndex.CARD_COUNT; card++) {
+      if ((knownMask & CardIndex.mask(card)) == 0) unseenCards[unseen++] = card;
+    }
+  }
+
+  public static int[][] toCardIndexes(List<Hand> knownHands) {
+    int[][] knownCards = new int[knownHands.size()][];
+    for (int player = 0; player < knownHands.size(); player++) {
+      Hand hand = knownHands.get(player);
+      knownCards[player] = new int[hand.size()];
+      for (int i = 0; i < hand.size(); i++) {
+        knownCards[player][i] = CardIndex.of(hand.get(i));
+      }
+    }
+    return knownCards;
+  }
+
+  public Showdown copy() {
+    return new Showdown(handEvaluator, knownCards);
+  }
+
+  public int getPlayerCount() {
+    return hands.length;
+  }
+
+  public int getMissingCardCount() {
+    return missingCardCount;
+  }
+
+  public int getMissingCardCount(int player) {
+    return CARDS_PER_PLAYER - knownCards[player].length;
+  }
+
+  public int[] getUnseenCards() {
+    return unseenCards;
+  }
+
+  public void setMissingCard(int player, int missingCard, int cardIndex) {
+    hands[player].set(knownCards[player].length + missingCard, cardIndex);
+  }
+
+  public void fillMissingCards(int[] cards) {
+    int next = 0;
+    for (int player = 0; player < hands.length; player++) {
+      for (int i = knownCards[player].length; i < CARDS_PER_PLAYER; i++) {
+        hands[player].set(i, cards[next++]);
+      }
+    }
+  }
+
+  public void recordWinners(long[] wins, long[] ties) {
+    long bestScore = Long.MIN_VALUE;
+    int bestHandCount = 0;
+    for (int player = 0; player < hands.length; player++) {
+      scores[player] = handEvaluator.evaluate(hands[player]);
+      if (scores[player] > bestScore) {
+        bestScore = scores[player];
+        bestHandCount = 1;
+      } else if (scores[player] == bestScore) {
+        bestHandCount++;
+      }
+    }
+    long[] outcomes = bestHandCount == 1 ? wins : ties;
+    for (int player = 0; player < hands.length; player++) {
+      if (scores[player] == bestScore) outcomes[player]++;
+    }
+  }
+}
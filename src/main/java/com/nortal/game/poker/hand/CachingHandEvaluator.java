@@ -0,0 +1,98 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.SuitIsomorphism;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CachingHandEvaluator implements HandEvaluator {
+  public static final int DEFAULT_CAPACITY = Integer.highestOneBit(SuitIsomorphism.CLASS_COUNT) << 1;
+  protected static final long VALUE_MASK = 0xFFFFFFFFL;
+
+  protected final HandEvaluator handEvaluator;
+  protected final AtomicLongArray entries;
+  protected final int slotMask;
+  protected final LongAdder hits = new LongAdder();
+  protected final LongAdder misses = new LongAdder();
+  protected final LongAdder evictions = new LongAdder();
+
+  public CachingHandEvaluator(HandEvaluator handEvaluator) {
+    this(handEvaluator, DEFAULT_CAPACITY);
+  }
+
+  public CachingHandEvaluator(HandEvaluator handEvaluator, int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) throw new RuntimeException("Invalid cache capacity: " + capacity);
+    this.handEvaluator = handEvaluator;
+    int slots = Integer.highestOneBit(capacity);
+    if (slots < capacity) slots <<= 1;
+    entries = new AtomicLongArray(slots);
+    slotMask = slots - 1;
+  }
+
+  @Override
+  public long evaluate(Hand hand) {
+    if (hand.size() != SuitIsomorphism.HAND_SIZE) return handEvaluator.evaluate(hand);
+    long mask = SuitIsomorphism.handMask(hand);
+    if (Long.bitCount(mask) != hand.size()) return handEvaluator.evaluate(hand);
+
+    int classIndex = SuitIsomorphism.classIndex(mask);
+    long entry = entries.get(slot(classIndex));
+    if (entryClass(entry) == classIndex) {
+      hits.increment();
+      return entry & VALUE_MASK;
+    }
+    return store(classIndex, handEvaluator.evaluate(hand));
+  }
+
+  @Override
+  public long evaluate(CompactHand hand) {
+    long mask = hand.mask();
+    if (hand.size() != SuitIsomorphism.HAND_SIZE || Long.bitCount(mask) != hand.size()) return handEvaluator.evaluate(hand);
+
+    int classIndex = SuitIsomorphism.classIndex(mask);
+    long entry = entries.get(slot(classIndex));
+    if (entryClass(entry) == classIndex) {
+      hits.increment();
+      return entry & VALUE_MASK;
+    }
+    return store(classIndex, handEvaluator.evaluate(hand));
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public int getCapacity() {
+    return entries.length();
+  }
+
+  public void clear() {
+    for (int slot = 0; slot < entries.length(); slot++) {
+      entries.set(slot, 0);
+    }
+  }
+
+  protected long store(int classIndex, long value) {
+    misses.increment();
+    if ((value & ~VALUE_MASK) != 0) return value;
+    long previous = entries.getAndSet(slot(classIndex), ((long) (classIndex + 1) << 32) | value);
+    if (previous != 0 && entryClass(previous) != classIndex) evictions.increment();
+    return value;
+  }
+
+  protected int slot(int classIndex) {
+    return classIndex & slotMask;
+  }
+
+  protected static int entryClass(long entry) {
+    return (int) (entry >>> 32) - 1;
+  }
+}
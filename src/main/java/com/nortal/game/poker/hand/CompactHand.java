@@ -0,0 +1,55 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.CardIndex;
+
+public class CompactHand {
+  public static final int MAX_CARDS = 5;
+  protected final int[] cards = new int[MAX_CARDS];
+  protected int size = 0;
+  protected long mask = 0;
+
+  public void add(int cardIndex) {
+    if (size == MAX_CARDS) throw new RuntimeException("Hand is full");
+    cards[size++] = cardIndex;
+    mask |= CardIndex.mask(cardIndex);
+  }
+
+  public void set(int position, int cardIndex) {
+    if (position >= size) throw new RuntimeException("No card at position: " + position);
+    cards[position] = cardIndex;
+    mask = 0;
+    for (int i = 0; i < size; i++) {
+      mask |= CardIndex.mask(cards[i]);
+    }
+  }
+
+  public int get(int position) {
+    return cards[position];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long mask() {
+    return mask;
+  }
+
+  public void clear() {
+    size = 0;
+    mask = 0;
+  }
+
+  public Hand toHand() {
+    Hand hand = new Hand();
+    for (int i = 0; i < size; i++) {
+      hand.add(CardIndex.toCard(cards[i]));
+    }
+    return hand;
+  }
+
+  @Override
+  public String toString() {
+    return toHand().toString();
+  }
+}
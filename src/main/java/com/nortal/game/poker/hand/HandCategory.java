@@ -0,0 +1,34 @@
+package com.nortal.game.poker.hand;
+
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.*;
+
+public enum HandCategory {
+  HIGH_CARD(HIGH_CARD_BASE),
+  ONE_PAIR(ONE_PAIR_BASE),
+  TWO_PAIRS(TWO_PAIRS_BASE),
+  THREE_OF_A_KIND(THREE_OF_A_KIND_BASE),
+  STRAIGHT(STRAIGHT_BASE),
+  FLUSH(FLUSH_BASE),
+  FULL_HOUSE(FULL_HOUSE_BASE),
+  FOUR_OF_A_KIND(FOUR_OF_A_KIND_BASE),
+  STRAIGHT_FLUSH(STRAIGHT_FLUSH_BASE);
+
+  private static final HandCategory[] CATEGORIES = values();
+
+  private final long base;
+
+  HandCategory(long base) {
+    this.base = base;
+  }
+
+  public long getBase() {
+    return base;
+  }
+
+  public static HandCategory of(long score) {
+    for (int i = CATEGORIES.length - 1; i > 0; i--) {
+      if (score > CATEGORIES[i].base) return CATEGORIES[i];
+    }
+    return HIGH_CARD;
+  }
+}
@@ -2,4 +2,25 @@ package com.nortal.game.poker.hand;
 
 public interface HandEvaluator {
   long evaluate(Hand hand);
+
+  default long evaluate(CompactHand hand) {
+    return evaluate(hand.toHand());
+  }
+
+  default void evaluateAll(int[] cards, long[] scores, int handCount) {
+    checkBatchSize(cards, scores, handCount);
+    CompactHand hand = new CompactHand();
+    for (int handIndex = 0; handIndex < handCount; handIndex++) {
+      hand.clear();
+      for (int card = 0; card < CompactHand.MAX_CARDS; card++) {
+        hand.add(cards[handIndex * CompactHand.MAX_CARDS + card]);
+      }
+      scores[handIndex] = evaluate(hand);
+    }
+  }
+
+  static void checkBatchSize(int[] cards, long[] scores, int handCount) {
+    if (cards.length < handCount * CompactHand.MAX_CARDS) throw new RuntimeException("Not enough cards for " + handCount + " hands");
+    if (scores.length < handCount) throw new RuntimeException("Not enough room for " + handCount + " scores");
+  }
 }
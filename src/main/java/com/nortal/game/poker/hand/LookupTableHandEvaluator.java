@@ -0,0 +1,173 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.card.Rank;
+import com.nortal.game.poker.card.Suit;
+
+public class LookupTableHandEvaluator implements HandEvaluator {
+  public static final int CARDS_IN_HAND = 5;
+  protected static final int RANK_COUNT = Rank.values().length;
+  protected static final int RANK_MULTISET_COUNT = 6188;
+
+  private static final int[][] BINOMIALS = createBinomials(RANK_COUNT + CARDS_IN_HAND, CARDS_IN_HAND);
+  private static final long[] FLUSH_VALUES = new long[1 << RANK_COUNT];
+  private static final long[] RANK_MULTISET_VALUES = new long[RANK_MULTISET_COUNT];
+  private static final int[] RANK_OF_CARD = new int[CardIndex.CARD_COUNT];
+  private static final int[] SUIT_OF_CARD = new int[CardIndex.CARD_COUNT];
+
+  static {
+    for (int card = 0; card < CardIndex.CARD_COUNT; card++) {
+      RANK_OF_CARD[card] = CardIndex.rankOrdinal(card);
+      SUIT_OF_CARD[card] = CardIndex.suitOrdinal(card);
+    }
+    fillTables(new StandardPokerHandEvaluator());
+  }
+
+  @Override
+  public long evaluate(Hand hand) {
+    if (hand.size() != CARDS_IN_HAND) return 0;
+    Card card0 = hand.get(0);
+    Card card1 = hand.get(1);
+    Card card2 = hand.get(2);
+    Card card3 = hand.get(3);
+    Card card4 = hand.get(4);
+
+    boolean isFlush = card0.getSuit() == card1.getSuit()
+        && card0.getSuit() == card2.getSuit()
+        && card0.getSuit() == card3.getSuit()
+        && card0.getSuit() == card4.getSuit();
+
+    return lookup(card0.getRank().ordinal(), card1.getRank().ordinal(), card2.getRank().ordinal(),
+        card3.getRank().ordinal(), card4.getRank().ordinal(), isFlush);
+  }
+
+  @Override
+  public long evaluate(CompactHand hand) {
+    if (hand.size() != CARDS_IN_HAND) return 0;
+    int card0 = hand.get(0);
+    int card1 = hand.get(1);
+    int card2 = hand.get(2);
+    int card3 = hand.get(3);
+    int card4 = hand.get(4);
+
+    int suit = CardIndex.suitOrdinal(card0);
+    boolean isFlush = suit == CardIndex.suitOrdinal(card1)
+        && suit == CardIndex.suitOrdinal(card2)
+        && suit == CardIndex.suitOrdinal(card3)
+        && suit == CardIndex.suitOrdinal(card4);
+
+    return lookup(CardIndex.rankOrdinal(card0), CardIndex.rankOrdinal(card1), CardIndex.rankOrdinal(card2),
+        CardIndex.rankOrdinal(card3), CardIndex.rankOrdinal(card4), isFlush);
+  }
+
+  @Override
+  public void evaluateAll(int[] cards, long[] scores, int handCount) {
+    HandEvaluator.checkBatchSize(cards, scores, handCount);
+    int card = 0;
+    for (int handIndex = 0; handIndex < handCount; handIndex++, card += CARDS_IN_HAND) {
+      int card0 = cards[card];
+      int card1 = cards[card + 1];
+      int card2 = cards[card + 2];
+      int card3 = cards[card + 3];
+      int card4 = cards[card + 4];
+
+      int suit = SUIT_OF_CARD[card0];
+      boolean isFlush = suit == SUIT_OF_CARD[card1]
+          && suit == SUIT_OF_CARD[card2]
+          && suit == SUIT_OF_CARD[card3]
+          && suit == SUIT_OF_CARD[card4];
+
+      scores[handIndex] = lookup(RANK_OF_CARD[card0], RANK_OF_CARD[card1], RANK_OF_CARD[card2],
+          RANK_OF_CARD[card3], RANK_OF_CARD[card4], isFlush);
+    }
+  }
+
+  protected long lookup(int rank0, int rank1, int rank2, int rank3, int rank4, boolean isFlush) {
+    if (isFlush) {
+      return FLUSH_VALUES[(1 << rank0) | (1 << rank1) | (1 << rank2) | (1 << rank3) | (1 << rank4)];
+    }
+
+    int swap;
+    if (rank0 > rank1) { swap = rank0; rank0 = rank1; rank1 = swap; }
+    if (rank3 > rank4) { swap = rank3; rank3 = rank4; rank4 = swap; }
+    if (rank2 > rank4) { swap = rank2; rank2 = rank4; rank4 = swap; }
+    if (rank2 > rank3) { swap = rank2; rank2 = rank3; rank3 = swap; }
+    if (rank0 > rank3) { swap = rank0; rank0 = rank3; rank3 = swap; }
+    if (rank0 > rank2) { swap = rank0; rank0 = rank2; rank2 = swap; }
+    if (rank1 > rank4) { swap = rank1; rank1 = rank4; rank4 = swap; }
+    if (rank1 > rank3) { swap = rank1; rank1 = rank3; rank3 = swap; }
+    if (rank1 > rank2) { swap = rank1; rank1 = rank2; rank2 = swap; }
+
+    return RANK_MULTISET_VALUES[rankMultisetIndex(rank0, rank1, rank2, rank3, rank4)];
+  }
+
+  protected static int rankMultisetIndex(int rank0, int rank1, int rank2, int rank3, int rank4) {
+    return BINOMIALS[rank0][1]
+        + BINOMIALS[rank1 + 1][2]
+        + BINOMIALS[rank2 + 2][3]
+        + BINOMIALS[rank3 + 3][4]
+        + BINOMIALS[rank4 + 4][5];
+  }
+
+  private static void fillTables(HandEvaluator referenceEvaluator) {
+    Rank[] ranks = Rank.values();
+    Suit[] suits = Suit.values();
+
+    for (int mask = 0; mask < FLUSH_VALUES.length; mask++) {
+      if (Integer.bitCount(mask) != CARDS_IN_HAND) continue;
+      Hand hand = new Hand();
+      for (int rank = 0; rank < RANK_COUNT; rank++) {
+        if ((mask & (1 << rank)) != 0) hand.add(new Card(ranks[rank], suits[0]));
+      }
+      FLUSH_VALUES[mask] = referenceEvaluator.evaluate(hand);
+    }
+
+    for (int rank0 = 0; rank0 < RANK_COUNT; rank0++) {
+      for (int rank1 = rank0; rank1 < RANK_COUNT; rank1++) {
+        for (int rank2 = rank1; rank2 < RANK_COUNT; rank2++) {
+          for (int rank3 = rank2; rank3 < RANK_COUNT; rank3++) {
+            for (int rank4 = rank3; rank4 < RANK_COUNT; rank4++) {
+              if (rank0 == rank4) continue;
+              int[] handRanks = {rank0, rank1, rank2, rank3, rank4};
+              RANK_MULTISET_VALUES[rankMultisetIndex(rank0, rank1, rank2, rank3, rank4)] =
+                  referenceEvaluator.evaluate(createNonFlushHand(handRanks, ranks, suits));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static Hand createNonFlushHand(int[] handRanks, Rank[] ranks, Suit[] suits) {
+    Hand hand = new Hand();
+    int suitIndex = 0;
+    for (int i = 0; i < handRanks.length; i++) {
+      suitIndex = (i > 0 && handRanks[i] == handRanks[i - 1]) ? suitIndex + 1 : 0;
+      hand.add(new Card(ranks[handRanks[i]], suits[suitIndex]));
+    }
+    if (Integer.bitCount(rankMask(handRanks)) == CARDS_IN_HAND) {
+      hand.set(CARDS_IN_HAND - 1, new Card(ranks[handRanks[CARDS_IN_HAND - 1]], suits[1]));
+    }
+    return hand;
+  }
+
+  private static int rankMask(int[] handRanks) {
+    int mask = 0;
+    for (int rank : handRanks) {
+      mask |= 1 << rank;
+    }
+    return mask;
+  }
+
+  private static int[][] createBinomials(int maxN, int maxK) {
+    int[][] binomials = new int[maxN][maxK + 1];
+    for (int n = 0; n < maxN; n++) {
+      binomials[n][0] = 1;
+      for (int k = 1; k <= maxK && k <= n; k++) {
+        binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+      }
+    }
+    return binomials;
+  }
+}
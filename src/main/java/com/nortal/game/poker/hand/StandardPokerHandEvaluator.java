@@ -1,6 +1,7 @@
 package com.nortal.game.poker.hand;
 
 import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
 import com.nortal.game.poker.card.Rank;
 import com.nortal.game.poker.card.Suit;
 
@@ -42,6 +43,22 @@ public class StandardPokerHandEvaluator implements HandEvaluator {
     return evaluationValue;
   }
 
+  @Override
+  public void evaluateAll(int[] cards, long[] scores, int handCount) {
+    HandEvaluator.checkBatchSize(cards, scores, handCount);
+    Hand hand = new Hand();
+    int card = 0;
+    for (int handIndex = 0; handIndex < handCount; handIndex++) {
+      hand.clear();
+      hand.add(CardIndex.toCard(cards[card++]));
+      hand.add(CardIndex.toCard(cards[card++]));
+      hand.add(CardIndex.toCard(cards[card++]));
+      hand.add(CardIndex.toCard(cards[card++]));
+      hand.add(CardIndex.toCard(cards[card++]));
+      scores[handIndex] = evaluate(hand);
+    }
+  }
+
   protected long getStraightFlushValue(Hand hand) {
     long value = calculateStraightValue(hand, true);
     return value == 0 ? 0 : STRAIGHT_FLUSH_BASE + value;
@@ -0,0 +1,45 @@
+package com.nortal.game.poker.history;
+
+public final class BitPacking {
+  private BitPacking() {
+  }
+
+  public static int bitWidth(long range) {
+    return 64 - Long.numberOfLeadingZeros(range);
+  }
+
+  public static int wordCount(int valueCount, int bitWidth) {
+    return (int) (((long) valueCount * bitWidth + 63) >>> 6);
+  }
+
+  public static void pack(long[] values, int valueCount, int bitWidth, long[] words) {
+    int wordCount = wordCount(valueCount, bitWidth);
+    for (int word = 0; word < wordCount; word++) {
+      words[word] = 0;
+    }
+    if (bitWidth == 0) return;
+    for (int i = 0; i < valueCount; i++) {
+      long bitIndex = (long) i * bitWidth;
+      int word = (int) (bitIndex >>> 6);
+      int shift = (int) (bitIndex & 63);
+      words[word] |= values[i] << shift;
+      if (shift + bitWidth > 64) words[word + 1] |= values[i] >>> (64 - shift);
+    }
+  }
+
+  public static void unpack(long[] words, int valueCount, int bitWidth, long[] values) {
+    long mask = bitWidth == 64 ? -1L : (1L << bitWidth) - 1;
+    for (int i = 0; i < valueCount; i++) {
+      if (bitWidth == 0) {
+        values[i] = 0;
+        continue;
+      }
+      long bitIndex = (long) i * bitWidth;
+      int word = (int) (bitIndex >>> 6);
+      int shift = (int) (bitIndex & 63);
+      long value = words[word] >>> shift;
+      if (shift + bitWidth > 64) value |= words[word + 1] << (64 - shift);
+      values[i] = value & mask;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.nortal.game.poker.history;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class ColumnReader implements PrimitiveIterator.OfLong, Closeable {
+  protected static final int INPUT_BUFFER_SIZE = 1 << 16;
+
+  protected final DataInputStream input;
+  protected final long[] values;
+  protected final long[] words;
+  protected int valueCount;
+  protected int position;
+  protected boolean exhausted;
+
+  public ColumnReader(Path path) throws IOException {
+    input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), INPUT_BUFFER_SIZE));
+    try {
+      if (input.readInt() != ColumnWriter.MAGIC) throw new RuntimeException("Not a column file: " + path);
+      if (input.readInt() != ColumnWriter.VERSION) throw new RuntimeException("Unsupported column version: " + path);
+      int blockSize = input.readInt();
+      values = new long[blockSize];
+      words = new long[blockSize];
+    } catch (IOException | RuntimeException e) {
+      input.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (position < valueCount) return true;
+    if (exhausted) return false;
+    try {
+      readBlock();
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read column", e);
+    }
+    return position < valueCount;
+  }
+
+  @Override
+  public long nextLong() {
+    if (!hasNext()) throw new NoSuchElementException();
+    return values[position++];
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+
+  protected void readBlock() throws IOException {
+    position = 0;
+    valueCount = 0;
+    int blockValueCount;
+    try {
+      blockValueCount = input.readInt();
+    } catch (EOFException e) {
+      exhausted = true;
+      return;
+    }
+    boolean delta = (input.readByte() & ColumnWriter.DELTA) != 0;
+    int bitWidth = input.readByte();
+    long base = input.readLong();
+    long min = input.readLong();
+    int wordCount = BitPacking.wordCount(blockValueCount, bitWidth);
+    for (int word = 0; word < wordCount; word++) {
+      words[word] = input.readLong();
+    }
+    BitPacking.unpack(words, blockValueCount, bitWidth, values);
+    long previous = base;
+    for (int i = 0; i < blockValueCount; i++) {
+      long value = values[i] + min;
+      values[i] = delta ? previous + value : value;
+      previous = values[i];
+    }
+    valueCount = blockValueCount;
+  }
+}
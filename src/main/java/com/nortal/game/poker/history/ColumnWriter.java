@@ -0,0 +1,71 @@
+package com.nortal.game.poker.history;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ColumnWriter implements Closeable {
+  public static final int MAGIC = 0x50434F4C;
+  public static final int VERSION = 1;
+  public static final int BLOCK_SIZE = 4096;
+  public static final int DELTA = 1;
+  protected static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+  protected final DataOutputStream output;
+  protected final boolean delta;
+  protected final long[] values = new long[BLOCK_SIZE];
+  protected final long[] encoded = new long[BLOCK_SIZE];
+  protected final long[] words = new long[BLOCK_SIZE];
+  protected int valueCount;
+
+  public ColumnWriter(Path path, boolean delta) throws IOException {
+    this.delta = delta;
+    output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), OUTPUT_BUFFER_SIZE));
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(BLOCK_SIZE);
+  }
+
+  public void write(long value) throws IOException {
+    values[valueCount++] = value;
+    if (valueCount == BLOCK_SIZE) writeBlock();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (valueCount > 0) writeBlock();
+    output.close();
+  }
+
+  protected void writeBlock() throws IOException {
+    long base = values[0];
+    long previous = base;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < valueCount; i++) {
+      encoded[i] = delta ? values[i] - previous : values[i];
+      previous = values[i];
+      min = Math.min(min, encoded[i]);
+      max = Math.max(max, encoded[i]);
+    }
+    for (int i = 0; i < valueCount; i++) {
+      encoded[i] -= min;
+    }
+    int bitWidth = BitPacking.bitWidth(max - min);
+    BitPacking.pack(encoded, valueCount, bitWidth, words);
+
+    output.writeInt(valueCount);
+    output.writeByte(delta ? DELTA : 0);
+    output.writeByte(bitWidth);
+    output.writeLong(base);
+    output.writeLong(min);
+    int wordCount = BitPacking.wordCount(valueCount, bitWidth);
+    for (int word = 0; word < wordCount; word++) {
+      output.writeLong(words[word]);
+    }
+    valueCount = 0;
+  }
+}
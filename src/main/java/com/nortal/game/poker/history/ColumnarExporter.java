@@ -0,0 +1,101 @@
+package com.nortal.game.poker.history;
+
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandCategory;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.nortal.game.poker.board.Board.CARDS_PER_PLAYER;
+
+public class ColumnarExporter {
+  public static final String ROUND = "round";
+  public static final String PLAYER = "player";
+  public static final String CARD_MASK = "cardMask";
+  public static final String SCORE = "score";
+  public static final String POT = "pot";
+  public static final String WON = "won";
+  public static final String COLUMN_EXTENSION = ".col";
+
+  protected final HandEvaluator handEvaluator;
+
+  public ColumnarExporter(HandEvaluator handEvaluator) {
+    this.handEvaluator = handEvaluator;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.out.println("Usage: ColumnarExporter <hand history file> <output directory>");
+      return;
+    }
+    Path directory = Paths.get(args[1]);
+    try (HandHistoryReader reader = new HandHistoryReader(Paths.get(args[0]))) {
+      long rows = new ColumnarExporter(new LookupTableHandEvaluator()).export(reader, directory);
+      System.out.println("Exported " + rows + " rows to " + directory);
+    }
+    long[][] counts = countWinsByCategory(directory);
+    for (HandCategory category : HandCategory.values()) {
+      long rows = counts[category.ordinal()][0];
+      if (rows > 0) {
+        System.out.printf("%-16s %12d rows, win rate %.4f%n", category, rows,
+            (double) counts[category.ordinal()][1] / rows);
+      }
+    }
+  }
+
+  public long export(HandHistoryReader reader, Path directory) throws IOException {
+    Files.createDirectories(directory);
+    CompactHand hand = new CompactHand();
+    long rows = 0;
+    try (ColumnWriter round = new ColumnWriter(columnPath(directory, ROUND), true);
+         ColumnWriter player = new ColumnWriter(columnPath(directory, PLAYER), false);
+         ColumnWriter cardMask = new ColumnWriter(columnPath(directory, CARD_MASK), false);
+         ColumnWriter score = new ColumnWriter(columnPath(directory, SCORE), false);
+         ColumnWriter pot = new ColumnWriter(columnPath(directory, POT), false);
+         ColumnWriter won = new ColumnWriter(columnPath(directory, WON), false)) {
+      for (HandHistoryRecord record : reader) {
+        int playerCount = record.getPlayerCount();
+        int roundPot = playerCount * (1 + record.getExtraBid());
+        for (int seat = 0; seat < playerCount; seat++) {
+          hand.clear();
+          for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+            hand.add(record.getCard(seat, card));
+          }
+          round.write(record.getRound());
+          player.write(seat);
+          cardMask.write(hand.mask());
+          score.write(handEvaluator.evaluate(hand));
+          pot.write(roundPot);
+          won.write(record.isWinner(seat) ? 1 : 0);
+          rows++;
+        }
+      }
+    }
+    return rows;
+  }
+
+  public static ColumnReader openColumn(Path directory, String column) throws IOException {
+    return new ColumnReader(columnPath(directory, column));
+  }
+
+  public static long[][] countWinsByCategory(Path directory) throws IOException {
+    long[][] counts = new long[HandCategory.values().length][2];
+    try (ColumnReader score = openColumn(directory, SCORE);
+         ColumnReader won = openColumn(directory, WON)) {
+      while (score.hasNext()) {
+        long[] categoryCounts = counts[HandCategory.of(score.nextLong()).ordinal()];
+        categoryCounts[0]++;
+        categoryCounts[1] += won.nextLong();
+      }
+    }
+    return counts;
+  }
+
+  protected static Path columnPath(Path directory, String column) {
+    return directory.resolve(column + COLUMN_EXTENSION);
+  }
+}
@@ -0,0 +1,95 @@
+package com.nortal.game.poker.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.nortal.game.poker.board.Board.MAX_PLAYERS_COUNT;
+import static com.nortal.game.poker.history.HandHistoryRecord.RECORD_SIZE;
+import static com.nortal.game.poker.history.HandHistoryWriter.HEADER_SIZE;
+
+public class HandHistoryReader implements Iterable<HandHistoryRecord>, Closeable {
+  protected static final int RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_SIZE;
+
+  protected final FileChannel channel;
+  protected final MappedByteBuffer[] segments;
+  protected final long recordCount;
+
+  public HandHistoryReader(Path path) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      HandHistoryWriter.checkHeader(channel);
+      recordCount = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+      segments = new MappedByteBuffer[(int) ((recordCount + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT)];
+      for (int segment = 0; segment < segments.length; segment++) {
+        long firstRecord = (long) segment * RECORDS_PER_SEGMENT;
+        long records = Math.min(RECORDS_PER_SEGMENT, recordCount - firstRecord);
+        segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + firstRecord * RECORD_SIZE,
+            records * RECORD_SIZE);
+        segments[segment].order(ByteOrder.LITTLE_ENDIAN);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    for (String file : args) {
+      try (HandHistoryReader reader = new HandHistoryReader(Paths.get(file))) {
+        long[] wins = new long[MAX_PLAYERS_COUNT];
+        long chipsMoved = 0;
+        for (HandHistoryRecord record : reader) {
+          for (int seat = 0; seat < record.getPlayerCount(); seat++) {
+            if (record.isWinner(seat)) wins[seat]++;
+            if (record.getChipDelta(seat) > 0) chipsMoved += record.getChipDelta(seat);
+          }
+        }
+        System.out.printf("%s: %d rounds, %d chips won%n", file, reader.getRecordCount(), chipsMoved);
+        for (int seat = 0; seat < wins.length; seat++) {
+          if (wins[seat] > 0) System.out.printf("  seat %d won or tied %d rounds%n", seat, wins[seat]);
+        }
+      }
+    }
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public HandHistoryRecord read(long index, HandHistoryRecord record) {
+    if (index < 0 || index >= recordCount) throw new RuntimeException("No record at index " + index);
+    return record.wrap(segments[(int) (index / RECORDS_PER_SEGMENT)], (int) (index % RECORDS_PER_SEGMENT) * RECORD_SIZE);
+  }
+
+  @Override
+  public Iterator<HandHistoryRecord> iterator() {
+    HandHistoryRecord record = new HandHistoryRecord();
+    return new Iterator<HandHistoryRecord>() {
+      long next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < recordCount;
+      }
+
+      @Override
+      public HandHistoryRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return read(next++, record);
+      }
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
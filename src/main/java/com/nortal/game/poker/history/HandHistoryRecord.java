@@ -0,0 +1,78 @@
+package com.nortal.game.poker.history;
+
+import java.nio.ByteBuffer;
+
+import static com.nortal.game.poker.board.Board.CARDS_PER_PLAYER;
+import static com.nortal.game.poker.board.Board.MAX_PLAYERS_COUNT;
+
+public class HandHistoryRecord {
+  public static final int ROUND_OFFSET = 0;
+  public static final int SEED_OFFSET = 8;
+  public static final int EXTRA_BID_OFFSET = 16;
+  public static final int CHIP_DELTAS_OFFSET = 20;
+  public static final int PLAYER_COUNT_OFFSET = CHIP_DELTAS_OFFSET + 4 * MAX_PLAYERS_COUNT;
+  public static final int WINNER_MASK_OFFSET = PLAYER_COUNT_OFFSET + 1;
+  public static final int CARDS_OFFSET = WINNER_MASK_OFFSET + 1;
+  public static final int RECORD_SIZE = 72;
+
+  protected ByteBuffer buffer;
+  protected int offset;
+
+  public HandHistoryRecord wrap(ByteBuffer buffer, int offset) {
+    this.buffer = buffer;
+    this.offset = offset;
+    return this;
+  }
+
+  public long getRound() {
+    return buffer.getLong(offset + ROUND_OFFSET);
+  }
+
+  public long getSeed() {
+    return buffer.getLong(offset + SEED_OFFSET);
+  }
+
+  public int getExtraBid() {
+    return buffer.getInt(offset + EXTRA_BID_OFFSET);
+  }
+
+  public int getChipDelta(int seat) {
+    return buffer.getInt(offset + CHIP_DELTAS_OFFSET + 4 * seat);
+  }
+
+  public int getPlayerCount() {
+    return buffer.get(offset + PLAYER_COUNT_OFFSET);
+  }
+
+  public int getWinnerMask() {
+    return buffer.get(offset + WINNER_MASK_OFFSET);
+  }
+
+  public boolean isWinner(int seat) {
+    return (getWinnerMask() & (1 << seat)) != 0;
+  }
+
+  public int getCard(int seat, int card) {
+    return buffer.get(offset + CARDS_OFFSET + seat * CARDS_PER_PLAYER + card);
+  }
+
+  static void write(ByteBuffer buffer, long round, long seed, int extraBid, int[] chipDeltas, int playerCount,
+                    int winnerMask, int[] cards) {
+    int offset = buffer.position();
+    buffer.putLong(offset + ROUND_OFFSET, round);
+    buffer.putLong(offset + SEED_OFFSET, seed);
+    buffer.putInt(offset + EXTRA_BID_OFFSET, extraBid);
+    for (int seat = 0; seat < MAX_PLAYERS_COUNT; seat++) {
+      buffer.putInt(offset + CHIP_DELTAS_OFFSET + 4 * seat, seat < playerCount ? chipDeltas[seat] : 0);
+    }
+    buffer.put(offset + PLAYER_COUNT_OFFSET, (byte) playerCount);
+    buffer.put(offset + WINNER_MASK_OFFSET, (byte) winnerMask);
+    for (int card = 0; card < MAX_PLAYERS_COUNT * CARDS_PER_PLAYER; card++) {
+      buffer.put(offset + CARDS_OFFSET + card, (byte) (card < playerCount * CARDS_PER_PLAYER ? cards[card] : -1));
+    }
+    for (int padding = CARDS_OFFSET + MAX_PLAYERS_COUNT * CARDS_PER_PLAYER; padding < RECORD_SIZE; padding++) {
+      buffer.put(offset + padding, (byte) 0);
+    }
+    buffer.position(offset + RECORD_SIZE);
+  }
+}
@@ -0,0 +1,81 @@
+package com.nortal.game.poker.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class HandHistoryWriter implements Closeable {
+  public static final int MAGIC = 0x50484831;
+  public static final int VERSION = 1;
+  public static final int HEADER_SIZE = 16;
+  public static final int DEFAULT_BUFFERED_RECORDS = 1024;
+
+  protected final FileChannel channel;
+  protected final ByteBuffer buffer;
+
+  public HandHistoryWriter(Path path) throws IOException {
+    this(path, DEFAULT_BUFFERED_RECORDS);
+  }
+
+  public HandHistoryWriter(Path path, int bufferedRecords) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    buffer = ByteBuffer.allocateDirect(bufferedRecords * HandHistoryRecord.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      if (channel.size() == 0) {
+        writeHeader();
+      } else {
+        checkHeader(channel);
+      }
+      long records = (channel.size() - HEADER_SIZE) / HandHistoryRecord.RECORD_SIZE;
+      channel.position(HEADER_SIZE + records * HandHistoryRecord.RECORD_SIZE);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public synchronized void append(long round, long seed, int extraBid, int[] chipDeltas, int playerCount,
+                                  int winnerMask, int[] cards) {
+    if (buffer.remaining() < HandHistoryRecord.RECORD_SIZE) flush();
+    HandHistoryRecord.write(buffer, round, seed, extraBid, chipDeltas, playerCount, winnerMask, cards);
+  }
+
+  public synchronized void flush() {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not write hand history", e);
+    }
+    buffer.clear();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    flush();
+    channel.close();
+  }
+
+  static void checkHeader(FileChannel channel) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    channel.read(header, 0);
+    if (header.hasRemaining() || header.getInt(0) != MAGIC) throw new RuntimeException("Not a hand history file");
+    if (header.getInt(4) != VERSION) throw new RuntimeException("Unsupported hand history version: " + header.getInt(4));
+    if (header.getInt(8) != HandHistoryRecord.RECORD_SIZE) throw new RuntimeException("Unexpected record size");
+  }
+
+  private void writeHeader() throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC).putInt(VERSION).putInt(HandHistoryRecord.RECORD_SIZE).putInt(0);
+    header.flip();
+    while (header.hasRemaining()) {
+      channel.write(header, header.position());
+    }
+  }
+}
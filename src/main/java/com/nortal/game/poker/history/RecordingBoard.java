@@ -0,0 +1,101 @@
+package com.nortal.game.poker.history;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.player.Player;
+
+import java.util.List;
+
+public class RecordingBoard extends Board {
+  public static final long DEFAULT_FLUSH_INTERVAL_NANOS = 1_000_000_000;
+
+  protected final HandHistoryWriter writer;
+  protected final long seed;
+  protected final long flushIntervalNanos;
+  protected final int[] chipsBeforeRound = new int[MAX_PLAYERS_COUNT];
+  protected final int[] chipDeltas = new int[MAX_PLAYERS_COUNT];
+  protected final int[] cards = new int[MAX_PLAYERS_COUNT * CARDS_PER_PLAYER];
+  protected long round;
+  protected long nextRound;
+  protected int extraBid;
+  protected int winnerMask;
+  protected long lastFlushNanos = System.nanoTime();
+
+  public RecordingBoard(Deck deck, HandEvaluator handEvaluator, HandHistoryWriter writer, long seed) {
+    this(deck, handEvaluator, writer, seed, DEFAULT_FLUSH_INTERVAL_NANOS);
+  }
+
+  public RecordingBoard(Deck deck, HandEvaluator handEvaluator, HandHistoryWriter writer, long seed,
+                        long flushIntervalNanos) {
+    super(deck, handEvaluator);
+    this.writer = writer;
+    this.seed = seed;
+    this.flushIntervalNanos = flushIntervalNanos;
+  }
+
+  @Override
+  public void deal() {
+    deal(nextRound);
+  }
+
+  @Override
+  public void deal(long round) {
+    startRound(round);
+    super.deal(round);
+  }
+
+  @Override
+  public void raiseBid(int extraBid) {
+    super.raiseBid(extraBid);
+    this.extraBid += extraBid;
+  }
+
+  @Override
+  public List<Player> findPlayersWithBestHand() {
+    List<Player> playersWithBestHand = super.findPlayersWithBestHand();
+    winnerMask = 0;
+    for (Player player : playersWithBestHand) {
+      winnerMask |= 1 << indexOf(player);
+    }
+    return playersWithBestHand;
+  }
+
+  @Override
+  public void giveChipsOnBoardToPlayer(Player newChipOwner) {
+    super.giveChipsOnBoardToPlayer(newChipOwner);
+    recordRound();
+  }
+
+  @Override
+  public void giveChipsBackToPlayers() {
+    super.giveChipsBackToPlayers();
+    recordRound();
+  }
+
+  protected void startRound(long round) {
+    this.round = round;
+    nextRound = round + 1;
+    extraBid = 0;
+    winnerMask = 0;
+    for (int i = 0; i < playerCount; i++) {
+      chipsBeforeRound[i] = players[i].chipCount();
+    }
+  }
+
+  protected void recordRound() {
+    for (int i = 0; i < playerCount; i++) {
+      chipDeltas[i] = players[i].chipCount() - chipsBeforeRound[i];
+      for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+        cards[i * CARDS_PER_PLAYER + card] = CardIndex.of(hands[i].get(card));
+      }
+    }
+    writer.append(round, seed, extraBid, chipDeltas, playerCount, winnerMask, cards);
+    long now = System.nanoTime();
+    if (now - lastFlushNanos >= flushIntervalNanos) {
+      writer.flush();
+      lastFlushNanos = now;
+    }
+  }
+}
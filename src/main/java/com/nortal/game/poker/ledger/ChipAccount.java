@@ -0,0 +1,52 @@
+package com.nortal.game.poker.ledger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChipAccount {
+  protected final AtomicInteger balance;
+
+  public ChipAccount() {
+    this(0);
+  }
+
+  public ChipAccount(int balance) {
+    checkAmount(balance);
+    this.balance = new AtomicInteger(balance);
+  }
+
+  public int getBalance() {
+    return balance.get();
+  }
+
+  public void setBalance(int chips) {
+    checkAmount(chips);
+    balance.set(chips);
+  }
+
+  public void credit(int chips) {
+    checkAmount(chips);
+    int current;
+    do {
+      current = balance.get();
+      if (current > Integer.MAX_VALUE - chips) throw new RuntimeException("Chip balance overflow");
+    } while (!balance.compareAndSet(current, current + chips));
+  }
+
+  public boolean tryDebit(int chips) {
+    checkAmount(chips);
+    int current;
+    do {
+      current = balance.get();
+      if (current < chips) return false;
+    } while (!balance.compareAndSet(current, current - chips));
+    return true;
+  }
+
+  public void debit(int chips) {
+    if (!tryDebit(chips)) throw new RuntimeException("User does not have that many chips");
+  }
+
+  private static void checkAmount(int chips) {
+    if (chips < 0) throw new RuntimeException("Chip amount must not be negative: " + chips);
+  }
+}
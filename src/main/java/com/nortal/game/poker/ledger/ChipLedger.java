@@ -0,0 +1,60 @@
+package com.nortal.game.poker.ledger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ChipLedger {
+  protected final Map<String, ChipAccount> accounts = new ConcurrentHashMap<>();
+
+  public ChipAccount account(String owner) {
+    return accounts.computeIfAbsent(owner, name -> new ChipAccount());
+  }
+
+  public ChipAccount openAccount(String owner, int chips) {
+    ChipAccount account = new ChipAccount(chips);
+    if (accounts.putIfAbsent(owner, account) != null) throw new RuntimeException("Account already exists: " + owner);
+    return account;
+  }
+
+  public ChipAccount getAccount(String owner) {
+    return accounts.get(owner);
+  }
+
+  public int closeAccount(String owner) {
+    ChipAccount account = accounts.remove(owner);
+    return account == null ? 0 : account.getBalance();
+  }
+
+  public boolean tryTransfer(ChipAccount from, ChipAccount to, int chips) {
+    if (!from.tryDebit(chips)) return false;
+    to.credit(chips);
+    return true;
+  }
+
+  public void transfer(ChipAccount from, ChipAccount to, int chips) {
+    if (!tryTransfer(from, to, chips)) throw new RuntimeException("User does not have that many chips");
+  }
+
+  public static void debitAll(ChipAccount[] accounts, int accountCount, int chips) {
+    for (int i = 0; i < accountCount; i++) {
+      if (!accounts[i].tryDebit(chips)) {
+        for (int j = 0; j < i; j++) {
+          accounts[j].credit(chips);
+        }
+        throw new RuntimeException("User does not have that many chips");
+      }
+    }
+  }
+
+  public long getTotalChips() {
+    long total = 0;
+    for (ChipAccount account : accounts.values()) {
+      total += account.getBalance();
+    }
+    return total;
+  }
+
+  public int getAccountCount() {
+    return accounts.size();
+  }
+}
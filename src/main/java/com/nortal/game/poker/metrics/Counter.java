@@ -0,0 +1,25 @@
+package com.nortal.game.poker.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+  protected final LongAdder count = new LongAdder();
+  protected final long startNanos = System.nanoTime();
+
+  public void increment() {
+    count.increment();
+  }
+
+  public void add(long value) {
+    count.add(value);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getRatePerSecond() {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    return elapsedNanos == 0 ? 0 : getCount() * 1e9 / elapsedNanos;
+  }
+}
@@ -0,0 +1,59 @@
+package com.nortal.game.poker.metrics;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.player.Player;
+
+import java.util.List;
+
+public class InstrumentedBoard extends Board {
+  public static final String DEAL = "board_deal";
+  public static final String FIND_BEST_HAND = "board_find_best_hand";
+  public static final String ROUNDS = "rounds";
+
+  protected final LatencyHistogram dealLatency;
+  protected final LatencyHistogram findBestHandLatency;
+  protected final Counter rounds;
+  protected final Counter tableRounds;
+
+  public InstrumentedBoard(Deck deck, HandEvaluator handEvaluator, MetricsRegistry registry, String tableName) {
+    super(deck, handEvaluator);
+    dealLatency = registry.histogram(DEAL);
+    findBestHandLatency = registry.histogram(FIND_BEST_HAND);
+    rounds = registry.counter(ROUNDS);
+    tableRounds = registry.counter(tableRoundsName(tableName));
+  }
+
+  public static String tableRoundsName(String tableName) {
+    return "table_" + tableName + "_" + ROUNDS;
+  }
+
+  @Override
+  public void deal() {
+    long start = System.nanoTime();
+    super.deal();
+    recordDeal(start);
+  }
+
+  @Override
+  public void deal(long round) {
+    long start = System.nanoTime();
+    super.deal(round);
+    recordDeal(start);
+  }
+
+  @Override
+  public List<Player> findPlayersWithBestHand() {
+    long start = System.nanoTime();
+    List<Player> playersWithBestHand = super.findPlayersWithBestHand();
+    findBestHandLatency.record(System.nanoTime() - start);
+    return playersWithBestHand;
+  }
+
+  protected void recordDeal(long start) {
+    dealLatency.record(System.nanoTime() - start);
+    rounds.increment();
+    tableRounds.increment();
+  }
+}
@@ -0,0 +1,49 @@
+package com.nortal.game.poker.metrics;
+
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+public class InstrumentedHandEvaluator implements HandEvaluator {
+  public static final String EVALUATE = "hand_evaluate";
+  public static final String EVALUATE_BATCH = "hand_evaluate_batch";
+  public static final String HANDS_EVALUATED = "hands_evaluated";
+
+  protected final HandEvaluator handEvaluator;
+  protected final LatencyHistogram evaluateLatency;
+  protected final LatencyHistogram batchLatency;
+  protected final Counter handsEvaluated;
+
+  public InstrumentedHandEvaluator(HandEvaluator handEvaluator, MetricsRegistry registry) {
+    this.handEvaluator = handEvaluator;
+    evaluateLatency = registry.histogram(EVALUATE);
+    batchLatency = registry.histogram(EVALUATE_BATCH);
+    handsEvaluated = registry.counter(HANDS_EVALUATED);
+  }
+
+  @Override
+  public long evaluate(Hand hand) {
+    long start = System.nanoTime();
+    long score = handEvaluator.evaluate(hand);
+    evaluateLatency.record(System.nanoTime() - start);
+    handsEvaluated.increment();
+    return score;
+  }
+
+  @Override
+  public long evaluate(CompactHand hand) {
+    long start = System.nanoTime();
+    long score = handEvaluator.evaluate(hand);
+    evaluateLatency.record(System.nanoTime() - start);
+    handsEvaluated.increment();
+    return score;
+  }
+
+  @Override
+  public void evaluateAll(int[] cards, long[] scores, int handCount) {
+    long start = System.nanoTime();
+    handEvaluator.evaluateAll(cards, scores, handCount);
+    batchLatency.record(System.nanoTime() - start);
+    handsEvaluated.add(handCount);
+  }
+}
@@ -0,0 +1,50 @@
+package com.nortal.game.poker.metrics;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.UI;
+
+public class InstrumentedUI extends UI {
+  public static final String BID_WAIT = "ui_bid_wait";
+
+  protected final UI userInterface;
+  protected final LatencyHistogram bidWait;
+
+  public InstrumentedUI(UI userInterface, MetricsRegistry registry) {
+    this.userInterface = userInterface;
+    bidWait = registry.histogram(BID_WAIT);
+  }
+
+  @Override
+  public void showPlayerCards(Player player, Hand hand) {
+    userInterface.showPlayerCards(player, hand);
+  }
+
+  @Override
+  public int getExtraBid(int maxPossibleBid) {
+    long start = System.nanoTime();
+    int extraBid = userInterface.getExtraBid(maxPossibleBid);
+    bidWait.record(System.nanoTime() - start);
+    return extraBid;
+  }
+
+  @Override
+  public void announceWinner(Player winner) {
+    userInterface.announceWinner(winner);
+  }
+
+  @Override
+  public void announceChipsReturn() {
+    userInterface.announceChipsReturn();
+  }
+
+  @Override
+  public void gameOver() {
+    userInterface.gameOver();
+  }
+
+  @Override
+  public void newRound() {
+    userInterface.newRound();
+  }
+}
@@ -0,0 +1,70 @@
+package com.nortal.game.poker.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+  protected static final int SUB_BUCKET_BITS = 4;
+  protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  protected static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  protected final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  protected final LongAdder count = new LongAdder();
+  protected final LongAdder total = new LongAdder();
+  protected final AtomicLong max = new AtomicLong();
+
+  public void record(long nanos) {
+    if (nanos < 0) nanos = 0;
+    buckets.incrementAndGet(bucketIndex(nanos));
+    count.increment();
+    total.add(nanos);
+    long currentMax = max.get();
+    while (nanos > currentMax && !max.compareAndSet(currentMax, nanos)) {
+      currentMax = max.get();
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long samples = getCount();
+    return samples == 0 ? 0 : (double) total.sum() / samples;
+  }
+
+  public long getPercentile(double percentile) {
+    long samples = 0;
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      samples += buckets.get(bucket);
+    }
+    if (samples == 0) return 0;
+    long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      seen += buckets.get(bucket);
+      if (seen >= rank) return Math.min(bucketUpperBound(bucket), getMax());
+    }
+    return getMax();
+  }
+
+  protected static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) return (int) value;
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  protected static long bucketUpperBound(int bucket) {
+    if (bucket < SUB_BUCKET_COUNT) return bucket;
+    int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = bucket % SUB_BUCKET_COUNT;
+    long lowerBound = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+    return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+}
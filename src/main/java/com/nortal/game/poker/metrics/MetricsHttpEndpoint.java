@@ -0,0 +1,43 @@
+package com.nortal.game.poker.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+public class MetricsHttpEndpoint {
+  public static final String PATH = "/metrics";
+
+  protected final MetricsRegistry registry;
+  protected HttpServer server;
+
+  public MetricsHttpEndpoint(MetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  public void start(InetSocketAddress address) throws IOException {
+    server = HttpServer.create(address, 0);
+    server.createContext(PATH, this::handle);
+    server.start();
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  public void stop() {
+    server.stop(0);
+  }
+
+  protected void handle(HttpExchange exchange) throws IOException {
+    byte[] body = registry.render().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.nortal.game.poker.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.JMException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class MetricsMBean implements DynamicMBean {
+  public static final String DEFAULT_OBJECT_NAME = "com.nortal.game.poker:type=Metrics";
+  protected static final String[] HISTOGRAM_STATISTICS = {"Count", "MeanNanos", "P50Nanos", "P99Nanos", "MaxNanos"};
+
+  protected final MetricsRegistry registry;
+
+  public MetricsMBean(MetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  public static ObjectName register(MetricsRegistry registry, MBeanServer server) throws JMException {
+    ObjectName name = new ObjectName(DEFAULT_OBJECT_NAME);
+    server.registerMBean(new MetricsMBean(registry), name);
+    return name;
+  }
+
+  @Override
+  public Object getAttribute(String attribute) throws AttributeNotFoundException {
+    int separator = attribute.lastIndexOf('.');
+    if (separator > 0) {
+      String name = attribute.substring(0, separator);
+      String statistic = attribute.substring(separator + 1);
+      Counter counter = registry.getCounters().get(name);
+      if (counter != null && statistic.equals("Count")) return counter.getCount();
+      if (counter != null && statistic.equals("RatePerSecond")) return counter.getRatePerSecond();
+      LatencyHistogram histogram = registry.getHistograms().get(name);
+      if (histogram != null) {
+        switch (statistic) {
+          case "Count":
+            return histogram.getCount();
+          case "MeanNanos":
+            return histogram.getMean();
+          case "P50Nanos":
+            return histogram.getPercentile(50);
+          case "P99Nanos":
+            return histogram.getPercentile(99);
+          case "MaxNanos":
+            return histogram.getMax();
+          default:
+            break;
+        }
+      }
+    }
+    throw new AttributeNotFoundException(attribute);
+  }
+
+  @Override
+  public AttributeList getAttributes(String[] attributes) {
+    AttributeList values = new AttributeList();
+    for (String attribute : attributes) {
+      try {
+        values.add(new Attribute(attribute, getAttribute(attribute)));
+      } catch (AttributeNotFoundException e) {
+        // missing metrics are left out, as the DynamicMBean contract allows
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    List<MBeanAttributeInfo> attributes = new ArrayList<>();
+    for (String name : registry.getCounters().keySet()) {
+      attributes.add(attribute(name + ".Count", "long"));
+      attributes.add(attribute(name + ".RatePerSecond", "double"));
+    }
+    for (Map.Entry<String, LatencyHistogram> histogram : registry.getHistograms().entrySet()) {
+      for (String statistic : HISTOGRAM_STATISTICS) {
+        attributes.add(attribute(histogram.getKey() + "." + statistic,
+            statistic.equals("MeanNanos") ? "double" : "long"));
+      }
+    }
+    return new MBeanInfo(getClass().getName(), "Poker metrics", attributes.toArray(new MBeanAttributeInfo[0]),
+        null, null, null);
+  }
+
+  @Override
+  public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+  }
+
+  @Override
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+    throw new ReflectionException(new NoSuchMethodException(actionName), "No operations: " + actionName);
+  }
+
+  private MBeanAttributeInfo attribute(String name, String type) {
+    return new MBeanAttributeInfo(name, type, name, true, false, false);
+  }
+}
@@ -0,0 +1,56 @@
+package com.nortal.game.poker.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class MetricsRegistry {
+  protected static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  protected static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+
+  protected final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+  protected final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+
+  public Counter counter(String name) {
+    return counters.computeIfAbsent(name, key -> new Counter());
+  }
+
+  public LatencyHistogram histogram(String name) {
+    return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+  }
+
+  public void remove(String name) {
+    counters.remove(name);
+    histograms.remove(name);
+  }
+
+  public Map<String, Counter> getCounters() {
+    return counters;
+  }
+
+  public Map<String, LatencyHistogram> getHistograms() {
+    return histograms;
+  }
+
+  public String render() {
+    StringBuilder text = new StringBuilder();
+    for (Map.Entry<String, Counter> counter : counters.entrySet()) {
+      text.append(counter.getKey()).append("_total ").append(counter.getValue().getCount()).append('\n');
+      text.append(counter.getKey()).append("_per_second ")
+          .append(String.format(Locale.ROOT, "%.3f", counter.getValue().getRatePerSecond())).append('\n');
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+      String name = entry.getKey();
+      LatencyHistogram histogram = entry.getValue();
+      text.append(name).append("_count ").append(histogram.getCount()).append('\n');
+      text.append(name).append("_mean_nanos ")
+          .append(String.format(Locale.ROOT, "%.1f", histogram.getMean())).append('\n');
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        text.append(name).append("_nanos{quantile=\"").append(QUANTILE_LABELS[i]).append("\"} ")
+            .append(histogram.getPercentile(PERCENTILES[i])).append('\n');
+      }
+      text.append(name).append("_max_nanos ").append(histogram.getMax()).append('\n');
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,21 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+
+public class BidDecisionStrategy implements DecisionStrategy {
+  protected final BidStrategy bidStrategy;
+  protected final Hand hand = new Hand();
+
+  public BidDecisionStrategy(BidStrategy bidStrategy) {
+    this.bidStrategy = bidStrategy;
+  }
+
+  @Override
+  public int decideExtraBid(DecisionContext context) {
+    return bidStrategy.getExtraBid(context.copyHand(hand), context.getMaxPossibleBid());
+  }
+
+  public BidStrategy getBidStrategy() {
+    return bidStrategy;
+  }
+}
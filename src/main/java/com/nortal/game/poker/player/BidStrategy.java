@@ -0,0 +1,7 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+
+public interface BidStrategy {
+  int getExtraBid(Hand hand, int maxPossibleBid);
+}
@@ -1,7 +1,96 @@
 package com.nortal.game.poker.player;
 
+import com.nortal.game.poker.ledger.ChipAccount;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public class Computer extends Player {
+  public static final long DEFAULT_DECISION_BUDGET_NANOS = 1_000_000;
+  public static final long UNLIMITED_DECISION_BUDGET = Long.MAX_VALUE;
+  protected static final int TIMED_OUT = Integer.MIN_VALUE;
+  protected static final ExecutorService DECISION_WORKERS = Executors.newCachedThreadPool(task -> {
+    Thread worker = new Thread(task, "decision-worker");
+    worker.setDaemon(true);
+    return worker;
+  });
+
+  protected final DecisionStrategy decisionStrategy;
+  protected final long decisionBudgetNanos;
+  protected long decisions;
+  protected long overBudgetDecisions;
+
   public Computer(String name) {
+    this(name, new FixedBidStrategy(0));
+  }
+
+  public Computer(String name, BidStrategy bidStrategy) {
     super(name);
+    this.decisionStrategy = new BidDecisionStrategy(bidStrategy);
+    this.decisionBudgetNanos = UNLIMITED_DECISION_BUDGET;
+  }
+
+  public Computer(String name, BidStrategy bidStrategy, ChipAccount account) {
+    super(name, account);
+    this.decisionStrategy = new BidDecisionStrategy(bidStrategy);
+    this.decisionBudgetNanos = UNLIMITED_DECISION_BUDGET;
+  }
+
+  public Computer(String name, DecisionStrategy decisionStrategy, long decisionBudgetNanos) {
+    super(name);
+    if (decisionBudgetNanos <= 0) throw new RuntimeException("Decision budget must be positive: " + decisionBudgetNanos);
+    this.decisionStrategy = decisionStrategy;
+    this.decisionBudgetNanos = decisionBudgetNanos;
+  }
+
+  public int getExtraBid(DecisionContext context) {
+    decisions++;
+    int extraBid = decidesInline() ? decisionStrategy.decideExtraBid(context) : decideOnWorker(context);
+    if (extraBid == TIMED_OUT || context.isPastHardDeadline()) {
+      overBudgetDecisions++;
+      return 0;
+    }
+    return Math.max(0, Math.min(extraBid, context.getMaxPossibleBid()));
+  }
+
+  protected boolean decidesInline() {
+    return decisionBudgetNanos == UNLIMITED_DECISION_BUDGET || decisionStrategy.isCooperative();
+  }
+
+  // strategies that do not watch the deadline themselves are abandoned once the hard deadline passes
+  protected int decideOnWorker(DecisionContext context) {
+    Future<Integer> decision = DECISION_WORKERS.submit(() -> decisionStrategy.decideExtraBid(context));
+    try {
+      return decision.get(context.getHardDeadlineNanos() - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      decision.cancel(true);
+      return TIMED_OUT;
+    } catch (InterruptedException e) {
+      decision.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for decision", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Decision strategy failed", e.getCause());
+    }
+  }
+
+  public DecisionStrategy getDecisionStrategy() {
+    return decisionStrategy;
+  }
+
+  public long getDecisionBudgetNanos() {
+    return decisionBudgetNanos;
+  }
+
+  public long getDecisions() {
+    return decisions;
+  }
+
+  public long getOverBudgetDecisions() {
+    return overBudgetDecisions;
   }
 }
@@ -0,0 +1,39 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+
+public interface DecisionContext {
+  int getCardCount();
+
+  int getCard(int position);
+
+  long getCardMask();
+
+  Hand copyHand(Hand target);
+
+  int getSeat();
+
+  int getPlayerCount();
+
+  int getChips();
+
+  int getChipsOnBoard(int seat);
+
+  int getPot();
+
+  int getMaxPossibleBid();
+
+  long getDeadlineNanos();
+
+  default long getHardDeadlineNanos() {
+    return getDeadlineNanos();
+  }
+
+  default boolean isOutOfTime() {
+    return System.nanoTime() - getDeadlineNanos() >= 0;
+  }
+
+  default boolean isPastHardDeadline() {
+    return System.nanoTime() - getHardDeadlineNanos() >= 0;
+  }
+}
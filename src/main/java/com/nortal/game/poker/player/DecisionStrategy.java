@@ -0,0 +1,9 @@
+package com.nortal.game.poker.player;
+
+public interface DecisionStrategy {
+  int decideExtraBid(DecisionContext context);
+
+  default boolean isCooperative() {
+    return false;
+  }
+}
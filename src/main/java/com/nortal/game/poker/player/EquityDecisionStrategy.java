@@ -0,0 +1,100 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.random.RandomSource;
+
+public class EquityDecisionStrategy implements DecisionStrategy {
+  protected static final int SAMPLES_PER_DEADLINE_CHECK = 16;
+
+  protected final HandEvaluator handEvaluator;
+  protected final RandomSource random;
+  protected final int maxSamples;
+  protected final double kellyFraction;
+  protected final CompactHand ownHand = new CompactHand();
+  protected final int[] unseenCards = new int[CardIndex.CARD_COUNT];
+  protected final int[] opponentCards = new int[(Board.MAX_PLAYERS_COUNT - 1) * CompactHand.MAX_CARDS];
+  protected final long[] opponentScores = new long[Board.MAX_PLAYERS_COUNT - 1];
+  protected double lastEquity;
+  protected int lastSamples;
+
+  public EquityDecisionStrategy(HandEvaluator handEvaluator, RandomSource random, int maxSamples, double kellyFraction) {
+    if (maxSamples < 1) throw new RuntimeException("At least one sample is needed");
+    if (kellyFraction <= 0 || kellyFraction > 1) throw new RuntimeException("Kelly fraction must be in (0, 1]: " + kellyFraction);
+    this.handEvaluator = handEvaluator;
+    this.random = random;
+    this.maxSamples = maxSamples;
+    this.kellyFraction = kellyFraction;
+  }
+
+  @Override
+  public boolean isCooperative() {
+    return true;
+  }
+
+  @Override
+  public int decideExtraBid(DecisionContext context) {
+    int playerCount = context.getPlayerCount();
+    if (context.getCardCount() != CompactHand.MAX_CARDS || playerCount < 2) return 0;
+    return kellyBid(context, estimateEquity(context, playerCount - 1), kellyFraction);
+  }
+
+  public static int kellyBid(DecisionContext context, double equity, double kellyFraction) {
+    int playerCount = context.getPlayerCount();
+    double edge = (playerCount * equity - 1) / (playerCount - 1);
+    if (edge <= 0) return 0;
+    return (int) Math.min(context.getMaxPossibleBid(), Math.floor(edge * kellyFraction * context.getChips()));
+  }
+
+  protected double estimateEquity(DecisionContext context, int opponentCount) {
+    ownHand.clear();
+    for (int i = 0; i < CompactHand.MAX_CARDS; i++) {
+      ownHand.add(context.getCard(i));
+    }
+    long ownScore = handEvaluator.evaluate(ownHand);
+    int unseenCount = 0;
+    long ownMask = ownHand.mask();
+    for (int card = 0; card < CardIndex.CARD_COUNT; card++) {
+      if ((ownMask & CardIndex.mask(card)) == 0) unseenCards[unseenCount++] = card;
+    }
+
+    int cardsPerSample = opponentCount * CompactHand.MAX_CARDS;
+    double wins = 0;
+    int samples = 0;
+    while (samples < maxSamples) {
+      if (samples % SAMPLES_PER_DEADLINE_CHECK == 0 && samples > 0 && context.isOutOfTime()) break;
+      for (int i = 0; i < cardsPerSample; i++) {
+        int j = i + random.nextInt(unseenCount - i);
+        int card = unseenCards[j];
+        unseenCards[j] = unseenCards[i];
+        unseenCards[i] = card;
+        opponentCards[i] = card;
+      }
+      handEvaluator.evaluateAll(opponentCards, opponentScores, opponentCount);
+      wins += shareOfPot(ownScore, opponentCount);
+      samples++;
+    }
+    lastSamples = samples;
+    lastEquity = wins / samples;
+    return lastEquity;
+  }
+
+  protected double shareOfPot(long ownScore, int opponentCount) {
+    int tied = 1;
+    for (int i = 0; i < opponentCount; i++) {
+      if (opponentScores[i] > ownScore) return 0;
+      if (opponentScores[i] == ownScore) tied++;
+    }
+    return 1.0 / tied;
+  }
+
+  public double getLastEquity() {
+    return lastEquity;
+  }
+
+  public int getLastSamples() {
+    return lastSamples;
+  }
+}
@@ -0,0 +1,16 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+
+public class FixedBidStrategy implements BidStrategy {
+  private final int bid;
+
+  public FixedBidStrategy(int bid) {
+    this.bid = bid;
+  }
+
+  @Override
+  public int getExtraBid(Hand hand, int maxPossibleBid) {
+    return Math.min(bid, maxPossibleBid);
+  }
+}
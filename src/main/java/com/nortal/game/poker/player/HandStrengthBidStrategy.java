@@ -0,0 +1,19 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+public class HandStrengthBidStrategy implements BidStrategy {
+  private final HandEvaluator handEvaluator;
+  private final long minimumHandValue;
+
+  public HandStrengthBidStrategy(HandEvaluator handEvaluator, long minimumHandValue) {
+    this.handEvaluator = handEvaluator;
+    this.minimumHandValue = minimumHandValue;
+  }
+
+  @Override
+  public int getExtraBid(Hand hand, int maxPossibleBid) {
+    return handEvaluator.evaluate(hand) >= minimumHandValue ? maxPossibleBid : 0;
+  }
+}
@@ -1,7 +1,13 @@
 package com.nortal.game.poker.player;
 
+import com.nortal.game.poker.ledger.ChipAccount;
+
 public class Human extends Player {
   public Human(String name) {
     super(name);
   }
+
+  public Human(String name, ChipAccount account) {
+    super(name, account);
+  }
 }
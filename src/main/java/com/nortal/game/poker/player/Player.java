@@ -1,32 +1,46 @@
 package com.nortal.game.poker.player;
 
+import com.nortal.game.poker.ledger.ChipAccount;
+
 public abstract class Player {
   protected String name;
-  protected int chips;
+  protected final ChipAccount account;
 
   public Player(String name) {
+    this(name, new ChipAccount());
+  }
+
+  public Player(String name, ChipAccount account) {
     this.name = name;
+    this.account = account;
   }
 
   public void setChips(int chips) {
-    this.chips = chips;
+    account.setBalance(chips);
   };
 
   public void addChips(int chips) {
-    this.chips += chips;
+    account.credit(chips);
   };
 
   public void takeChips(int chipsToTake) {
-    if (chips < chipsToTake) throw new RuntimeException("User does not have that many chips");
-    chips -= chipsToTake;
+    account.debit(chipsToTake);
+  }
+
+  public boolean tryTakeChips(int chipsToTake) {
+    return account.tryDebit(chipsToTake);
   }
 
   public boolean hasChips() {
-    return chips > 0;
+    return account.getBalance() > 0;
   }
 
   public int chipCount() {
-    return chips;
+    return account.getBalance();
+  }
+
+  public ChipAccount getAccount() {
+    return account;
   }
 
   public String getName() {
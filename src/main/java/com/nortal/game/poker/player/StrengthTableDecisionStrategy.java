@@ -0,0 +1,41 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.equity.OpeningHandStrength;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+
+public class StrengthTableDecisionStrategy implements DecisionStrategy {
+  protected final HandEvaluator handEvaluator;
+  protected final OpeningHandStrength strength;
+  protected final double kellyFraction;
+  protected final CompactHand ownHand = new CompactHand();
+
+  public StrengthTableDecisionStrategy(HandEvaluator handEvaluator, double kellyFraction) {
+    this(handEvaluator, OpeningHandStrength.getDefault(), kellyFraction);
+  }
+
+  public StrengthTableDecisionStrategy(HandEvaluator handEvaluator, OpeningHandStrength strength, double kellyFraction) {
+    if (kellyFraction <= 0 || kellyFraction > 1) throw new RuntimeException("Kelly fraction must be in (0, 1]: " + kellyFraction);
+    this.handEvaluator = handEvaluator;
+    this.strength = strength;
+    this.kellyFraction = kellyFraction;
+  }
+
+  @Override
+  public boolean isCooperative() {
+    return true;
+  }
+
+  @Override
+  public int decideExtraBid(DecisionContext context) {
+    int playerCount = context.getPlayerCount();
+    if (context.getCardCount() != CompactHand.MAX_CARDS || playerCount < 2) return 0;
+    ownHand.clear();
+    for (int i = 0; i < CompactHand.MAX_CARDS; i++) {
+      ownHand.add(context.getCard(i));
+    }
+    int opponents = Math.min(playerCount - 1, strength.getMaxOpponents());
+    double equity = strength.getWinProbability(handEvaluator.evaluate(ownHand), opponents);
+    return EquityDecisionStrategy.kellyBid(context, equity, kellyFraction);
+  }
+}
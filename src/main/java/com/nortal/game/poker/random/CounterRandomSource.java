@@ -0,0 +1,23 @@
+package com.nortal.game.poker.random;
+
+public class CounterRandomSource extends LongRandomSource implements SeekableRandomSource {
+  protected final long seed;
+  protected long key;
+  protected long counter;
+
+  public CounterRandomSource(long seed) {
+    this.seed = seed;
+    seek(0);
+  }
+
+  @Override
+  public void seek(long stream) {
+    key = splitMix64(seed + splitMix64(stream * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    counter = 0;
+  }
+
+  @Override
+  public long nextLong() {
+    return splitMix64(key + ++counter * GOLDEN_GAMMA);
+  }
+}
@@ -0,0 +1,25 @@
+package com.nortal.game.poker.random;
+
+public abstract class LongRandomSource implements RandomSource {
+  protected static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  public abstract long nextLong();
+
+  @Override
+  public int nextInt(int bound) {
+    if (bound <= 0) throw new RuntimeException("Bound must be positive: " + bound);
+    int bits = (int) (nextLong() >>> 33);
+    int value = bits % bound;
+    while (bits - value + (bound - 1) < 0) {
+      bits = (int) (nextLong() >>> 33);
+      value = bits % bound;
+    }
+    return value;
+  }
+
+  protected static long splitMix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,5 @@
+package com.nortal.game.poker.random;
+
+public interface RandomSource {
+  int nextInt(int bound);
+}
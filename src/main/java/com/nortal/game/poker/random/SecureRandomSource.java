@@ -0,0 +1,20 @@
+package com.nortal.game.poker.random;
+
+import java.security.SecureRandom;
+
+public class SecureRandomSource implements RandomSource {
+  protected final SecureRandom random;
+
+  public SecureRandomSource() {
+    this(new SecureRandom());
+  }
+
+  public SecureRandomSource(SecureRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+}
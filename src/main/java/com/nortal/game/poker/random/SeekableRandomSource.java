@@ -0,0 +1,5 @@
+package com.nortal.game.poker.random;
+
+public interface SeekableRandomSource extends RandomSource {
+  void seek(long stream);
+}
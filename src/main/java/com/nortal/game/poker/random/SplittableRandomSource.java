@@ -0,0 +1,28 @@
+package com.nortal.game.poker.random;
+
+import java.util.SplittableRandom;
+
+public class SplittableRandomSource implements RandomSource {
+  protected final SplittableRandom random;
+
+  public SplittableRandomSource() {
+    this(new SplittableRandom());
+  }
+
+  public SplittableRandomSource(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  public SplittableRandomSource(SplittableRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+
+  public SplittableRandomSource split() {
+    return new SplittableRandomSource(random.split());
+  }
+}
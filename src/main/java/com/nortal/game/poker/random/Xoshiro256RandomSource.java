@@ -0,0 +1,29 @@
+package com.nortal.game.poker.random;
+
+public class Xoshiro256RandomSource extends LongRandomSource {
+  private long s0;
+  private long s1;
+  private long s2;
+  private long s3;
+
+  public Xoshiro256RandomSource(long seed) {
+    long state = seed;
+    s0 = splitMix64(state += GOLDEN_GAMMA);
+    s1 = splitMix64(state += GOLDEN_GAMMA);
+    s2 = splitMix64(state += GOLDEN_GAMMA);
+    s3 = splitMix64(state + GOLDEN_GAMMA);
+  }
+
+  @Override
+  public long nextLong() {
+    long result = Long.rotateLeft(s1 * 5, 7) * 9;
+    long t = s1 << 17;
+    s2 ^= s0;
+    s3 ^= s1;
+    s1 ^= s2;
+    s0 ^= s3;
+    s2 ^= t;
+    s3 = Long.rotateLeft(s3, 45);
+    return result;
+  }
+}
@@ -0,0 +1,106 @@
+package com.nortal.game.poker.recovery;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class BoardSnapshot {
+  public static final byte HUMAN = 0;
+  public static final byte COMPUTER = 1;
+
+  protected final long tableId;
+  protected final long sequence;
+  protected final long round;
+  protected final int cardsShared;
+  protected final String[] playerNames;
+  protected final byte[] playerKinds;
+  protected final int[] playerChips;
+  protected final int[] chipsOnBoard;
+
+  public BoardSnapshot(long tableId, long sequence, long round, int cardsShared, String[] playerNames,
+                       byte[] playerKinds, int[] playerChips, int[] chipsOnBoard) {
+    this.tableId = tableId;
+    this.sequence = sequence;
+    this.round = round;
+    this.cardsShared = cardsShared;
+    this.playerNames = playerNames;
+    this.playerKinds = playerKinds;
+    this.playerChips = playerChips;
+    this.chipsOnBoard = chipsOnBoard;
+  }
+
+  public long getTableId() {
+    return tableId;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public long getRound() {
+    return round;
+  }
+
+  public int getCardsShared() {
+    return cardsShared;
+  }
+
+  public int getPlayerCount() {
+    return playerNames.length;
+  }
+
+  public String getPlayerName(int seat) {
+    return playerNames[seat];
+  }
+
+  public byte getPlayerKind(int seat) {
+    return playerKinds[seat];
+  }
+
+  public int getPlayerChips(int seat) {
+    return playerChips[seat];
+  }
+
+  public int getChipsOnBoard(int seat) {
+    return chipsOnBoard[seat];
+  }
+
+  public int encodedSize() {
+    int size = 8 + 8 + 8 + 1 + 1;
+    for (String name : playerNames) {
+      size += 1 + 4 + 4 + 2 + name.getBytes(StandardCharsets.UTF_8).length;
+    }
+    return size;
+  }
+
+  public void encode(ByteBuffer buffer) {
+    buffer.putLong(tableId).putLong(sequence).putLong(round);
+    buffer.put((byte) cardsShared).put((byte) playerNames.length);
+    for (int seat = 0; seat < playerNames.length; seat++) {
+      byte[] name = playerNames[seat].getBytes(StandardCharsets.UTF_8);
+      buffer.put(playerKinds[seat]).putInt(playerChips[seat]).putInt(chipsOnBoard[seat]);
+      buffer.putShort((short) name.length).put(name);
+    }
+  }
+
+  public static BoardSnapshot decode(ByteBuffer buffer) {
+    long tableId = buffer.getLong();
+    long sequence = buffer.getLong();
+    long round = buffer.getLong();
+    int cardsShared = buffer.get();
+    int playerCount = buffer.get();
+    String[] playerNames = new String[playerCount];
+    byte[] playerKinds = new byte[playerCount];
+    int[] playerChips = new int[playerCount];
+    int[] chipsOnBoard = new int[playerCount];
+    for (int seat = 0; seat < playerCount; seat++) {
+      playerKinds[seat] = buffer.get();
+      playerChips[seat] = buffer.getInt();
+      chipsOnBoard[seat] = buffer.getInt();
+      byte[] name = new byte[buffer.getShort()];
+      buffer.get(name);
+      playerNames[seat] = new String(name, StandardCharsets.UTF_8);
+    }
+    return new BoardSnapshot(tableId, sequence, round, cardsShared, playerNames, playerKinds, playerChips,
+        chipsOnBoard);
+  }
+}
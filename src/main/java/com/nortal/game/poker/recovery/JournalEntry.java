@@ -0,0 +1,66 @@
+package com.nortal.game.poker.recovery;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+public class JournalEntry {
+  public static final byte DEAL = 1;
+  public static final byte RAISE = 2;
+  public static final byte WIN = 3;
+  public static final byte RETURN = 4;
+  public static final int SIZE = 32;
+  protected static final int CHECKSUM_OFFSET = SIZE - 4;
+
+  protected final long tableId;
+  protected final long sequence;
+  protected final byte action;
+  protected final long argument;
+
+  public JournalEntry(long tableId, long sequence, byte action, long argument) {
+    this.tableId = tableId;
+    this.sequence = sequence;
+    this.action = action;
+    this.argument = argument;
+  }
+
+  public long getTableId() {
+    return tableId;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public byte getAction() {
+    return action;
+  }
+
+  public long getArgument() {
+    return argument;
+  }
+
+  static void write(ByteBuffer buffer, long tableId, long sequence, byte action, long argument) {
+    int offset = buffer.position();
+    buffer.putLong(tableId).putLong(sequence).putLong(argument).put(action).put((byte) 0).putShort((short) 0);
+    buffer.putInt(checksum(buffer, offset));
+  }
+
+  static JournalEntry read(ByteBuffer buffer) {
+    int offset = buffer.position();
+    if (buffer.remaining() < SIZE || buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(buffer, offset)) return null;
+    long tableId = buffer.getLong();
+    long sequence = buffer.getLong();
+    long argument = buffer.getLong();
+    byte action = buffer.get();
+    buffer.position(offset + SIZE);
+    return new JournalEntry(tableId, sequence, action, argument);
+  }
+
+  private static int checksum(ByteBuffer buffer, int offset) {
+    ByteBuffer checked = buffer.duplicate();
+    checked.limit(offset + CHECKSUM_OFFSET).position(offset);
+    CRC32 crc = new CRC32();
+    crc.update(checked);
+    return (int) crc.getValue();
+  }
+}
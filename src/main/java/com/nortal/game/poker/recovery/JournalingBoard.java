@@ -0,0 +1,162 @@
+package com.nortal.game.poker.recovery;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+
+import java.util.List;
+
+public class JournalingBoard extends Board {
+  public static final int SNAPSHOT_EVERY_ROUNDS = 16;
+
+  protected final TableStore store;
+  protected final long tableId;
+  protected long sequence;
+  protected long round = -1;
+  protected long nextRound;
+  protected int roundsSinceSnapshot;
+  protected boolean snapshotSubmitted;
+
+  public JournalingBoard(Deck deck, HandEvaluator handEvaluator, TableStore store, long tableId) {
+    super(deck, handEvaluator);
+    this.store = store;
+    this.tableId = tableId;
+  }
+
+  public static JournalingBoard restore(RecoveredTable table, Deck deck, HandEvaluator handEvaluator,
+                                        TableStore store) {
+    BoardSnapshot snapshot = table.getSnapshot();
+    JournalingBoard board = new JournalingBoard(deck, handEvaluator, store, snapshot.getTableId());
+    for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+      Player player = snapshot.getPlayerKind(seat) == BoardSnapshot.COMPUTER
+          ? new Computer(snapshot.getPlayerName(seat))
+          : new Human(snapshot.getPlayerName(seat));
+      player.setChips(snapshot.getPlayerChips(seat));
+      board.addPlayer(player);
+      board.chipsOnBoard[seat] = snapshot.getChipsOnBoard(seat);
+    }
+    board.snapshotSubmitted = true;
+    board.sequence = snapshot.getSequence();
+    board.round = snapshot.getRound();
+    board.nextRound = snapshot.getRound() + 1;
+    if (snapshot.getCardsShared() > 0 && snapshot.getRound() >= 0) {
+      board.collectCardsFromPlayers();
+      board.shuffleCards(snapshot.getRound());
+      board.dealCards();
+    }
+    List<JournalEntry> journal = table.getJournal();
+    int openDeal = -1;
+    for (int i = 0; i < journal.size(); i++) {
+      byte action = journal.get(i).getAction();
+      if (action == JournalEntry.DEAL) openDeal = i;
+      if (action == JournalEntry.WIN || action == JournalEntry.RETURN) openDeal = -1;
+    }
+    for (int i = 0; i < journal.size(); i++) {
+      board.replay(journal.get(i), i == openDeal);
+    }
+    return board;
+  }
+
+  public long getTableId() {
+    return tableId;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  @Override
+  public void deal() {
+    deal(nextRound);
+  }
+
+  @Override
+  public void deal(long round) {
+    if (!snapshotSubmitted) submitSnapshot();
+    super.deal(round);
+    startRound(round);
+    journal(JournalEntry.DEAL, round);
+  }
+
+  @Override
+  public void raiseBid(int extraBid) {
+    super.raiseBid(extraBid);
+    journal(JournalEntry.RAISE, extraBid);
+  }
+
+  @Override
+  public void giveChipsOnBoardToPlayer(Player newChipOwner) {
+    super.giveChipsOnBoardToPlayer(newChipOwner);
+    journal(JournalEntry.WIN, indexOf(newChipOwner));
+    endRound();
+  }
+
+  @Override
+  public void giveChipsBackToPlayers() {
+    super.giveChipsBackToPlayers();
+    journal(JournalEntry.RETURN, 0);
+    endRound();
+  }
+
+  public void submitSnapshot() {
+    store.snapshot(snapshot());
+    snapshotSubmitted = true;
+    roundsSinceSnapshot = 0;
+  }
+
+  public BoardSnapshot snapshot() {
+    String[] playerNames = new String[playerCount];
+    byte[] playerKinds = new byte[playerCount];
+    int[] playerChips = new int[playerCount];
+    int[] chipsOnBoard = new int[playerCount];
+    for (int seat = 0; seat < playerCount; seat++) {
+      playerNames[seat] = players[seat].getName();
+      playerKinds[seat] = players[seat] instanceof Computer ? BoardSnapshot.COMPUTER : BoardSnapshot.HUMAN;
+      playerChips[seat] = players[seat].chipCount();
+      chipsOnBoard[seat] = this.chipsOnBoard[seat];
+    }
+    return new BoardSnapshot(tableId, sequence, round, deck == null ? 0 : deck.getCardsShared(), playerNames,
+        playerKinds, playerChips, chipsOnBoard);
+  }
+
+  protected void replay(JournalEntry entry, boolean dealCards) {
+    switch (entry.getAction()) {
+      case JournalEntry.DEAL:
+        if (dealCards) {
+          super.deal(entry.getArgument());
+        } else {
+          takeChipsFromEveryPlayer(1);
+        }
+        startRound(entry.getArgument());
+        break;
+      case JournalEntry.RAISE:
+        super.raiseBid((int) entry.getArgument());
+        break;
+      case JournalEntry.WIN:
+        super.giveChipsOnBoardToPlayer(players[(int) entry.getArgument()]);
+        break;
+      case JournalEntry.RETURN:
+        super.giveChipsBackToPlayers();
+        break;
+      default:
+        throw new RuntimeException("Unknown journal action: " + entry.getAction());
+    }
+    sequence = entry.getSequence();
+  }
+
+  protected void startRound(long round) {
+    this.round = round;
+    nextRound = round + 1;
+  }
+
+  protected void journal(byte action, long argument) {
+    store.journal(tableId, ++sequence, action, argument);
+  }
+
+  protected void endRound() {
+    if (++roundsSinceSnapshot >= SNAPSHOT_EVERY_ROUNDS) submitSnapshot();
+  }
+}
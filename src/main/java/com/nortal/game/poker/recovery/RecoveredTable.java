@@ -0,0 +1,21 @@
+package com.nortal.game.poker.recovery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecoveredTable {
+  protected final BoardSnapshot snapshot;
+  protected final List<JournalEntry> journal = new ArrayList<>();
+
+  public RecoveredTable(BoardSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  public BoardSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  public List<JournalEntry> getJournal() {
+    return journal;
+  }
+}
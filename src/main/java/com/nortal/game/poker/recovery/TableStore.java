@@ -0,0 +1,335 @@
+package com.nortal.game.poker.recovery;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+public class TableStore implements Closeable {
+  public static final String SNAPSHOT_FILE = "tables.snapshot";
+  public static final int SNAPSHOT_MAGIC = 0x50534E50;
+  public static final int SNAPSHOT_VERSION = 1;
+  protected static final String JOURNAL_PREFIX = "journal-";
+  protected static final String JOURNAL_SUFFIX = ".log";
+  protected static final long JOURNAL_FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  protected static final int INITIAL_JOURNAL_BUFFER = 1 << 16;
+  public static final int DEFAULT_MAX_JOURNAL_BUFFER = 1 << 24;
+
+  protected final Path directory;
+  protected final long snapshotIntervalNanos;
+  protected final int maxJournalBuffer;
+  protected final Map<Long, BoardSnapshot> latestSnapshots = new ConcurrentHashMap<>();
+  protected final TreeMap<Long, Map<Long, Long>> segmentSequences = new TreeMap<>();
+  protected ByteBuffer pendingJournal;
+  protected ByteBuffer writingJournal;
+  protected FileChannel journalChannel;
+  protected long journalSegment;
+  protected final Thread writerThread;
+  protected volatile boolean running = true;
+  protected volatile Exception failure;
+  protected boolean newTables;
+
+  public TableStore(Path directory, long snapshotIntervalMillis) throws IOException {
+    this(directory, snapshotIntervalMillis, DEFAULT_MAX_JOURNAL_BUFFER);
+  }
+
+  public TableStore(Path directory, long snapshotIntervalMillis, int maxJournalBuffer) throws IOException {
+    if (maxJournalBuffer < JournalEntry.SIZE) throw new RuntimeException("Journal buffer is too small: " + maxJournalBuffer);
+    this.directory = directory;
+    this.snapshotIntervalNanos = TimeUnit.MILLISECONDS.toNanos(snapshotIntervalMillis);
+    this.maxJournalBuffer = maxJournalBuffer;
+    pendingJournal = ByteBuffer.allocate(Math.min(INITIAL_JOURNAL_BUFFER, maxJournalBuffer));
+    writingJournal = ByteBuffer.allocate(Math.min(INITIAL_JOURNAL_BUFFER, maxJournalBuffer));
+    Files.createDirectories(directory);
+    for (Map.Entry<Long, Path> segment : journalSegments(directory).entrySet()) {
+      Map<Long, Long> sequences = new HashMap<>();
+      for (JournalEntry entry : readJournal(segment.getValue())) {
+        sequences.merge(entry.getTableId(), entry.getSequence(), Math::max);
+      }
+      segmentSequences.put(segment.getKey(), sequences);
+    }
+    Map<Long, BoardSnapshot> snapshots = readSnapshots(directory);
+    latestSnapshots.putAll(snapshots);
+    openJournalSegment(segmentSequences.isEmpty() ? 0 : segmentSequences.lastKey() + 1);
+    writerThread = new Thread(this::writeLoop, "table-store-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  public void journal(long tableId, long sequence, byte action, long argument) {
+    synchronized (this) {
+      while (pendingJournal.remaining() < JournalEntry.SIZE) {
+        checkFailure();
+        if (pendingJournal.capacity() < maxJournalBuffer) {
+          ByteBuffer larger = ByteBuffer.allocate((int) Math.min((long) pendingJournal.capacity() * 2, maxJournalBuffer));
+          pendingJournal.flip();
+          larger.put(pendingJournal);
+          pendingJournal = larger;
+        } else {
+          LockSupport.unpark(writerThread);
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for journal space", e);
+          }
+        }
+      }
+      checkFailure();
+      JournalEntry.write(pendingJournal, tableId, sequence, action, argument);
+    }
+  }
+
+  public void snapshot(BoardSnapshot snapshot) {
+    checkFailure();
+    synchronized (this) {
+      if (!latestSnapshots.containsKey(snapshot.getTableId())) newTables = true;
+      latestSnapshots.merge(snapshot.getTableId(), snapshot,
+          (current, next) -> next.getSequence() >= current.getSequence() ? next : current);
+    }
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  public Exception getFailure() {
+    return failure;
+  }
+
+  @Override
+  public void close() throws IOException {
+    running = false;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      journalChannel.close();
+      throw new IOException("Table store failed", failure);
+    }
+    flushJournal();
+    writeSnapshots();
+    journalChannel.close();
+  }
+
+  public static Map<Long, RecoveredTable> recover(Path directory) throws IOException {
+    Map<Long, RecoveredTable> tables = new HashMap<>();
+    for (BoardSnapshot snapshot : readSnapshots(directory).values()) {
+      tables.put(snapshot.getTableId(), new RecoveredTable(snapshot));
+    }
+    for (Path segment : journalSegments(directory).values()) {
+      for (JournalEntry entry : readJournal(segment)) {
+        RecoveredTable table = tables.get(entry.getTableId());
+        if (table != null && entry.getSequence() > lastSequence(table)) table.getJournal().add(entry);
+      }
+    }
+    return tables;
+  }
+
+  protected static long lastSequence(RecoveredTable table) {
+    List<JournalEntry> journal = table.getJournal();
+    return journal.isEmpty() ? table.getSnapshot().getSequence() : journal.get(journal.size() - 1).getSequence();
+  }
+
+  protected void writeLoop() {
+    long nextSnapshot = System.nanoTime() + snapshotIntervalNanos;
+    try {
+      while (running) {
+        LockSupport.parkNanos(JOURNAL_FLUSH_NANOS);
+        if (flushJournal(System.nanoTime() - nextSnapshot >= 0)) {
+          nextSnapshot = System.nanoTime() + snapshotIntervalNanos;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      failure = e;
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+  }
+
+  protected void checkFailure() {
+    if (failure != null) throw new RuntimeException("Table store failed", failure);
+  }
+
+  protected void flushJournal() throws IOException {
+    flushJournal(false);
+  }
+
+  protected boolean flushJournal(boolean snapshotDue) throws IOException {
+    synchronized (this) {
+      ByteBuffer swap = writingJournal;
+      writingJournal = pendingJournal;
+      pendingJournal = swap;
+      snapshotDue |= newTables;
+      notifyAll();
+    }
+    if (snapshotDue) writeSnapshots();
+    writingJournal.flip();
+    if (!writingJournal.hasRemaining()) {
+      writingJournal.clear();
+      return snapshotDue;
+    }
+    Map<Long, Long> sequences = segmentSequences.get(journalSegment);
+    for (int offset = writingJournal.position(); offset < writingJournal.limit(); offset += JournalEntry.SIZE) {
+      sequences.merge(writingJournal.getLong(offset), writingJournal.getLong(offset + 8), Math::max);
+    }
+    while (writingJournal.hasRemaining()) {
+      journalChannel.write(writingJournal);
+    }
+    journalChannel.force(false);
+    writingJournal.clear();
+    return snapshotDue;
+  }
+
+  protected void writeSnapshots() throws IOException {
+    Map<Long, BoardSnapshot> snapshots;
+    synchronized (this) {
+      snapshots = new HashMap<>(latestSnapshots);
+      newTables = false;
+    }
+    int size = 12;
+    for (BoardSnapshot snapshot : snapshots.values()) {
+      size += 4 + snapshot.encodedSize();
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size + 4);
+    buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(snapshots.size());
+    for (BoardSnapshot snapshot : snapshots.values()) {
+      buffer.putInt(snapshot.encodedSize());
+      snapshot.encode(buffer);
+    }
+    buffer.putInt(checksum(buffer.array(), size));
+    buffer.flip();
+
+    Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+
+    journalChannel.close();
+    openJournalSegment(journalSegment + 1);
+    compactSegments(snapshots);
+  }
+
+  protected void compactSegments(Map<Long, BoardSnapshot> snapshots) throws IOException {
+    Iterator<Map.Entry<Long, Map<Long, Long>>> segments = segmentSequences.entrySet().iterator();
+    while (segments.hasNext()) {
+      Map.Entry<Long, Map<Long, Long>> segment = segments.next();
+      if (segment.getKey() == journalSegment) continue;
+      boolean covered = true;
+      for (Map.Entry<Long, Long> table : segment.getValue().entrySet()) {
+        BoardSnapshot snapshot = snapshots.get(table.getKey());
+        if (snapshot != null && snapshot.getSequence() < table.getValue()) {
+          covered = false;
+          break;
+        }
+      }
+      Path path = journalPath(directory, segment.getKey());
+      if (!covered) carryForward(readJournal(path), snapshots);
+      Files.deleteIfExists(path);
+      segments.remove();
+    }
+  }
+
+  protected void carryForward(List<JournalEntry> entries, Map<Long, BoardSnapshot> snapshots) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(entries.size() * JournalEntry.SIZE);
+    Map<Long, Long> sequences = segmentSequences.get(journalSegment);
+    for (JournalEntry entry : entries) {
+      BoardSnapshot snapshot = snapshots.get(entry.getTableId());
+      if (snapshot == null || entry.getSequence() <= snapshot.getSequence()) continue;
+      JournalEntry.write(buffer, entry.getTableId(), entry.getSequence(), entry.getAction(), entry.getArgument());
+      sequences.merge(entry.getTableId(), entry.getSequence(), Math::max);
+    }
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      journalChannel.write(buffer);
+    }
+    journalChannel.force(false);
+  }
+
+  protected void openJournalSegment(long segment) throws IOException {
+    journalSegment = segment;
+    segmentSequences.put(segment, new HashMap<>());
+    journalChannel = FileChannel.open(journalPath(directory, segment), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  protected static Map<Long, BoardSnapshot> readSnapshots(Path directory) throws IOException {
+    Map<Long, BoardSnapshot> snapshots = new HashMap<>();
+    Path path = directory.resolve(SNAPSHOT_FILE);
+    if (!Files.exists(path)) return snapshots;
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    if (buffer.remaining() < 16 || buffer.getInt(0) != SNAPSHOT_MAGIC
+        || buffer.getInt(buffer.limit() - 4) != checksum(buffer.array(), buffer.limit() - 4)) {
+      throw new RuntimeException("Corrupt table snapshot: " + path);
+    }
+    if (buffer.getInt(4) != SNAPSHOT_VERSION) throw new RuntimeException("Unsupported snapshot version: " + path);
+    buffer.position(8);
+    int count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      int size = buffer.getInt();
+      int end = buffer.position() + size;
+      BoardSnapshot snapshot = BoardSnapshot.decode(buffer);
+      buffer.position(end);
+      snapshots.put(snapshot.getTableId(), snapshot);
+    }
+    return snapshots;
+  }
+
+  protected static List<JournalEntry> readJournal(Path segment) throws IOException {
+    List<JournalEntry> entries = new ArrayList<>();
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+    JournalEntry entry;
+    while ((entry = JournalEntry.read(buffer)) != null) {
+      entries.add(entry);
+    }
+    return entries;
+  }
+
+  protected static TreeMap<Long, Path> journalSegments(Path directory) throws IOException {
+    TreeMap<Long, Path> segments = new TreeMap<>();
+    if (!Files.isDirectory(directory)) return segments;
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, JOURNAL_PREFIX + "*" + JOURNAL_SUFFIX)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        segments.put(Long.parseLong(name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length())),
+            file);
+      }
+    }
+    return segments;
+  }
+
+  protected static Path journalPath(Path directory, long segment) {
+    return directory.resolve(JOURNAL_PREFIX + segment + JOURNAL_SUFFIX);
+  }
+
+  private static int checksum(byte[] bytes, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, length);
+    return (int) crc.getValue();
+  }
+}
@@ -0,0 +1,53 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.AsyncPoker;
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.random.SecureRandomSource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public class AsyncGameServer extends GameServer {
+  public static final long DEFAULT_BID_TIMEOUT_MILLIS = 30_000;
+
+  protected final long bidTimeoutMillis;
+
+  public AsyncGameServer(Supplier<Deck> deckFactory, HandEvaluator handEvaluator, ExecutorService tableExecutor,
+                         long bidTimeoutMillis) {
+    super(deckFactory, handEvaluator, tableExecutor);
+    this.bidTimeoutMillis = bidTimeoutMillis;
+  }
+
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    long bidTimeoutMillis = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_BID_TIMEOUT_MILLIS;
+    GameServer server = new AsyncGameServer(() -> new Deck(new SecureRandomSource()), new LookupTableHandEvaluator(),
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), bidTimeoutMillis);
+    server.start(new InetSocketAddress(port));
+    System.out.println("Listening on port " + server.getPort());
+  }
+
+  @Override
+  protected void startTable(NetworkSession session) {
+    long tableId = nextTableId.incrementAndGet();
+    Human human = createHuman(tableId);
+    Computer computer = createComputer(tableId);
+    Board board = createBoard(tableId, human, computer);
+    AsyncPoker poker = new AsyncPoker(board, new NetworkAsyncUI(session, board), human, computer, tableExecutor,
+        bidTimeoutMillis);
+
+    activeTables.incrementAndGet();
+    poker.play().whenComplete((result, error) -> {
+      if (error != null) session.close();
+      finishTable(tableId, session);
+    });
+  }
+}
@@ -0,0 +1,335 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.Poker;
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.ledger.ChipLedger;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.metrics.InstrumentedBoard;
+import com.nortal.game.poker.metrics.InstrumentedHandEvaluator;
+import com.nortal.game.poker.metrics.InstrumentedUI;
+import com.nortal.game.poker.metrics.MetricsHttpEndpoint;
+import com.nortal.game.poker.metrics.MetricsMBean;
+import com.nortal.game.poker.metrics.MetricsRegistry;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.random.SecureRandomSource;
+import com.nortal.game.poker.recovery.JournalingBoard;
+import com.nortal.game.poker.recovery.RecoveredTable;
+import com.nortal.game.poker.recovery.TableStore;
+import com.nortal.game.poker.ui.UI;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+public class GameServer {
+  public static final int DEFAULT_PORT = 7777;
+  public static final int STARTING_CHIPS = 20;
+  public static final int ACCEPT_BACKLOG = 1024;
+  public static final long ACCEPT_BACKOFF_MILLIS = 100;
+  public static final long SNAPSHOT_INTERVAL_MILLIS = 1000;
+
+  protected final LongFunction<Deck> deckFactory;
+  protected final HandEvaluator handEvaluator;
+  protected final ExecutorService tableExecutor;
+  protected final Queue<NetworkSession> pendingWrites = new ConcurrentLinkedQueue<>();
+  protected final AtomicInteger activeTables = new AtomicInteger();
+  protected final LongAdder completedTables = new LongAdder();
+  protected final AtomicLong nextTableId = new AtomicLong();
+  protected final ChipLedger ledger = new ChipLedger();
+  protected final LongAdder failedAccepts = new LongAdder();
+  protected final MetricsRegistry metrics;
+  protected final TableStore tableStore;
+  protected final Map<Long, JournalingBoard> recoveredTables = new ConcurrentHashMap<>();
+  protected Selector selector;
+  protected ServerSocketChannel serverChannel;
+  protected Thread selectorThread;
+  protected volatile boolean running;
+  protected boolean acceptPaused;
+  protected long acceptResumeNanos;
+
+  public GameServer(Supplier<Deck> deckFactory, HandEvaluator handEvaluator, ExecutorService tableExecutor) {
+    this(deckFactory, handEvaluator, tableExecutor, null);
+  }
+
+  public GameServer(Supplier<Deck> deckFactory, HandEvaluator handEvaluator, ExecutorService tableExecutor,
+                    MetricsRegistry metrics) {
+    this(tableId -> deckFactory.get(), handEvaluator, tableExecutor, metrics, null);
+  }
+
+  public GameServer(LongFunction<Deck> deckFactory, HandEvaluator handEvaluator, ExecutorService tableExecutor,
+                    MetricsRegistry metrics, TableStore tableStore) {
+    this.deckFactory = deckFactory;
+    this.handEvaluator = metrics == null ? handEvaluator : new InstrumentedHandEvaluator(handEvaluator, metrics);
+    this.tableExecutor = tableExecutor;
+    this.metrics = metrics;
+    this.tableStore = tableStore;
+  }
+
+  public static void main(String[] args) throws IOException, JMException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    ExecutorService tableExecutor = args.length > 1
+        ? Executors.newFixedThreadPool(Integer.parseInt(args[1]))
+        : Executors.newVirtualThreadPerTaskExecutor();
+    MetricsRegistry metrics = new MetricsRegistry();
+    GameServer server;
+    if (args.length > 3) {
+      long seed = Long.parseLong(args[3]);
+      TableStore tableStore = new TableStore(Paths.get(args[2]), SNAPSHOT_INTERVAL_MILLIS);
+      server = new GameServer(tableId -> new Deck(new CounterRandomSource(seed + tableId)),
+          new LookupTableHandEvaluator(), tableExecutor, metrics, tableStore);
+      System.out.println("Recovered " + server.recoverTables().size() + " tables from " + args[2]);
+    } else {
+      server = new GameServer(() -> new Deck(new SecureRandomSource()), new LookupTableHandEvaluator(),
+          tableExecutor, metrics);
+    }
+    server.start(new InetSocketAddress(port));
+    MetricsMBean.register(metrics, ManagementFactory.getPlatformMBeanServer());
+    MetricsHttpEndpoint metricsEndpoint = new MetricsHttpEndpoint(metrics);
+    metricsEndpoint.start(new InetSocketAddress(port + 1));
+    System.out.println("Listening on port " + server.getPort() + ", metrics on port " + metricsEndpoint.getPort());
+  }
+
+  public void start(InetSocketAddress address) throws IOException {
+    selector = Selector.open();
+    serverChannel = ServerSocketChannel.open();
+    serverChannel.bind(address, ACCEPT_BACKLOG);
+    serverChannel.configureBlocking(false);
+    serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    running = true;
+    selectorThread = new Thread(this::selectLoop, "game-server-selector");
+    selectorThread.start();
+  }
+
+  public int getPort() {
+    return serverChannel.socket().getLocalPort();
+  }
+
+  public int getActiveTables() {
+    return activeTables.get();
+  }
+
+  public long getCompletedTables() {
+    return completedTables.sum();
+  }
+
+  public ChipLedger getLedger() {
+    return ledger;
+  }
+
+  public long getFailedAccepts() {
+    return failedAccepts.sum();
+  }
+
+  public Map<Long, JournalingBoard> getRecoveredTables() {
+    return Collections.unmodifiableMap(recoveredTables);
+  }
+
+  public Map<Long, JournalingBoard> recoverTables() throws IOException {
+    if (tableStore == null) throw new RuntimeException("Table journaling is not configured");
+    for (RecoveredTable table : TableStore.recover(tableStore.getDirectory()).values()) {
+      long tableId = table.getSnapshot().getTableId();
+      nextTableId.accumulateAndGet(tableId, Math::max);
+      JournalingBoard board = JournalingBoard.restore(table, deckFactory.apply(tableId), handEvaluator, tableStore);
+      if (board.everybodyHasChips()) recoveredTables.put(tableId, board);
+    }
+    return getRecoveredTables();
+  }
+
+  public void stop() throws IOException, InterruptedException {
+    running = false;
+    selector.wakeup();
+    selectorThread.join();
+    for (SelectionKey key : selector.keys()) {
+      if (key.attachment() instanceof NetworkSession) ((NetworkSession) key.attachment()).close();
+    }
+    serverChannel.close();
+    selector.close();
+    tableExecutor.shutdownNow();
+  }
+
+  protected void requestWrite(NetworkSession session) {
+    pendingWrites.add(session);
+    selector.wakeup();
+  }
+
+  protected void selectLoop() {
+    try {
+      while (running) {
+        if (acceptPaused) selector.select(ACCEPT_BACKOFF_MILLIS);
+        else selector.select();
+        resumeAcceptIfDue();
+        registerPendingWrites();
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          handle(key);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Selector failed", e);
+    }
+  }
+
+  protected void handle(SelectionKey key) {
+    try {
+      if (key.isValid() && key.isAcceptable()) accept(key);
+      if (key.isValid() && key.isReadable()) read(key);
+      if (key.isValid() && key.isWritable()) write(key);
+    } catch (RuntimeException e) {
+      if (key.attachment() instanceof NetworkSession) close(key);
+    }
+  }
+
+  protected void resumeAcceptIfDue() {
+    if (!acceptPaused || System.nanoTime() - acceptResumeNanos < 0) return;
+    acceptPaused = false;
+    SelectionKey acceptKey = serverChannel.keyFor(selector);
+    if (acceptKey != null && acceptKey.isValid()) acceptKey.interestOps(SelectionKey.OP_ACCEPT);
+  }
+
+  protected void registerPendingWrites() {
+    NetworkSession session;
+    while ((session = pendingWrites.poll()) != null) {
+      if (session.key != null && session.key.isValid()) {
+        session.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+      }
+    }
+  }
+
+  protected void accept(SelectionKey acceptKey) {
+    SocketChannel channel;
+    try {
+      channel = acceptChannel();
+    } catch (IOException e) {
+      failedAccepts.increment();
+      acceptKey.interestOps(0);
+      acceptPaused = true;
+      acceptResumeNanos = System.nanoTime() + ACCEPT_BACKOFF_MILLIS * 1_000_000;
+      return;
+    }
+    if (channel == null) return;
+    NetworkSession session = new NetworkSession(channel, this);
+    try {
+      channel.configureBlocking(false);
+      channel.socket().setTcpNoDelay(true);
+      session.key = channel.register(selector, SelectionKey.OP_READ, session);
+    } catch (IOException e) {
+      failedAccepts.increment();
+      session.close();
+      return;
+    }
+    startTable(session);
+  }
+
+  protected SocketChannel acceptChannel() throws IOException {
+    return serverChannel.accept();
+  }
+
+  protected Board createBoard(long tableId, Human human, Computer computer) {
+    Deck deck = deckFactory.apply(tableId);
+    Board board;
+    if (tableStore != null) {
+      // journaled tables replay rounds by number, so they need a seekable deck and skip board instrumentation
+      if (!deck.isSeekable()) throw new RuntimeException("Journaled tables need a seekable deck");
+      board = new JournalingBoard(deck, handEvaluator, tableStore, tableId);
+    } else if (metrics != null) {
+      board = new InstrumentedBoard(deck, handEvaluator, metrics, String.valueOf(tableId));
+    } else {
+      board = new Board(deck, handEvaluator);
+    }
+    return board.addPlayer(human).addPlayer(computer);
+  }
+
+  protected Human createHuman(long tableId) {
+    return new Human("Human", ledger.openAccount(accountName(tableId, "human"), STARTING_CHIPS));
+  }
+
+  protected Computer createComputer(long tableId) {
+    return new Computer("Computer", new FixedBidStrategy(0),
+        ledger.openAccount(accountName(tableId, "computer"), STARTING_CHIPS));
+  }
+
+  protected static String accountName(long tableId, String seat) {
+    return "table-" + tableId + "/" + seat;
+  }
+
+  protected void startTable(NetworkSession session) {
+    long tableId = nextTableId.incrementAndGet();
+    Human human = createHuman(tableId);
+    Computer computer = createComputer(tableId);
+    Board board = createBoard(tableId, human, computer);
+    UI userInterface = new NetworkUI(session, board);
+    if (metrics != null) userInterface = new InstrumentedUI(userInterface, metrics);
+    Poker poker = new Poker(board, userInterface, human, computer);
+
+    activeTables.incrementAndGet();
+    tableExecutor.execute(() -> {
+      try {
+        poker.play();
+      } catch (RuntimeException e) {
+        session.close();
+      } finally {
+        finishTable(tableId, session);
+      }
+    });
+  }
+
+  protected void finishTable(long tableId, NetworkSession session) {
+    session.closeAfterFlush();
+    ledger.closeAccount(accountName(tableId, "human"));
+    ledger.closeAccount(accountName(tableId, "computer"));
+    activeTables.decrementAndGet();
+    completedTables.increment();
+    if (metrics != null) metrics.remove(InstrumentedBoard.tableRoundsName(String.valueOf(tableId)));
+  }
+
+  protected void read(SelectionKey key) {
+    NetworkSession session = (NetworkSession) key.attachment();
+    try {
+      if (!session.read()) close(key);
+    } catch (IOException | RuntimeException e) {
+      close(key);
+    }
+  }
+
+  protected void write(SelectionKey key) {
+    NetworkSession session = (NetworkSession) key.attachment();
+    try {
+      if (!session.flush()) return;
+      if (session.isCloseRequested()) close(key);
+      else key.interestOps(SelectionKey.OP_READ);
+    } catch (IOException e) {
+      close(key);
+    }
+  }
+
+  protected void close(SelectionKey key) {
+    key.cancel();
+    ((NetworkSession) key.attachment()).close();
+  }
+}
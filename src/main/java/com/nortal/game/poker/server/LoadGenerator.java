@@ -0,0 +1,154 @@
+package com.nortal.game.poker.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+public class LoadGenerator {
+  protected final InetSocketAddress address;
+  protected final int tableCount;
+  protected final int extraBid;
+
+  protected long rounds;
+  protected long gamesFinished;
+  protected long totalLatencyNanos;
+  protected long maxLatencyNanos;
+
+  public LoadGenerator(InetSocketAddress address, int tableCount, int extraBid) {
+    this.address = address;
+    this.tableCount = tableCount;
+    this.extraBid = extraBid;
+  }
+
+  public static void main(String[] args) throws IOException {
+    String host = args.length > 0 ? args[0] : "localhost";
+    int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+    int tableCount = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+    int extraBid = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+    LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress(host, port), tableCount, extraBid);
+    long start = System.nanoTime();
+    loadGenerator.run(TimeUnit.MINUTES.toMillis(10));
+    System.out.print(loadGenerator.report(System.nanoTime() - start));
+  }
+
+  public void run(long timeoutMillis) throws IOException {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    try (Selector selector = Selector.open()) {
+      for (int table = 0; table < tableCount; table++) {
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.connect(address);
+        channel.register(selector, SelectionKey.OP_CONNECT, new Connection(channel));
+      }
+      while (gamesFinished < tableCount && System.currentTimeMillis() < deadline) {
+        selector.select(100);
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          Connection connection = (Connection) key.attachment();
+          if (key.isValid() && key.isConnectable()) connection.finishConnect(key);
+          if (key.isValid() && key.isReadable()) connection.read(key);
+          if (key.isValid() && key.isWritable()) connection.write(key);
+        }
+      }
+      for (SelectionKey key : selector.keys()) {
+        key.channel().close();
+      }
+    }
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  public long getGamesFinished() {
+    return gamesFinished;
+  }
+
+  public long getMaxLatencyNanos() {
+    return maxLatencyNanos;
+  }
+
+  public double getMeanLatencyNanos() {
+    return rounds == 0 ? 0 : (double) totalLatencyNanos / rounds;
+  }
+
+  public String report(long elapsedNanos) {
+    double seconds = elapsedNanos / 1e9;
+    return String.format("Tables: %d, games finished: %d, rounds: %d (%.0f rounds/s)%n"
+            + "Bid to result latency: mean %.1f us, max %.1f us%n",
+        tableCount, gamesFinished, rounds, seconds > 0 ? rounds / seconds : 0,
+        getMeanLatencyNanos() / 1e3, maxLatencyNanos / 1e3);
+  }
+
+  protected class Connection {
+    protected final SocketChannel channel;
+    protected final ByteBuffer readBuffer = ByteBuffer.allocate(NetworkSession.READ_BUFFER_SIZE);
+    protected ByteBuffer pendingBid;
+    protected long bidSentAt;
+
+    protected Connection(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    protected void finishConnect(SelectionKey key) throws IOException {
+      if (channel.finishConnect()) key.interestOps(SelectionKey.OP_READ);
+    }
+
+    protected void read(SelectionKey key) throws IOException {
+      if (channel.read(readBuffer) < 0) {
+        finish(key);
+        return;
+      }
+      readBuffer.flip();
+      Protocol.readFrames(readBuffer, (type, payload) -> onFrame(key, type, payload));
+      readBuffer.compact();
+    }
+
+    protected void onFrame(SelectionKey key, byte type, ByteBuffer payload) {
+      switch (type) {
+        case Protocol.BID_REQUEST:
+          int requestId = payload.getInt();
+          pendingBid = Protocol.bid(requestId, Math.min(extraBid, payload.getInt()));
+          bidSentAt = System.nanoTime();
+          key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+          break;
+        case Protocol.WINNER:
+        case Protocol.CHIPS_RETURNED:
+          long latency = System.nanoTime() - bidSentAt;
+          totalLatencyNanos += latency;
+          maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+          rounds++;
+          break;
+        case Protocol.GAME_OVER:
+          finish(key);
+          break;
+        default:
+          break;
+      }
+    }
+
+    protected void write(SelectionKey key) throws IOException {
+      channel.write(pendingBid);
+      if (!pendingBid.hasRemaining()) key.interestOps(SelectionKey.OP_READ);
+    }
+
+    protected void finish(SelectionKey key) {
+      if (!key.isValid()) return;
+      key.cancel();
+      gamesFinished++;
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // nothing more to read from this table
+      }
+    }
+  }
+}
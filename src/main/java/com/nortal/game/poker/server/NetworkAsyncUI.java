@@ -0,0 +1,72 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.AsyncUI;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+public class NetworkAsyncUI extends AsyncUI {
+  protected static final int BATCH_SIZE = 512;
+
+  protected final NetworkSession session;
+  protected final Board board;
+  protected final ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE);
+
+  public NetworkAsyncUI(NetworkSession session, Board board) {
+    this.session = session;
+    this.board = board;
+  }
+
+  @Override
+  public void showPlayerCards(Player player, Hand hand) {
+    append(Protocol.showCards(board.indexOf(player), hand));
+  }
+
+  @Override
+  public CompletableFuture<Integer> getExtraBid(int maxPossibleBid) {
+    int requestId = session.openBidRequest();
+    append(Protocol.bidRequest(requestId, maxPossibleBid));
+    CompletableFuture<Integer> extraBid = session.nextBid(requestId);
+    flush();
+    return extraBid;
+  }
+
+  @Override
+  public void announceWinner(Player winner) {
+    append(Protocol.winner(board.indexOf(winner)));
+  }
+
+  @Override
+  public void announceChipsReturn() {
+    append(Protocol.chipsReturned());
+  }
+
+  @Override
+  public void gameOver() {
+    append(Protocol.gameOver());
+  }
+
+  @Override
+  public void newRound() {
+    append(Protocol.newRound());
+  }
+
+  @Override
+  public void flush() {
+    if (batch.position() == 0) return;
+    batch.flip();
+    ByteBuffer frames = ByteBuffer.allocate(batch.remaining());
+    frames.put(batch);
+    frames.flip();
+    batch.clear();
+    session.send(frames);
+  }
+
+  protected void append(ByteBuffer frame) {
+    if (batch.remaining() < frame.remaining()) flush();
+    batch.put(frame);
+  }
+}
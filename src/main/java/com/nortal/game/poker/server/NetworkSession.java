@@ -0,0 +1,152 @@
+package com.nortal.game.poker.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NetworkSession {
+  protected static final int READ_BUFFER_SIZE = 256;
+  protected static final int CLOSED = Integer.MIN_VALUE;
+  protected static final int BID_QUEUE_CAPACITY = 2;
+
+  protected final SocketChannel channel;
+  protected final GameServer server;
+  protected final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+  protected final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+  protected final BlockingQueue<Integer> bids = new ArrayBlockingQueue<>(BID_QUEUE_CAPACITY);
+  protected final LongAdder droppedBids = new LongAdder();
+  protected SelectionKey key;
+  protected CompletableFuture<Integer> pendingBid;
+  protected boolean bidRequested;
+  protected int bidRequestId;
+  protected volatile boolean closed;
+  protected volatile boolean closeRequested;
+
+  public NetworkSession(SocketChannel channel, GameServer server) {
+    this.channel = channel;
+    this.server = server;
+  }
+
+  public void send(ByteBuffer frame) {
+    if (closed) return;
+    outbound.add(frame);
+    server.requestWrite(this);
+  }
+
+  public void closeAfterFlush() {
+    if (closed) return;
+    closeRequested = true;
+    server.requestWrite(this);
+  }
+
+  public synchronized int openBidRequest() {
+    bidRequested = true;
+    pendingBid = null;
+    return ++bidRequestId;
+  }
+
+  public int takeBid() {
+    int bid;
+    try {
+      bid = bids.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for bid", e);
+    }
+    if (bid == CLOSED) {
+      bids.offer(CLOSED);
+      throw new RuntimeException("Session closed");
+    }
+    return bid;
+  }
+
+  public synchronized CompletableFuture<Integer> nextBid(int requestId) {
+    CompletableFuture<Integer> bid = new CompletableFuture<>();
+    if (closed) {
+      bid.completeExceptionally(new RuntimeException("Session closed"));
+    } else if (!bidRequested || requestId != bidRequestId) {
+      bid.completeExceptionally(new RuntimeException("Bid request " + requestId + " is not open"));
+    } else {
+      pendingBid = bid;
+      bid.whenComplete((extraBid, error) -> cancelBidRequest(requestId));
+    }
+    return bid;
+  }
+
+  protected synchronized void cancelBidRequest(int requestId) {
+    if (requestId != bidRequestId) return;
+    bidRequested = false;
+    pendingBid = null;
+  }
+
+  public long getDroppedBids() {
+    return droppedBids.sum();
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  protected boolean read() throws IOException {
+    if (channel.read(readBuffer) < 0) return false;
+    readBuffer.flip();
+    Protocol.readFrames(readBuffer, this::onFrame);
+    readBuffer.compact();
+    return true;
+  }
+
+  protected void onFrame(byte type, ByteBuffer payload) {
+    if (type != Protocol.BID) throw new RuntimeException("Unexpected message type: " + type);
+    int requestId = payload.getInt();
+    int bid = payload.getInt();
+    synchronized (this) {
+      if (!bidRequested || requestId != bidRequestId) {
+        droppedBids.increment();
+        return;
+      }
+      bidRequested = false;
+      if (pendingBid != null) {
+        pendingBid.complete(bid);
+        pendingBid = null;
+        return;
+      }
+    }
+    bids.offer(bid);
+  }
+
+  protected boolean flush() throws IOException {
+    ByteBuffer frame;
+    while ((frame = outbound.peek()) != null) {
+      channel.write(frame);
+      if (frame.hasRemaining()) return false;
+      outbound.poll();
+    }
+    return true;
+  }
+
+  protected boolean isCloseRequested() {
+    return closeRequested;
+  }
+
+  protected void close() {
+    synchronized (this) {
+      closed = true;
+      if (pendingBid != null) pendingBid.completeExceptionally(new RuntimeException("Session closed"));
+      pendingBid = null;
+    }
+    bids.offer(CLOSED);
+    outbound.clear();
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // already closed by peer
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.UI;
+
+public class NetworkUI extends UI {
+  protected final NetworkSession session;
+  protected final Board board;
+
+  public NetworkUI(NetworkSession session, Board board) {
+    this.session = session;
+    this.board = board;
+  }
+
+  @Override
+  public void showPlayerCards(Player player, Hand hand) {
+    session.send(Protocol.showCards(board.indexOf(player), hand));
+  }
+
+  @Override
+  public int getExtraBid(int maxPossibleBid) {
+    while (true) {
+      int requestId = session.openBidRequest();
+      session.send(Protocol.bidRequest(requestId, maxPossibleBid));
+      int extraBid = session.takeBid();
+      if (extraBid >= 0 && extraBid <= maxPossibleBid) return extraBid;
+    }
+  }
+
+  @Override
+  public void announceWinner(Player winner) {
+    session.send(Protocol.winner(board.indexOf(winner)));
+  }
+
+  @Override
+  public void announceChipsReturn() {
+    session.send(Protocol.chipsReturned());
+  }
+
+  @Override
+  public void gameOver() {
+    session.send(Protocol.gameOver());
+  }
+
+  @Override
+  public void newRound() {
+    session.send(Protocol.newRound());
+  }
+}
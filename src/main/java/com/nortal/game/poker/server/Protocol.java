@@ -0,0 +1,85 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.Hand;
+
+import java.nio.ByteBuffer;
+
+public final class Protocol {
+  public static final int HEADER_SIZE = 5;
+  public static final int MAX_PAYLOAD_SIZE = 64;
+
+  public static final byte NEW_ROUND = 1;
+  public static final byte SHOW_CARDS = 2;
+  public static final byte BID_REQUEST = 3;
+  public static final byte WINNER = 4;
+  public static final byte CHIPS_RETURNED = 5;
+  public static final byte GAME_OVER = 6;
+  public static final byte BID = 16;
+
+  private Protocol() {
+  }
+
+  public interface FrameHandler {
+    void onFrame(byte type, ByteBuffer payload);
+  }
+
+  public static ByteBuffer newRound() {
+    return flip(frame(NEW_ROUND, 0));
+  }
+
+  public static ByteBuffer showCards(int seat, Hand hand) {
+    ByteBuffer frame = frame(SHOW_CARDS, 2 + hand.size());
+    frame.put((byte) seat).put((byte) hand.size());
+    for (int i = 0; i < hand.size(); i++) {
+      frame.put((byte) CardIndex.of(hand.get(i)));
+    }
+    return flip(frame);
+  }
+
+  public static ByteBuffer bidRequest(int requestId, int maxPossibleBid) {
+    return flip(frame(BID_REQUEST, 8).putInt(requestId).putInt(maxPossibleBid));
+  }
+
+  public static ByteBuffer winner(int seat) {
+    return flip(frame(WINNER, 1).put((byte) seat));
+  }
+
+  public static ByteBuffer chipsReturned() {
+    return flip(frame(CHIPS_RETURNED, 0));
+  }
+
+  public static ByteBuffer gameOver() {
+    return flip(frame(GAME_OVER, 0));
+  }
+
+  public static ByteBuffer bid(int requestId, int extraBid) {
+    return flip(frame(BID, 8).putInt(requestId).putInt(extraBid));
+  }
+
+  public static void readFrames(ByteBuffer buffer, FrameHandler handler) {
+    while (buffer.remaining() >= HEADER_SIZE) {
+      int start = buffer.position();
+      int payloadSize = buffer.getInt(start);
+      if (payloadSize < 0 || payloadSize > MAX_PAYLOAD_SIZE) {
+        throw new RuntimeException("Invalid frame size: " + payloadSize);
+      }
+      if (buffer.remaining() < HEADER_SIZE + payloadSize) return;
+      byte type = buffer.get(start + 4);
+      int end = start + HEADER_SIZE + payloadSize;
+      ByteBuffer payload = buffer.duplicate();
+      payload.position(start + HEADER_SIZE).limit(end);
+      handler.onFrame(type, payload.slice());
+      buffer.position(end);
+    }
+  }
+
+  private static ByteBuffer flip(ByteBuffer frame) {
+    frame.flip();
+    return frame;
+  }
+
+  private static ByteBuffer frame(byte type, int payloadSize) {
+    return ByteBuffer.allocate(HEADER_SIZE + payloadSize).putInt(payloadSize).put(type);
+  }
+}
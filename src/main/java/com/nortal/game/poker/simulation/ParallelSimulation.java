@@ -0,0 +1,65 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.random.CounterRandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public class ParallelSimulation {
+  protected final Function<Deck, Simulation> simulationFactory;
+  protected final int workerCount;
+  protected final long seed;
+
+  public ParallelSimulation(Function<Deck, Simulation> simulationFactory, int workerCount, long seed) {
+    if (workerCount < 1) throw new RuntimeException("At least one worker is needed");
+    this.simulationFactory = simulationFactory;
+    this.workerCount = workerCount;
+    this.seed = seed;
+  }
+
+  public static void main(String[] args) {
+    long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000;
+    int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    ParallelSimulation simulation = new ParallelSimulation(Simulation::createDefault, workerCount, 42);
+    System.out.print(simulation.run(rounds).report());
+  }
+
+  public SimulationStats run(long rounds) {
+    List<Simulation> simulations = new ArrayList<>();
+    for (int worker = 0; worker < workerCount; worker++) {
+      simulations.add(simulationFactory.apply(new Deck(new CounterRandomSource(seed))));
+    }
+    SimulationStatsAccumulator accumulator = new SimulationStatsAccumulator(simulations.get(0).stats.playerNames);
+
+    ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+    try {
+      long start = System.nanoTime();
+      List<Future<?>> results = new ArrayList<>();
+      long firstRound = 0;
+      for (int worker = 0; worker < workerCount; worker++) {
+        Simulation simulation = simulations.get(worker);
+        long workerFirstRound = firstRound;
+        long workerRounds = rounds / workerCount + (worker < rounds % workerCount ? 1 : 0);
+        results.add(executor.submit(() -> accumulator.add(simulation.run(workerFirstRound, workerRounds))));
+        firstRound += workerRounds;
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+      return accumulator.toStats(System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Simulation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.card.CardIndex;
+
+public class PipelineBoard extends Board {
+
+  public PipelineBoard() {
+    super(null, null);
+  }
+
+  public void deal(ShowdownBatch batch, int roundIndex) {
+    if (batch.getPlayerCount() != playerCount) throw new RuntimeException("Batch was dealt for " + batch.getPlayerCount() + " players");
+    for (int seat = 0; seat < playerCount; seat++) {
+      hands[seat].clear();
+      for (int card = 0; card < CARDS_PER_PLAYER; card++) {
+        hands[seat].add(CardIndex.toCard(batch.getCard(roundIndex, seat, card)));
+      }
+      evaluations[seat] = batch.getScore(roundIndex, seat);
+    }
+    takeChipsFromEveryPlayer(1);
+  }
+
+  @Override
+  protected long[] getPlayersHandEvaluations() {
+    return evaluations;
+  }
+}
@@ -0,0 +1,40 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.player.Computer;
+
+import java.util.List;
+
+public class SettlementSimulation extends Simulation {
+  protected final PipelineBoard pipelineBoard;
+  protected ShowdownBatch batch;
+  protected int roundIndex;
+
+  public SettlementSimulation(PipelineBoard board, List<Computer> players, int startingChips) {
+    super(board, players, startingChips);
+    pipelineBoard = board;
+  }
+
+  public void start() {
+    startGame();
+  }
+
+  public void settle(ShowdownBatch batch) {
+    this.batch = batch;
+    for (roundIndex = 0; roundIndex < batch.getRoundCount(); roundIndex++) {
+      nextRound(batch.getFirstRound() + roundIndex);
+    }
+    this.batch = null;
+  }
+
+  public SimulationStats finish(long elapsedNanos) {
+    recordEndingChips();
+    stats.setElapsedNanos(elapsedNanos);
+    return stats;
+  }
+
+  @Override
+  protected void playRound(long round) {
+    pipelineBoard.deal(batch, roundIndex);
+    settleRound(round);
+  }
+}
@@ -0,0 +1,50 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Board;
+
+public class ShowdownBatch {
+  protected final int playerCount;
+  protected final int[] cards;
+  protected final long[] scores;
+  protected long sequence;
+  protected long firstRound;
+  protected int roundCount;
+
+  public ShowdownBatch(int capacity, int playerCount) {
+    this.playerCount = playerCount;
+    cards = new int[capacity * playerCount * Board.CARDS_PER_PLAYER];
+    scores = new long[capacity * playerCount];
+  }
+
+  public int getCapacity() {
+    return scores.length / playerCount;
+  }
+
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public long getFirstRound() {
+    return firstRound;
+  }
+
+  public int getRoundCount() {
+    return roundCount;
+  }
+
+  public int getHandCount() {
+    return roundCount * playerCount;
+  }
+
+  public int getCard(int roundIndex, int seat, int card) {
+    return cards[(roundIndex * playerCount + seat) * Board.CARDS_PER_PLAYER + card];
+  }
+
+  public long getScore(int roundIndex, int seat) {
+    return scores[roundIndex * playerCount + seat];
+  }
+}
@@ -0,0 +1,215 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.DealGenerator;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class ShowdownPipeline {
+  public static final int DEFAULT_BATCH_SIZE = 256;
+  public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+  protected final long seed;
+  protected final HandEvaluator handEvaluator;
+  protected final Supplier<List<Computer>> playersFactory;
+  protected final int startingChips;
+  protected final int dealThreads;
+  protected final int evaluateThreads;
+  protected final int settleThreads;
+  protected final int batchSize;
+  protected final int queueCapacity;
+  protected StageStats dealStats;
+  protected StageStats evaluateStats;
+  protected StageStats settleStats;
+  protected long elapsedNanos;
+
+  public ShowdownPipeline(long seed, HandEvaluator handEvaluator, Supplier<List<Computer>> playersFactory,
+                          int startingChips, int dealThreads, int evaluateThreads, int settleThreads) {
+    this(seed, handEvaluator, playersFactory, startingChips, dealThreads, evaluateThreads, settleThreads,
+        DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  public ShowdownPipeline(long seed, HandEvaluator handEvaluator, Supplier<List<Computer>> playersFactory,
+                          int startingChips, int dealThreads, int evaluateThreads, int settleThreads,
+                          int batchSize, int queueCapacity) {
+    if (dealThreads < 1 || evaluateThreads < 1 || settleThreads < 1) throw new RuntimeException("Every stage needs a thread");
+    if (batchSize < 1) throw new RuntimeException("Invalid batch size: " + batchSize);
+    if (queueCapacity < 1) throw new RuntimeException("Invalid queue capacity: " + queueCapacity);
+    this.seed = seed;
+    this.handEvaluator = handEvaluator;
+    this.playersFactory = playersFactory;
+    this.startingChips = startingChips;
+    this.dealThreads = dealThreads;
+    this.evaluateThreads = evaluateThreads;
+    this.settleThreads = settleThreads;
+    this.batchSize = batchSize;
+    this.queueCapacity = queueCapacity;
+  }
+
+  public static void main(String[] args) {
+    long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000;
+    int dealThreads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+    int evaluateThreads = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    int settleThreads = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+    int batchSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_BATCH_SIZE;
+    HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    ShowdownPipeline pipeline = new ShowdownPipeline(42, handEvaluator, () -> Simulation.createDefaultPlayers(handEvaluator),
+        Simulation.DEFAULT_STARTING_CHIPS, dealThreads, evaluateThreads, settleThreads, batchSize, DEFAULT_QUEUE_CAPACITY);
+    System.out.print(pipeline.run(rounds).report());
+    System.out.print(pipeline.reportStages());
+  }
+
+  public SimulationStats run(long rounds) {
+    List<SettlementSimulation> lanes = new ArrayList<>();
+    for (int lane = 0; lane < settleThreads; lane++) {
+      lanes.add(new SettlementSimulation(new PipelineBoard(), playersFactory.get(), startingChips));
+    }
+    int playerCount = lanes.get(0).players.size();
+    if (playerCount > Board.MAX_PLAYERS_COUNT) throw new RuntimeException("Too many players");
+    long batchCount = (rounds + batchSize - 1) / batchSize;
+
+    BlockingQueue<ShowdownBatch> free = new ArrayBlockingQueue<>(queueCapacity);
+    BlockingQueue<ShowdownBatch> dealt = new ArrayBlockingQueue<>(queueCapacity);
+    List<BlockingQueue<ShowdownBatch>> evaluated = new ArrayList<>();
+    for (int i = 0; i < queueCapacity; i++) {
+      free.add(new ShowdownBatch(batchSize, playerCount));
+    }
+    for (int lane = 0; lane < settleThreads; lane++) {
+      evaluated.add(new ArrayBlockingQueue<>(queueCapacity));
+    }
+    dealStats = new StageStats("deal", dealThreads);
+    evaluateStats = new StageStats("evaluate", evaluateThreads);
+    settleStats = new StageStats("settle", settleThreads);
+    AtomicLong nextDeal = new AtomicLong();
+    AtomicLong nextEvaluate = new AtomicLong();
+
+    ExecutorService executor = Executors.newFixedThreadPool(dealThreads + evaluateThreads + settleThreads);
+    CompletionService<SimulationStats> completion = new ExecutorCompletionService<>(executor);
+    SimulationStatsAccumulator accumulator = new SimulationStatsAccumulator(lanes.get(0).stats.playerNames);
+    long start = System.nanoTime();
+    try {
+      List<Future<SimulationStats>> tasks = new ArrayList<>();
+      for (int i = 0; i < dealThreads; i++) {
+        tasks.add(completion.submit(() -> deal(free, dealt, nextDeal, batchCount, rounds)));
+      }
+      for (int i = 0; i < evaluateThreads; i++) {
+        tasks.add(completion.submit(() -> evaluate(dealt, evaluated, nextEvaluate, batchCount)));
+      }
+      for (int lane = 0; lane < settleThreads; lane++) {
+        int laneIndex = lane;
+        tasks.add(completion.submit(() -> settle(lanes.get(laneIndex), laneIndex, evaluated.get(laneIndex), free,
+            batchCount, start)));
+      }
+      for (int i = 0; i < tasks.size(); i++) {
+        SimulationStats laneStats = completion.take().get();
+        if (laneStats != null) accumulator.add(laneStats);
+      }
+      elapsedNanos = System.nanoTime() - start;
+      return accumulator.toStats(elapsedNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Pipeline was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Pipeline failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  protected SimulationStats deal(BlockingQueue<ShowdownBatch> free, BlockingQueue<ShowdownBatch> dealt,
+                                 AtomicLong nextDeal, long batchCount, long rounds) throws InterruptedException {
+    DealGenerator dealGenerator = new DealGenerator(seed);
+    while (true) {
+      long waitStart = System.nanoTime();
+      int depth = free.size();
+      ShowdownBatch batch = free.take();
+      long start = System.nanoTime();
+      long sequence = nextDeal.getAndIncrement();
+      if (sequence >= batchCount) {
+        free.put(batch);
+        return null;
+      }
+      batch.sequence = sequence;
+      batch.firstRound = sequence * batchSize;
+      batch.roundCount = (int) Math.min(batchSize, rounds - batch.firstRound);
+      int cardsPerRound = batch.playerCount * Board.CARDS_PER_PLAYER;
+      for (int roundIndex = 0; roundIndex < batch.roundCount; roundIndex++) {
+        dealGenerator.deal(batch.firstRound + roundIndex, batch.cards, roundIndex * cardsPerRound, batch.playerCount);
+      }
+      dealStats.record(depth, start - waitStart, System.nanoTime() - start, batch.roundCount);
+      dealt.put(batch);
+    }
+  }
+
+  protected SimulationStats evaluate(BlockingQueue<ShowdownBatch> dealt, List<BlockingQueue<ShowdownBatch>> evaluated,
+                                     AtomicLong nextEvaluate, long batchCount) throws InterruptedException {
+    while (nextEvaluate.getAndIncrement() < batchCount) {
+      long waitStart = System.nanoTime();
+      int depth = dealt.size();
+      ShowdownBatch batch = dealt.take();
+      long start = System.nanoTime();
+      handEvaluator.evaluateAll(batch.cards, batch.scores, batch.getHandCount());
+      evaluateStats.record(depth, start - waitStart, System.nanoTime() - start, batch.roundCount);
+      evaluated.get((int) (batch.sequence % settleThreads)).put(batch);
+    }
+    return null;
+  }
+
+  protected SimulationStats settle(SettlementSimulation lane, int laneIndex, BlockingQueue<ShowdownBatch> input,
+                                   BlockingQueue<ShowdownBatch> free, long batchCount, long pipelineStart)
+      throws InterruptedException {
+    long laneBatches = batchCount > laneIndex ? (batchCount - laneIndex + settleThreads - 1) / settleThreads : 0;
+    ShowdownBatch[] pending = new ShowdownBatch[queueCapacity];
+    long nextLocal = 0;
+    lane.start();
+    while (nextLocal < laneBatches) {
+      long waitStart = System.nanoTime();
+      int depth = input.size();
+      ShowdownBatch batch = input.take();
+      long waitNanos = System.nanoTime() - waitStart;
+      pending[(int) (batch.sequence / settleThreads % queueCapacity)] = batch;
+      int slot;
+      while (nextLocal < laneBatches && pending[slot = (int) (nextLocal % queueCapacity)] != null) {
+        ShowdownBatch ready = pending[slot];
+        pending[slot] = null;
+        long start = System.nanoTime();
+        lane.settle(ready);
+        settleStats.record(depth, waitNanos, System.nanoTime() - start, ready.roundCount);
+        waitNanos = 0;
+        free.put(ready);
+        nextLocal++;
+      }
+    }
+    return lane.finish(System.nanoTime() - pipelineStart);
+  }
+
+  public StageStats getDealStats() {
+    return dealStats;
+  }
+
+  public StageStats getEvaluateStats() {
+    return evaluateStats;
+  }
+
+  public StageStats getSettleStats() {
+    return settleStats;
+  }
+
+  public String reportStages() {
+    return dealStats.report(elapsedNanos) + evaluateStats.report(elapsedNanos) + settleStats.report(elapsedNanos);
+  }
+}
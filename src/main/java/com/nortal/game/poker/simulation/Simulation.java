@@ -0,0 +1,125 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import com.nortal.game.poker.player.HandStrengthBidStrategy;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.TWO_PAIRS_BASE;
+
+public class Simulation {
+  public static final int DEFAULT_STARTING_CHIPS = 20;
+
+  protected final Board board;
+  protected final List<Computer> players;
+  protected final int startingChips;
+  protected final SimulationStats stats;
+
+  public Simulation(Board board, List<Computer> players, int startingChips) {
+    this.board = board;
+    this.players = players;
+    this.startingChips = startingChips;
+    List<String> playerNames = new ArrayList<>();
+    for (Computer player : players) {
+      playerNames.add(player.getName());
+      board.addPlayer(player);
+    }
+    stats = new SimulationStats(playerNames);
+  }
+
+  public static void main(String[] args) {
+    long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+    long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+    System.out.print(createDefault(new Deck(new CounterRandomSource(seed))).run(rounds).report());
+  }
+
+  public static Simulation createDefault(Deck deck) {
+    HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    return new Simulation(new Board(deck, handEvaluator), createDefaultPlayers(handEvaluator), DEFAULT_STARTING_CHIPS);
+  }
+
+  public static List<Computer> createDefaultPlayers(HandEvaluator handEvaluator) {
+    List<Computer> players = new ArrayList<>();
+    players.add(new Computer("Passive", new FixedBidStrategy(0)));
+    players.add(new Computer("Aggressive", new FixedBidStrategy(2)));
+    players.add(new Computer("Two pairs or better", new HandStrengthBidStrategy(handEvaluator, TWO_PAIRS_BASE)));
+    return players;
+  }
+
+  public SimulationStats run(long rounds) {
+    return run(0, rounds);
+  }
+
+  public SimulationStats run(long firstRound, long rounds) {
+    long start = System.nanoTime();
+    startGame();
+    for (long round = firstRound; round < firstRound + rounds; round++) {
+      nextRound(round);
+    }
+    recordEndingChips();
+    stats.setElapsedNanos(System.nanoTime() - start);
+    return stats;
+  }
+
+  protected void nextRound(long round) {
+    if (!board.everybodyHasChips()) {
+      endGame();
+      startGame();
+    }
+    playRound(round);
+  }
+
+  protected void playRound(long round) {
+    board.deal(round);
+    settleRound(round);
+  }
+
+  protected void settleRound(long round) {
+    raiseBid(players.get((int) (round % players.size())));
+    giveChipsToWinnerOrReturnChips();
+  }
+
+  protected void raiseBid(Computer bidder) {
+    board.raiseBid(bidder.getExtraBid(board.getDecisionContext(bidder, bidder.getDecisionBudgetNanos())));
+  }
+
+  protected void giveChipsToWinnerOrReturnChips() {
+    List<Player> playersWithBestHand = board.findPlayersWithBestHand();
+    if (playersWithBestHand.size() == 1) {
+      Player winner = playersWithBestHand.get(0);
+      int pot = board.getPot();
+      board.giveChipsOnBoardToPlayer(winner);
+      stats.recordWin(board.indexOf(winner), pot);
+    } else {
+      board.giveChipsBackToPlayers();
+      stats.recordChipReturn();
+    }
+  }
+
+  protected void startGame() {
+    for (Computer player : players) {
+      player.setChips(startingChips);
+    }
+  }
+
+  protected void endGame() {
+    for (int i = 0; i < players.size(); i++) {
+      if (!players.get(i).hasChips()) stats.recordBust(i);
+    }
+    stats.recordGameOver();
+  }
+
+  protected void recordEndingChips() {
+    for (int i = 0; i < players.size(); i++) {
+      stats.recordEndingChips(i, players.get(i).chipCount());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.nortal.game.poker.simulation;
+
+import java.util.List;
+
+public class SimulationStats {
+  protected final List<String> playerNames;
+  protected long rounds;
+  protected long games;
+  protected long chipReturns;
+  protected long elapsedNanos;
+  protected final long[] wins;
+  protected final long[] chipsWon;
+  protected final long[] busts;
+  protected final long[] endingChips;
+
+  public SimulationStats(List<String> playerNames) {
+    this.playerNames = playerNames;
+    wins = new long[playerNames.size()];
+    chipsWon = new long[playerNames.size()];
+    busts = new long[playerNames.size()];
+    endingChips = new long[playerNames.size()];
+  }
+
+  public void recordWin(int playerIndex, int pot) {
+    rounds++;
+    wins[playerIndex]++;
+    chipsWon[playerIndex] += pot;
+  }
+
+  public void recordChipReturn() {
+    rounds++;
+    chipReturns++;
+  }
+
+  public void recordBust(int playerIndex) {
+    busts[playerIndex]++;
+  }
+
+  public void recordGameOver() {
+    games++;
+  }
+
+  public void recordEndingChips(int playerIndex, int chips) {
+    endingChips[playerIndex] += chips;
+  }
+
+  public void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  public long getChipReturns() {
+    return chipReturns;
+  }
+
+  public long getWins(int playerIndex) {
+    return wins[playerIndex];
+  }
+
+  public long getChipsWon(int playerIndex) {
+    return chipsWon[playerIndex];
+  }
+
+  public long getBusts(int playerIndex) {
+    return busts[playerIndex];
+  }
+
+  public long getEndingChips(int playerIndex) {
+    return endingChips[playerIndex];
+  }
+
+  public double getWinRate(int playerIndex) {
+    return rounds == 0 ? 0 : (double) wins[playerIndex] / rounds;
+  }
+
+  public double getRoundsPerSecond() {
+    return elapsedNanos == 0 ? 0 : rounds * 1_000_000_000d / elapsedNanos;
+  }
+
+  public String report() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("Rounds: %d, games: %d, chip returns: %d, rounds/sec: %.0f%n",
+        rounds, games, chipReturns, getRoundsPerSecond()));
+    for (int i = 0; i < playerNames.size(); i++) {
+      report.append(String.format("%s: win rate %.4f, wins %d, chips won %d, avg pot %.2f, busts %d, ending chips %d%n",
+          playerNames.get(i), getWinRate(i), wins[i], chipsWon[i],
+          wins[i] == 0 ? 0 : (double) chipsWon[i] / wins[i], busts[i], endingChips[i]));
+    }
+    return report.toString();
+  }
+}
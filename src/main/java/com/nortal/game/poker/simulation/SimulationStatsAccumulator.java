@@ -0,0 +1,58 @@
+package com.nortal.game.poker.simulation;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SimulationStatsAccumulator {
+  protected final List<String> playerNames;
+  protected final LongAdder rounds = new LongAdder();
+  protected final LongAdder games = new LongAdder();
+  protected final LongAdder chipReturns = new LongAdder();
+  protected final LongAdder[] wins;
+  protected final LongAdder[] chipsWon;
+  protected final LongAdder[] busts;
+  protected final LongAdder[] endingChips;
+
+  public SimulationStatsAccumulator(List<String> playerNames) {
+    this.playerNames = playerNames;
+    wins = createAdders(playerNames.size());
+    chipsWon = createAdders(playerNames.size());
+    busts = createAdders(playerNames.size());
+    endingChips = createAdders(playerNames.size());
+  }
+
+  public void add(SimulationStats stats) {
+    rounds.add(stats.getRounds());
+    games.add(stats.getGames());
+    chipReturns.add(stats.getChipReturns());
+    for (int i = 0; i < playerNames.size(); i++) {
+      wins[i].add(stats.getWins(i));
+      chipsWon[i].add(stats.getChipsWon(i));
+      busts[i].add(stats.getBusts(i));
+      endingChips[i].add(stats.getEndingChips(i));
+    }
+  }
+
+  public SimulationStats toStats(long elapsedNanos) {
+    SimulationStats stats = new SimulationStats(playerNames);
+    stats.rounds = rounds.sum();
+    stats.games = games.sum();
+    stats.chipReturns = chipReturns.sum();
+    for (int i = 0; i < playerNames.size(); i++) {
+      stats.wins[i] = wins[i].sum();
+      stats.chipsWon[i] = chipsWon[i].sum();
+      stats.busts[i] = busts[i].sum();
+      stats.endingChips[i] = endingChips[i].sum();
+    }
+    stats.setElapsedNanos(elapsedNanos);
+    return stats;
+  }
+
+  private static LongAdder[] createAdders(int count) {
+    LongAdder[] adders = new LongAdder[count];
+    for (int i = 0; i < count; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+}
@@ -0,0 +1,78 @@
+package com.nortal.game.poker.simulation;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StageStats {
+  protected final String name;
+  protected final int threads;
+  protected final LongAdder batches = new LongAdder();
+  protected final LongAdder rounds = new LongAdder();
+  protected final LongAdder busyNanos = new LongAdder();
+  protected final LongAdder waitNanos = new LongAdder();
+  protected final LongAdder inputDepthTotal = new LongAdder();
+  protected final LongAccumulator maxInputDepth = new LongAccumulator(Math::max, 0);
+
+  public StageStats(String name, int threads) {
+    this.name = name;
+    this.threads = threads;
+  }
+
+  public void record(int inputDepth, long waitNanos, long busyNanos, int rounds) {
+    batches.increment();
+    this.rounds.add(rounds);
+    this.waitNanos.add(waitNanos);
+    this.busyNanos.add(busyNanos);
+    inputDepthTotal.add(inputDepth);
+    maxInputDepth.accumulate(inputDepth);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  public long getRounds() {
+    return rounds.sum();
+  }
+
+  public long getBusyNanos() {
+    return busyNanos.sum();
+  }
+
+  public long getWaitNanos() {
+    return waitNanos.sum();
+  }
+
+  public double getMeanInputDepth() {
+    long samples = getBatches();
+    return samples == 0 ? 0 : (double) inputDepthTotal.sum() / samples;
+  }
+
+  public long getMaxInputDepth() {
+    return maxInputDepth.get();
+  }
+
+  public double getRoundsPerBusySecond() {
+    long busy = getBusyNanos();
+    return busy == 0 ? 0 : getRounds() * 1_000_000_000d / busy;
+  }
+
+  public double getUtilization(long elapsedNanos) {
+    return elapsedNanos == 0 ? 0 : (double) getBusyNanos() / ((long) threads * elapsedNanos);
+  }
+
+  public String report(long elapsedNanos) {
+    return String.format("%s: %d thread(s), %d batches, %d rounds, rounds/busy sec: %.0f, utilization %.2f, "
+            + "input wait %.1f ms, input depth mean %.1f max %d%n",
+        name, threads, getBatches(), getRounds(), getRoundsPerBusySecond(), getUtilization(elapsedNanos),
+        getWaitNanos() / 1e6, getMeanInputDepth(), getMaxInputDepth());
+  }
+}
@@ -0,0 +1,114 @@
+package com.nortal.game.poker.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class EloLeaderboard {
+  public static final double INITIAL_RATING = 1500;
+  public static final double DEFAULT_K_FACTOR = 16;
+
+  protected final List<Entrant> entrants;
+  protected final double kFactor;
+  protected final double[] ratings;
+  protected final double[] points;
+  protected final int[] wins;
+  protected final int[] draws;
+  protected final int[] losses;
+  protected long matches;
+  protected long rounds;
+
+  public EloLeaderboard(List<Entrant> entrants) {
+    this(entrants, DEFAULT_K_FACTOR);
+  }
+
+  public EloLeaderboard(List<Entrant> entrants, double kFactor) {
+    this.entrants = entrants;
+    this.kFactor = kFactor;
+    ratings = new double[entrants.size()];
+    Arrays.fill(ratings, INITIAL_RATING);
+    points = new double[entrants.size()];
+    wins = new int[entrants.size()];
+    draws = new int[entrants.size()];
+    losses = new int[entrants.size()];
+  }
+
+  public void record(MatchResult result) {
+    int first = result.getMatch().getFirstEntrant();
+    int second = result.getMatch().getSecondEntrant();
+    double expectedFirst = expectedScore(ratings[first], ratings[second]);
+    double change = kFactor * (result.getFirstScore() - expectedFirst);
+    ratings[first] += change;
+    ratings[second] -= change;
+    points[first] += result.getFirstScore();
+    points[second] += result.getSecondScore();
+    recordOutcome(first, result.getFirstScore());
+    recordOutcome(second, result.getSecondScore());
+    matches++;
+    rounds += result.getRounds();
+  }
+
+  public void recordBye(int entrant) {
+    points[entrant] += MatchResult.WIN;
+  }
+
+  protected void recordOutcome(int entrant, double score) {
+    if (score == MatchResult.WIN) wins[entrant]++;
+    else if (score == MatchResult.LOSS) losses[entrant]++;
+    else draws[entrant]++;
+  }
+
+  public static double expectedScore(double rating, double opponentRating) {
+    return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+  }
+
+  public List<Integer> getRanking() {
+    List<Integer> ranking = new ArrayList<>();
+    for (int i = 0; i < entrants.size(); i++) {
+      ranking.add(i);
+    }
+    ranking.sort(Comparator.comparingDouble((Integer i) -> -ratings[i]).thenComparingInt(i -> i));
+    return ranking;
+  }
+
+  public double getRating(int entrant) {
+    return ratings[entrant];
+  }
+
+  public double getPoints(int entrant) {
+    return points[entrant];
+  }
+
+  public int getWins(int entrant) {
+    return wins[entrant];
+  }
+
+  public int getDraws(int entrant) {
+    return draws[entrant];
+  }
+
+  public int getLosses(int entrant) {
+    return losses[entrant];
+  }
+
+  public long getMatches() {
+    return matches;
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  public String report() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("Matches: %d, rounds: %d%n", matches, rounds));
+    int place = 1;
+    for (int entrant : getRanking()) {
+      report.append(String.format("%d. %s: rating %.1f, points %.1f, wins %d, draws %d, losses %d%n",
+          place++, entrants.get(entrant).getName(), ratings[entrant], points[entrant],
+          wins[entrant], draws[entrant], losses[entrant]));
+    }
+    return report.toString();
+  }
+}
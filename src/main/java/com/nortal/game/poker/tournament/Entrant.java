@@ -0,0 +1,30 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.player.BidStrategy;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.DecisionStrategy;
+
+import java.util.function.Supplier;
+
+public class Entrant {
+  protected final String name;
+  protected final Supplier<Computer> computerFactory;
+
+  public Entrant(String name, Supplier<? extends BidStrategy> strategyFactory) {
+    this.name = name;
+    this.computerFactory = () -> new Computer(name, strategyFactory.get());
+  }
+
+  public Entrant(String name, Supplier<? extends DecisionStrategy> strategyFactory, long decisionBudgetNanos) {
+    this.name = name;
+    this.computerFactory = () -> new Computer(name, strategyFactory.get(), decisionBudgetNanos);
+  }
+
+  public Computer createComputer() {
+    return computerFactory.get();
+  }
+
+  public String getName() {
+    return name;
+  }
+}
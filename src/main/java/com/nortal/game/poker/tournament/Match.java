@@ -0,0 +1,26 @@
+package com.nortal.game.poker.tournament;
+
+public class Match {
+  protected final int id;
+  protected final int firstEntrant;
+  protected final int secondEntrant;
+
+  public Match(int id, int firstEntrant, int secondEntrant) {
+    if (firstEntrant == secondEntrant) throw new RuntimeException("Entrant cannot play itself: " + firstEntrant);
+    this.id = id;
+    this.firstEntrant = firstEntrant;
+    this.secondEntrant = secondEntrant;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public int getFirstEntrant() {
+    return firstEntrant;
+  }
+
+  public int getSecondEntrant() {
+    return secondEntrant;
+  }
+}
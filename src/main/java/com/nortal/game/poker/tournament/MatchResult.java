@@ -0,0 +1,33 @@
+package com.nortal.game.poker.tournament;
+
+public class MatchResult {
+  public static final double WIN = 1;
+  public static final double DRAW = 0.5;
+  public static final double LOSS = 0;
+
+  protected final Match match;
+  protected final double firstScore;
+  protected final int rounds;
+
+  public MatchResult(Match match, double firstScore, int rounds) {
+    this.match = match;
+    this.firstScore = firstScore;
+    this.rounds = rounds;
+  }
+
+  public Match getMatch() {
+    return match;
+  }
+
+  public double getFirstScore() {
+    return firstScore;
+  }
+
+  public double getSecondScore() {
+    return WIN - firstScore;
+  }
+
+  public int getRounds() {
+    return rounds;
+  }
+}
@@ -0,0 +1,59 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+
+import java.util.List;
+
+public class MatchRunner {
+  protected final HandEvaluator handEvaluator;
+  protected final int startingChips;
+  protected final int maxRounds;
+  protected final long seed;
+
+  public MatchRunner(HandEvaluator handEvaluator, int startingChips, int maxRounds, long seed) {
+    if (startingChips < 1) throw new RuntimeException("Players need chips to play");
+    if (maxRounds < 1) throw new RuntimeException("At least one round is needed");
+    this.handEvaluator = handEvaluator;
+    this.startingChips = startingChips;
+    this.maxRounds = maxRounds;
+    this.seed = seed;
+  }
+
+  public MatchResult play(Match match, Entrant first, Entrant second) {
+    Board board = new Board(new Deck(new CounterRandomSource(seed)), handEvaluator);
+    Computer[] seats = {first.createComputer(), second.createComputer()};
+    for (Computer seat : seats) {
+      seat.setChips(startingChips);
+      board.addPlayer(seat);
+    }
+
+    int round = 0;
+    while (board.everybodyHasChips() && round < maxRounds) {
+      board.deal(((long) match.getId() << 32) | round);
+      raiseBid(board, seats[round % seats.length]);
+      List<Player> playersWithBestHand = board.findPlayersWithBestHand();
+      if (playersWithBestHand.size() == 1) {
+        board.giveChipsOnBoardToPlayer(playersWithBestHand.get(0));
+      } else {
+        board.giveChipsBackToPlayers();
+      }
+      round++;
+    }
+    return new MatchResult(match, score(seats[0].chipCount(), seats[1].chipCount()), round);
+  }
+
+  protected void raiseBid(Board board, Computer bidder) {
+    board.raiseBid(bidder.getExtraBid(board.getDecisionContext(bidder, bidder.getDecisionBudgetNanos())));
+  }
+
+  protected static double score(int firstChips, int secondChips) {
+    if (firstChips > secondChips) return MatchResult.WIN;
+    if (firstChips < secondChips) return MatchResult.LOSS;
+    return MatchResult.DRAW;
+  }
+}
@@ -0,0 +1,207 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import com.nortal.game.poker.player.HandStrengthBidStrategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.*;
+
+public class Tournament {
+  protected static final int PAIRING_SEARCH_LIMIT = 100_000;
+
+  protected final List<Entrant> entrants;
+  protected final MatchRunner matchRunner;
+  protected final int parallelism;
+  protected int nextMatchId;
+  protected int pairingSteps;
+
+  public Tournament(List<Entrant> entrants, MatchRunner matchRunner, int parallelism) {
+    if (entrants.size() < 2) throw new RuntimeException("At least two entrants are needed");
+    if (parallelism < 1) throw new RuntimeException("At least one worker is needed");
+    this.entrants = entrants;
+    this.matchRunner = matchRunner;
+    this.parallelism = parallelism;
+  }
+
+  public static void main(String[] args) {
+    String format = args.length > 0 ? args[0] : "round-robin";
+    int games = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+    HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    Tournament tournament = new Tournament(createDefaultEntrants(handEvaluator),
+        new MatchRunner(handEvaluator, 20, 10_000, 42), parallelism);
+    long start = System.nanoTime();
+    EloLeaderboard leaderboard = "swiss".equals(format) ? tournament.runSwiss(games) : tournament.runRoundRobin(games);
+    System.out.print(leaderboard.report());
+    System.out.printf("Elapsed: %.2f s%n", (System.nanoTime() - start) / 1e9);
+  }
+
+  public static List<Entrant> createDefaultEntrants(HandEvaluator handEvaluator) {
+    List<Entrant> entrants = new ArrayList<>();
+    entrants.add(new Entrant("Passive", () -> new FixedBidStrategy(0)));
+    entrants.add(new Entrant("Aggressive", () -> new FixedBidStrategy(2)));
+    entrants.add(new Entrant("All in", () -> new FixedBidStrategy(Integer.MAX_VALUE)));
+    entrants.add(new Entrant("Pair or better", () -> new HandStrengthBidStrategy(handEvaluator, ONE_PAIR_BASE)));
+    entrants.add(new Entrant("Two pairs or better", () -> new HandStrengthBidStrategy(handEvaluator, TWO_PAIRS_BASE)));
+    entrants.add(new Entrant("Three of a kind or better",
+        () -> new HandStrengthBidStrategy(handEvaluator, THREE_OF_A_KIND_BASE)));
+    return entrants;
+  }
+
+  public EloLeaderboard runRoundRobin(int gamesPerPair) {
+    List<Match> matches = new ArrayList<>();
+    for (int game = 0; game < gamesPerPair; game++) {
+      for (int first = 0; first < entrants.size(); first++) {
+        for (int second = first + 1; second < entrants.size(); second++) {
+          matches.add(game % 2 == 0 ? createMatch(first, second) : createMatch(second, first));
+        }
+      }
+    }
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      recordAll(leaderboard, playAll(pool, matches));
+    } finally {
+      pool.shutdownNow();
+    }
+    return leaderboard;
+  }
+
+  public EloLeaderboard runSwiss(int rounds) {
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    Set<Long> playedPairs = new HashSet<>();
+    Set<Integer> byes = new HashSet<>();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      for (int round = 0; round < Math.min(rounds, getMaxSwissRounds()); round++) {
+        recordAll(leaderboard, playAll(pool, pairSwissRound(leaderboard, playedPairs, byes)));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    return leaderboard;
+  }
+
+  public int getMaxSwissRounds() {
+    return entrants.size() % 2 == 0 ? entrants.size() - 1 : entrants.size();
+  }
+
+  protected List<Match> pairSwissRound(EloLeaderboard leaderboard, Set<Long> playedPairs, Set<Integer> byes) {
+    List<Integer> unpaired = new ArrayList<>();
+    for (int i = 0; i < entrants.size(); i++) {
+      unpaired.add(i);
+    }
+    unpaired.sort(Comparator.comparingDouble((Integer i) -> -leaderboard.getPoints(i))
+        .thenComparingDouble(i -> -leaderboard.getRating(i))
+        .thenComparingInt(i -> i));
+    if (unpaired.size() % 2 == 1) {
+      int bye = unpaired.size() - 1;
+      while (bye > 0 && byes.contains(unpaired.get(bye))) bye--;
+      byes.add(unpaired.get(bye));
+      leaderboard.recordBye(unpaired.remove(bye));
+    }
+
+    List<Integer> pairing = new ArrayList<>();
+    pairingSteps = 0;
+    if (!pairWithoutRematches(unpaired, new boolean[entrants.size()], 0, playedPairs, pairing)) {
+      pairing = pairNearest(unpaired, playedPairs);
+    }
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < pairing.size(); i += 2) {
+      playedPairs.add(pairKey(pairing.get(i), pairing.get(i + 1)));
+      matches.add(createMatch(pairing.get(i), pairing.get(i + 1)));
+    }
+    return matches;
+  }
+
+  protected boolean pairWithoutRematches(List<Integer> ranked, boolean[] paired, int from, Set<Long> playedPairs,
+                                         List<Integer> pairing) {
+    while (from < ranked.size() && paired[ranked.get(from)]) from++;
+    if (from == ranked.size()) return true;
+    int first = ranked.get(from);
+    paired[first] = true;
+    for (int i = from + 1; i < ranked.size() && pairingSteps < PAIRING_SEARCH_LIMIT; i++) {
+      int second = ranked.get(i);
+      if (paired[second] || playedPairs.contains(pairKey(first, second))) continue;
+      pairingSteps++;
+      paired[second] = true;
+      pairing.add(first);
+      pairing.add(second);
+      if (pairWithoutRematches(ranked, paired, from + 1, playedPairs, pairing)) return true;
+      pairing.remove(pairing.size() - 1);
+      pairing.remove(pairing.size() - 1);
+      paired[second] = false;
+    }
+    paired[first] = false;
+    return false;
+  }
+
+  protected List<Integer> pairNearest(List<Integer> ranked, Set<Long> playedPairs) {
+    boolean[] paired = new boolean[entrants.size()];
+    List<Integer> pairing = new ArrayList<>();
+    for (int from = 0; from < ranked.size(); from++) {
+      int first = ranked.get(from);
+      if (paired[first]) continue;
+      int nearest = -1;
+      for (int i = from + 1; i < ranked.size(); i++) {
+        int second = ranked.get(i);
+        if (paired[second]) continue;
+        if (nearest < 0) nearest = second;
+        if (!playedPairs.contains(pairKey(first, second))) {
+          nearest = second;
+          break;
+        }
+      }
+      paired[first] = true;
+      paired[nearest] = true;
+      pairing.add(first);
+      pairing.add(nearest);
+    }
+    return pairing;
+  }
+
+  protected static long pairKey(int first, int second) {
+    return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+  }
+
+  protected Match createMatch(int first, int second) {
+    return new Match(nextMatchId++, first, second);
+  }
+
+  protected List<MatchResult> playAll(ForkJoinPool pool, List<Match> matches) {
+    List<Callable<MatchResult>> tasks = new ArrayList<>(matches.size());
+    for (Match match : matches) {
+      tasks.add(() -> matchRunner.play(match, entrants.get(match.getFirstEntrant()),
+          entrants.get(match.getSecondEntrant())));
+    }
+    List<MatchResult> results = new ArrayList<>(matches.size());
+    try {
+      for (Future<MatchResult> result : pool.invokeAll(tasks)) {
+        results.add(result.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Tournament was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Match failed", e.getCause());
+    }
+    return results;
+  }
+
+  protected void recordAll(EloLeaderboard leaderboard, List<MatchResult> results) {
+    for (MatchResult result : results) {
+      leaderboard.record(result);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.nortal.game.poker.ui;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.player.Player;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUI {
+  public abstract void showPlayerCards(Player player, Hand hand);
+
+  public abstract CompletableFuture<Integer> getExtraBid(int maxPossibleBid);
+
+  public abstract void announceWinner(Player winner);
+
+  public abstract void announceChipsReturn();
+
+  public abstract void gameOver();
+
+  public abstract void newRound();
+
+  public void flush() {
+  }
+}
@@ -0,0 +1,125 @@
+package com.nortal.game;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.ui.AsyncUI;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AsyncPokerTest {
+
+  @Test(timeout = 10000)
+  public void playRunsRoundsUntilGameOver() throws Exception {
+    Human human = new Human("Human");
+    Computer computer = new Computer("Computer");
+    AsyncUI ui = mock(AsyncUI.class);
+    doReturn(CompletableFuture.completedFuture(2)).when(ui).getExtraBid(anyInt());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      AsyncPoker poker = new AsyncPoker(createBoard(human, computer), ui, human, computer, executor, 1000);
+      poker.play().get();
+
+      assertEquals(AsyncPoker.State.GAME_OVER, poker.getState());
+      assertEquals(20, human.chipCount() + computer.chipCount());
+      verify(ui).gameOver();
+      verify(ui).flush();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void bidTimeoutRaisesZero() throws Exception {
+    Human human = new Human("Human");
+    Computer computer = new Computer("Computer");
+    Board board = mock(Board.class);
+    doReturn(true).doReturn(false).when(board).everybodyHasChips();
+    doReturn(5).when(board).getMaxPossibleBid();
+    doReturn(asList(human, computer)).when(board).findPlayersWithBestHand();
+    AsyncUI ui = mock(AsyncUI.class);
+    doReturn(new CompletableFuture<Integer>()).when(ui).getExtraBid(anyInt());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      new AsyncPoker(board, ui, human, computer, executor, 10).play().get();
+
+      verify(board).raiseBid(0);
+      verify(ui).announceChipsReturn();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void invalidBidRaisesZero() throws Exception {
+    Human human = new Human("Human");
+    Computer computer = new Computer("Computer");
+    Board board = mock(Board.class);
+    doReturn(true).doReturn(false).when(board).everybodyHasChips();
+    doReturn(5).when(board).getMaxPossibleBid();
+    doReturn(asList(human)).when(board).findPlayersWithBestHand();
+    AsyncUI ui = mock(AsyncUI.class);
+    doReturn(CompletableFuture.completedFuture(6)).when(ui).getExtraBid(anyInt());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      new AsyncPoker(board, ui, human, computer, executor, 1000).play().get();
+
+      verify(board).raiseBid(0);
+      verify(board).giveChipsOnBoardToPlayer(human);
+      verify(ui).announceWinner(human);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void failedBidEndsGame() throws Exception {
+    Human human = new Human("Human");
+    Computer computer = new Computer("Computer");
+    AsyncUI ui = mock(AsyncUI.class);
+    CompletableFuture<Integer> failedBid = new CompletableFuture<>();
+    failedBid.completeExceptionally(new RuntimeException("Session closed"));
+    doReturn(failedBid).when(ui).getExtraBid(anyInt());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<Void> finished = new AsyncPoker(createBoard(human, computer), ui, human, computer, executor, 1000)
+          .play();
+      try {
+        finished.get(5, TimeUnit.SECONDS);
+        fail("Game should end with the bid failure");
+      } catch (ExecutionException e) {
+        assertEquals("Session closed", e.getCause().getMessage());
+      }
+      verify(ui, atLeastOnce()).showPlayerCards(any(Player.class), any(Hand.class));
+      verify(ui, never()).gameOver();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Board createBoard(Human human, Computer computer) {
+    human.setChips(10);
+    computer.setChips(10);
+    return new Board(new Deck(), new LookupTableHandEvaluator()).addPlayer(human).addPlayer(computer);
+  }
+}
@@ -0,0 +1,128 @@
+package com.nortal.game.poker.board;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.DecisionContext;
+import com.nortal.game.poker.player.EquityDecisionStrategy;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class BoardDecisionContextTest {
+
+  @Test
+  public void viewsPlayerHandAndChips() throws Exception {
+    Board board = createBoard(new Computer("player-0"), new Computer("player-1"), new Computer("player-2"));
+    board.deal();
+    board.raiseBid(3);
+
+    DecisionContext context = board.getDecisionContext(board.getPlayer(1), 1_000_000_000L);
+
+    Hand hand = board.getPlayerHand(board.getPlayer(1));
+    assertEquals(5, context.getCardCount());
+    long mask = 0;
+    for (int i = 0; i < 5; i++) {
+      assertEquals(CardIndex.of(hand.get(i)), context.getCard(i));
+      mask |= CardIndex.mask(context.getCard(i));
+    }
+    assertEquals(mask, context.getCardMask());
+    assertEquals(hand.toString(), context.copyHand(new Hand()).toString());
+    assertEquals(1, context.getSeat());
+    assertEquals(3, context.getPlayerCount());
+    assertEquals(96, context.getChips());
+    assertEquals(4, context.getChipsOnBoard(2));
+    assertEquals(12, context.getPot());
+    assertEquals(96, context.getMaxPossibleBid());
+    assertFalse(context.isOutOfTime());
+  }
+
+  @Test
+  public void contextIsReused() throws Exception {
+    Board board = createBoard(new Computer("player-0"), new Computer("player-1"));
+    board.deal();
+    assertSame(board.getDecisionContext(board.getPlayer(0), 1), board.getDecisionContext(board.getPlayer(1), 1));
+  }
+
+  @Test
+  public void expiredBudgetIsOutOfTime() throws Exception {
+    Board board = createBoard(new Computer("player-0"), new Computer("player-1"));
+    board.deal();
+    DecisionContext context = board.getDecisionContext(board.getPlayer(0), 1);
+    Thread.sleep(1);
+    assertTrue(context.isOutOfTime());
+  }
+
+  @Test
+  public void strategiesGetSoftDeadlineBeforeHardDeadline() throws Exception {
+    Board board = createBoard(new Computer("player-0"), new Computer("player-1"));
+    board.deal();
+    DecisionContext context = board.getDecisionContext(board.getPlayer(0), 1_000_000_000L);
+
+    assertEquals(250_000_000L, context.getHardDeadlineNanos() - context.getDeadlineNanos());
+    assertFalse(context.isPastHardDeadline());
+  }
+
+  @Test
+  public void unlimitedBudgetNeverRunsOut() throws Exception {
+    Board board = createBoard(new Computer("player-0"), new Computer("player-1"));
+    board.deal();
+    DecisionContext context = board.getDecisionContext(board.getPlayer(0), Computer.UNLIMITED_DECISION_BUDGET);
+
+    assertFalse(context.isOutOfTime());
+    assertFalse(context.isPastHardDeadline());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void playerMustBeOnBoard() throws Exception {
+    createBoard(new Computer("player-0")).getDecisionContext(new Computer("other"), 1);
+  }
+
+  @Test
+  public void decisionsDoNotAllocateInSteadyState() throws Exception {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+    LookupTableHandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    Computer computer = new Computer("equity",
+        new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(1), 64, 0.5), 1_000_000_000L);
+    Board board = createBoard(computer, new Computer("player-1"), new Computer("player-2"));
+    decide(board, computer, 2000);
+
+    long threadId = Thread.currentThread().threadId();
+    long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+    decide(board, computer, 2000);
+    long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+  }
+
+  private void decide(Board board, Computer computer, int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      board.deal();
+      computer.getExtraBid(board.getDecisionContext(computer, computer.getDecisionBudgetNanos()));
+      board.giveChipsBackToPlayers();
+    }
+  }
+
+  private Board createBoard(Player... players) {
+    Board board = new Board(new Deck(new SplittableRandomSource(1)), new LookupTableHandEvaluator());
+    for (Player player : players) {
+      player.setChips(100);
+      board.addPlayer(player);
+    }
+    return board;
+  }
+}
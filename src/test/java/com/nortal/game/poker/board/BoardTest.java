@@ -1,21 +1,26 @@
 package com.nortal.game.poker.board;
 
 import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.hand.CompactHand;
 import com.nortal.game.poker.hand.Hand;
 import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.ledger.ChipAccount;
 import com.nortal.game.poker.player.Computer;
 import com.nortal.game.poker.player.Human;
 import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.SplittableRandomSource;
 import org.junit.Test;
 
-import java.util.HashMap;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.List;
-import java.util.Map;
 
 import static com.nortal.game.poker.card.Rank.ACE;
 import static com.nortal.game.poker.card.Rank.KING;
 import static com.nortal.game.poker.card.Suit.SPADE;
 import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -28,13 +33,14 @@ public class BoardTest {
     board.addPlayer(human);
     board.addPlayer(computer);
 
-    assertEquals(2, board.chipsOnBoard.size());
-    assertEquals(new Integer(0), board.chipsOnBoard.get(human));
-    assertEquals(new Integer(0), board.chipsOnBoard.get(computer));
+    assertEquals(2, board.getPlayerCount());
+    assertSame(human, board.getPlayer(0));
+    assertSame(computer, board.getPlayer(1));
+    assertEquals(0, board.chipsOnBoard[0]);
+    assertEquals(0, board.chipsOnBoard[1]);
 
-    assertEquals(2, board.hands.size());
-    assertEquals(0, board.hands.get(human).size());
-    assertEquals(0, board.hands.get(computer).size());
+    assertEquals(0, board.hands[0].size());
+    assertEquals(0, board.hands[1].size());
   }
 
   @Test(expected = RuntimeException.class)
@@ -50,7 +56,7 @@ public class BoardTest {
     Board board = new Board(null, null);
     Player human = new Human("Human");
     human.setChips(2);
-    board.chipsOnBoard.put(human, 0);
+    board.addPlayer(human);
     assertTrue(board.everybodyHasChips());
   }
 
@@ -59,7 +65,7 @@ public class BoardTest {
     Board board = new Board(null, null);
     Player human = new Human("Human");
     human.setChips(0);
-    board.chipsOnBoard.put(human, 0);
+    board.addPlayer(human);
     assertFalse(board.everybodyHasChips());
   }
 
@@ -79,6 +85,30 @@ public class BoardTest {
     verify(board).takeChipsFromEveryPlayer(eq(1));
   }
 
+  @Test
+  public void dealRound() throws Exception {
+    Board board = spy(new Board(null, null));
+    doNothing().when(board).collectCardsFromPlayers();
+    doNothing().when(board).shuffleCards(42L);
+    doNothing().when(board).dealCards();
+    doNothing().when(board).takeChipsFromEveryPlayer(eq(1));
+
+    board.deal(42L);
+
+    verify(board).collectCardsFromPlayers();
+    verify(board).shuffleCards(42L);
+    verify(board).dealCards();
+    verify(board).takeChipsFromEveryPlayer(eq(1));
+  }
+
+  @Test
+  public void shuffleCardsForRound() throws Exception {
+    Deck deck = mock(Deck.class);
+    doNothing().when(deck).shuffle(7L);
+    new Board(deck, null).shuffleCards(7L);
+    verify(deck).shuffle(7L);
+  }
+
   @Test
   public void shuffleCards() throws Exception {
     Deck deck = mock(Deck.class);
@@ -102,32 +132,103 @@ public class BoardTest {
     Board board = new Board(deck, null);
     Player human = new Human("player-1");
     Player computer = new Computer("player-2");
-    board.hands.put(human, new Hand());
-    board.hands.put(computer, new Hand());
+    board.addPlayer(human).addPlayer(computer);
     board.dealCards();
-    assertEquals(5, board.hands.get(human).size());
-    assertEquals(5, board.hands.get(computer).size());
+    assertEquals(5, board.getPlayerHand(human).size());
+    assertEquals(5, board.getPlayerHand(computer).size());
+  }
+
+  @Test
+  public void dealCompactCards() throws Exception {
+    Deck deck = mock(Deck.class);
+    doReturn(7).when(deck).getNextCardIndex();
+    Board board = new Board(deck, null);
+    CompactHand[] compactHands = {new CompactHand(), new CompactHand()};
+    compactHands[0].add(3);
+    board.dealCards(compactHands);
+    assertEquals(5, compactHands[0].size());
+    assertEquals(5, compactHands[1].size());
+    assertEquals(7, compactHands[0].get(0));
   }
 
   @Test
   public void takeChipsFromEveryPlayer() throws Exception {
     Board board = new Board(null, null);
 
-    Player player1 = mock(Player.class);
-    doNothing().when(player1).takeChips(anyInt());
-    Player player2 = mock(Player.class);
-    doNothing().when(player2).takeChips(anyInt());
+    Player player1 = new Human("player-1");
+    player1.setChips(10);
+    Player player2 = new Human("player-2");
+    player2.setChips(8);
 
-    board.chipsOnBoard.put(player1, 10);
-    board.chipsOnBoard.put(player2, 20);
+    board.addPlayer(player1).addPlayer(player2);
+    board.chipsOnBoard[0] = 10;
+    board.chipsOnBoard[1] = 20;
 
     board.takeChipsFromEveryPlayer(5);
 
-    assertEquals(new Integer(15), board.chipsOnBoard.get(player1));
-    assertEquals(new Integer(25), board.chipsOnBoard.get(player2));
+    assertEquals(15, board.chipsOnBoard[0]);
+    assertEquals(25, board.chipsOnBoard[1]);
+    assertEquals(5, player1.chipCount());
+    assertEquals(3, player2.chipCount());
+  }
+
+  @Test
+  public void takeChipsFromEveryPlayerRollsBackOnOverdraft() throws Exception {
+    Board board = new Board(null, null);
+    Player player1 = new Human("player-1");
+    player1.setChips(10);
+    Player player2 = new Human("player-2");
+    player2.setChips(3);
+    board.addPlayer(player1).addPlayer(player2);
+
+    try {
+      board.takeChipsFromEveryPlayer(5);
+      fail();
+    } catch (RuntimeException expected) {
+    }
+
+    assertEquals(10, player1.chipCount());
+    assertEquals(3, player2.chipCount());
+    assertEquals(0, board.getPot());
+  }
+
+  @Test(timeout = 60000)
+  public void sharedPlayerKeepsConsistentBalanceAcrossTables() throws Exception {
+    int tableCount = 4;
+    int rounds = 20000;
+    ChipAccount sharedAccount = new ChipAccount(100);
+    Player[] opponents = new Player[tableCount];
+    Thread[] tables = new Thread[tableCount];
+    for (int table = 0; table < tableCount; table++) {
+      Board board = new Board(new Deck(new SplittableRandomSource(table)), new LookupTableHandEvaluator());
+      opponents[table] = new Computer("computer-" + table);
+      opponents[table].setChips(100);
+      board.addPlayer(new Human("shared", sharedAccount)).addPlayer(opponents[table]);
+      tables[table] = new Thread(() -> {
+        for (int round = 0; round < rounds; round++) {
+          try {
+            board.deal();
+            board.raiseBid(Math.min(2, board.getMaxPossibleBid()));
+          } catch (RuntimeException overdraft) {
+          }
+          board.giveChipsOnBoardToPlayer(board.findPlayersWithBestHand().get(0));
+        }
+      });
+    }
+    for (Thread table : tables) {
+      table.start();
+    }
+    for (Thread table : tables) {
+      table.join();
+    }
 
-    verify(player1).takeChips(eq(5));
-    verify(player2).takeChips(eq(5));
+    long totalChips = sharedAccount.getBalance();
+    for (Player opponent : opponents) {
+      assertTrue(opponent.chipCount() >= 0);
+      totalChips += opponent.chipCount();
+    }
+    assertTrue(sharedAccount.getBalance() >= 0);
+    assertEquals(100 + tableCount * 100, totalChips);
   }
 
   @Test
@@ -135,10 +236,11 @@ public class BoardTest {
     Board board = new Board(null, null);
 
     Player human = new Human("player-1");
-    Hand hand = new Hand() {{ add(new Card(ACE, SPADE)); }};
-    board.hands.put(human, hand);
+    board.addPlayer(human);
+    board.hands[0].add(new Card(ACE, SPADE));
 
-    assertEquals(hand, board.getPlayerHand(human));
+    assertSame(board.hands[0], board.getPlayerHand(human));
+    assertNull(board.getPlayerHand(new Human("player-2")));
   }
 
   @Test
@@ -150,8 +252,7 @@ public class BoardTest {
     Player player2 = mock(Player.class);
     doReturn(7).when(player2).chipCount();
 
-    board.chipsOnBoard.put(player1, 0);
-    board.chipsOnBoard.put(player2, 0);
+    board.addPlayer(player1).addPlayer(player2);
 
     assertEquals(5, board.getMaxPossibleBid());
   }
@@ -177,17 +278,15 @@ public class BoardTest {
     Player computer1 = new Computer("player-2");
     Player computer2 = new Computer("player-3");
 
-    doReturn(new HashMap<Player, Long>(){{
-      put(human, 20L);
-      put(computer1, 10L);
-      put(computer2, 20L);
-    }}).when(board).getPlayersHandEvaluations();
+    board.addPlayer(human).addPlayer(computer1).addPlayer(computer2);
+    doReturn(new long[]{20L, 10L, 20L, 0L, 0L}).when(board).getPlayersHandEvaluations();
 
     List<Player> playersWithBestHand = board.findPlayersWithBestHand();
 
     assertEquals(2, playersWithBestHand.size());
     assertTrue(playersWithBestHand.contains(human));
     assertTrue(playersWithBestHand.contains(computer2));
+    assertSame(playersWithBestHand, board.findPlayersWithBestHand());
   }
 
   @Test
@@ -195,22 +294,20 @@ public class BoardTest {
     Player human = new Human("player-1");
     Player computer = new Computer("player-2");
 
-    Hand hand1 = new Hand() {{ add(new Card(KING, SPADE)); }};
-    Hand hand2 = new Hand() {{ add(new Card(ACE, SPADE)); }};
-
     HandEvaluator handEvaluator = mock(HandEvaluator.class);
+    Board board = new Board(null, handEvaluator);
+    board.addPlayer(human).addPlayer(computer);
+    Hand hand1 = board.getPlayerHand(human);
+    Hand hand2 = board.getPlayerHand(computer);
+    hand1.add(new Card(KING, SPADE));
+    hand2.add(new Card(ACE, SPADE));
 
     doReturn(10L).when(handEvaluator).evaluate(hand1);
     doReturn(20L).when(handEvaluator).evaluate(hand2);
 
-    Board board = new Board(null, handEvaluator);
-    board.hands.put(human, hand1);
-    board.hands.put(computer, hand2);
-
-    Map<Player, Long> evaluations = board.getPlayersHandEvaluations();
-    assertEquals(2, evaluations.size());
-    assertEquals(new Long(10), evaluations.get(human));
-    assertEquals(new Long(20), evaluations.get(computer));
+    long[] evaluations = board.getPlayersHandEvaluations();
+    assertEquals(10L, evaluations[0]);
+    assertEquals(20L, evaluations[1]);
   }
 
   @Test
@@ -221,9 +318,10 @@ public class BoardTest {
     Computer computer = new Computer("player-1");
     Human human = new Human("player-2");
     Board board = new Board(null, null);
-    board.chipsOnBoard.put(computer, 2);
-    board.chipsOnBoard.put(human, 5);
-    board.chipsOnBoard.put(player, 9);
+    board.addPlayer(computer).addPlayer(human).addPlayer(player);
+    board.chipsOnBoard[0] = 2;
+    board.chipsOnBoard[1] = 5;
+    board.chipsOnBoard[2] = 9;
 
     board.giveChipsOnBoardToPlayer(player);
 
@@ -231,9 +329,60 @@ public class BoardTest {
     verify(player).addChips(eq(5));
     verify(player).addChips(eq(9));
 
-    assertEquals(new Integer(0), board.chipsOnBoard.get(computer));
-    assertEquals(new Integer(0), board.chipsOnBoard.get(human));
-    assertEquals(new Integer(0), board.chipsOnBoard.get(player));
+    assertEquals(0, board.chipsOnBoard[0]);
+    assertEquals(0, board.chipsOnBoard[1]);
+    assertEquals(0, board.chipsOnBoard[2]);
+  }
+
+  @Test
+  public void getPot() throws Exception {
+    Board board = new Board(null, null);
+    board.addPlayer(new Human("player-1")).addPlayer(new Computer("player-2"));
+    board.chipsOnBoard[0] = 2;
+    board.chipsOnBoard[1] = 3;
+    assertEquals(5, board.getPot());
+  }
+
+  @Test
+  public void indexOf() throws Exception {
+    Board board = new Board(null, null);
+    Player human = new Human("player-1");
+    Player computer = new Computer("player-2");
+    board.addPlayer(human).addPlayer(computer);
+    assertEquals(1, board.indexOf(computer));
+    assertEquals(-1, board.indexOf(new Human("player-3")));
+  }
+
+  @Test
+  public void roundDoesNotAllocateInSteadyState() throws Exception {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+    Board board = new Board(new Deck(new SplittableRandomSource(1)), new LookupTableHandEvaluator());
+    for (int i = 0; i < Board.MAX_PLAYERS_COUNT; i++) {
+      Player player = new Computer("player-" + i);
+      player.setChips(100);
+      board.addPlayer(player);
+    }
+    playRounds(board, 20000);
+
+    long threadId = Thread.currentThread().threadId();
+    long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+    playRounds(board, 20000);
+    long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+  }
+
+  private void playRounds(Board board, int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      board.deal();
+      board.raiseBid(1);
+      assertFalse(board.findPlayersWithBestHand().isEmpty());
+      board.giveChipsBackToPlayers();
+    }
   }
 
   @Test
@@ -245,16 +394,17 @@ public class BoardTest {
     doNothing().when(player2).addChips(anyInt());
 
     Board board = new Board(null, null);
-    board.chipsOnBoard.put(player1, 2);
-    board.chipsOnBoard.put(player2, 3);
+    board.addPlayer(player1).addPlayer(player2);
+    board.chipsOnBoard[0] = 2;
+    board.chipsOnBoard[1] = 3;
 
     board.giveChipsBackToPlayers();
 
     verify(player1).addChips(eq(2));
     verify(player2).addChips(eq(3));
 
-    assertEquals(new Integer(0), board.chipsOnBoard.get(player1));
-    assertEquals(new Integer(0), board.chipsOnBoard.get(player2));
+    assertEquals(0, board.chipsOnBoard[0]);
+    assertEquals(0, board.chipsOnBoard[1]);
   }
 
 }
\ No newline at end of file
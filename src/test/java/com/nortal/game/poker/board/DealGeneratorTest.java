@@ -0,0 +1,65 @@
+package com.nortal.game.poker.board;
+
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.random.CounterRandomSource;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class DealGeneratorTest {
+
+  @Test
+  public void deckOrderIsPermutation() throws Exception {
+    int[] cardIndexes = new int[Deck.CARDS_IN_DECK];
+    new DealGenerator(3).deckOrder(12, cardIndexes);
+    Set<Integer> cards = new HashSet<>();
+    for (int card : cardIndexes) {
+      cards.add(card);
+    }
+    assertEquals(Deck.CARDS_IN_DECK, cards.size());
+  }
+
+  @Test
+  public void dealIntoArrayMatchesCompactHands() throws Exception {
+    DealGenerator dealGenerator = new DealGenerator(3);
+    CompactHand[] hands = createHands(3);
+    dealGenerator.deal(12, hands);
+    int[] cards = new int[1 + 3 * Board.CARDS_PER_PLAYER];
+
+    dealGenerator.deal(12, cards, 1, 3);
+
+    for (int player = 0; player < hands.length; player++) {
+      for (int card = 0; card < Board.CARDS_PER_PLAYER; card++) {
+        assertEquals(hands[player].get(card), cards[1 + player * Board.CARDS_PER_PLAYER + card]);
+      }
+    }
+  }
+
+  @Test
+  public void dealMatchesBoardDealForSameRound() throws Exception {
+    Board board = new Board(new Deck(new CounterRandomSource(3)), null);
+    board.shuffleCards(12);
+    CompactHand[] boardHands = createHands(3);
+    board.dealCards(boardHands);
+
+    CompactHand[] generatedHands = createHands(3);
+    DealGenerator dealGenerator = new DealGenerator(3);
+    dealGenerator.deal(40, generatedHands);
+    dealGenerator.deal(12, generatedHands);
+
+    for (int i = 0; i < boardHands.length; i++) {
+      assertEquals(boardHands[i].mask(), generatedHands[i].mask());
+    }
+  }
+
+  private CompactHand[] createHands(int count) {
+    CompactHand[] hands = new CompactHand[count];
+    for (int i = 0; i < count; i++) {
+      hands[i] = new CompactHand();
+    }
+    return hands;
+  }
+}
@@ -1,8 +1,23 @@
 package com.nortal.game.poker.board;
 
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.random.RandomSource;
+import com.nortal.game.poker.random.SplittableRandomSource;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class DeckTest {
 
@@ -12,6 +27,94 @@ public class DeckTest {
     assertEquals(52, deck.cards.size());
   }
 
+  @Test
+  public void shuffleWithSeededRandomIsReproducible() throws Exception {
+    Deck deck1 = new Deck(new SplittableRandomSource(7));
+    Deck deck2 = new Deck(new SplittableRandomSource(7));
+    deck1.shuffle();
+    deck2.shuffle();
+    for (int i = 0; i < Deck.CARDS_IN_DECK; i++) {
+      assertSame(deck1.cards.get(i).getRank(), deck2.cards.get(i).getRank());
+      assertSame(deck1.cards.get(i).getSuit(), deck2.cards.get(i).getSuit());
+    }
+    assertFullDeck(deck1.cards);
+  }
+
+  @Test
+  public void lazyShuffleOnlyRandomizesDealtCards() throws Exception {
+    RandomSource random = mock(RandomSource.class);
+    doReturn(51).when(random).nextInt(52);
+    doReturn(0).when(random).nextInt(51);
+    Deck deck = new Deck(random, true);
+    Card lastCard = deck.cards.get(51);
+    Card firstCard = deck.cards.get(0);
+
+    deck.shuffle();
+    assertSame(lastCard, deck.getNextCard());
+    assertSame(deck.cards.get(1), deck.getNextCard());
+
+    verify(random).nextInt(52);
+    verify(random).nextInt(51);
+    verifyNoMoreInteractions(random);
+    assertSame(firstCard, deck.cards.get(51));
+  }
+
+  @Test
+  public void lazyShuffleWithSeededRandomIsReproducible() throws Exception {
+    Deck deck1 = new Deck(new SplittableRandomSource(7), true);
+    Deck deck2 = new Deck(new SplittableRandomSource(7), true);
+    for (int round = 0; round < 3; round++) {
+      deck1.collectCards();
+      deck2.collectCards();
+      for (int i = 0; i < 10; i++) {
+        assertEquals(CardIndex.of(deck1.getNextCard()), CardIndex.of(deck2.getNextCard()));
+      }
+    }
+  }
+
+  @Test
+  public void shuffleRoundDoesNotDependOnHistory() throws Exception {
+    Deck deck1 = new Deck(new CounterRandomSource(11));
+    Deck deck2 = new Deck(new CounterRandomSource(11));
+    deck1.shuffle(5);
+    deck2.shuffle(3);
+    deck2.shuffle();
+    deck2.shuffle(5);
+    for (int i = 0; i < Deck.CARDS_IN_DECK; i++) {
+      assertEquals(CardIndex.of(deck1.cards.get(i)), CardIndex.of(deck2.cards.get(i)));
+    }
+    assertFullDeck(deck1.cards);
+  }
+
+  @Test
+  public void lazyShuffleRoundDoesNotDependOnHistory() throws Exception {
+    Deck deck1 = new Deck(new CounterRandomSource(11), true);
+    Deck deck2 = new Deck(new CounterRandomSource(11), true);
+    deck2.shuffle(4);
+    deck2.getNextCard();
+    deck2.getNextCard();
+    deck2.collectCards();
+    deck1.shuffle(9);
+    deck2.shuffle(9);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(CardIndex.of(deck1.getNextCard()), CardIndex.of(deck2.getNextCard()));
+    }
+  }
+
+  @Test
+  public void shuffleRoundNeedsSeekableRandom() throws Exception {
+    RandomSource random = mock(RandomSource.class);
+    Deck deck = new Deck(random);
+    try {
+      deck.shuffle(3);
+      fail();
+    } catch (RuntimeException e) {
+      verifyNoMoreInteractions(random);
+    }
+    assertFalse(deck.isSeekable());
+    assertTrue(new Deck(new CounterRandomSource(1)).isSeekable());
+  }
+
   @Test
   public void getNextCard() throws Exception {
     Deck deck = new Deck();
@@ -21,6 +124,13 @@ public class DeckTest {
     assertEquals(2, deck.cardsShared);
   }
 
+  @Test
+  public void getNextCardIndex() throws Exception {
+    Deck deck = new Deck();
+    assertEquals(CardIndex.of(deck.cards.get(0)), deck.getNextCardIndex());
+    assertEquals(1, deck.cardsShared);
+  }
+
   @Test
   public void collectCards() throws Exception {
     Deck deck = new Deck();
@@ -28,4 +138,12 @@ public class DeckTest {
     deck.collectCards();
     assertEquals(0, deck.cardsShared);
   }
-}
\ No newline at end of file
+
+  private void assertFullDeck(List<Card> cards) {
+    long mask = 0;
+    for (Card card : cards) {
+      mask |= 1L << CardIndex.of(card);
+    }
+    assertEquals((1L << Deck.CARDS_IN_DECK) - 1, mask);
+  }
+}
@@ -0,0 +1,42 @@
+package com.nortal.game.poker.card;
+
+import org.junit.Test;
+
+import static com.nortal.game.poker.card.Rank.ACE;
+import static com.nortal.game.poker.card.Rank.TWO;
+import static com.nortal.game.poker.card.Suit.CLUB;
+import static com.nortal.game.poker.card.Suit.SPADE;
+import static org.junit.Assert.assertEquals;
+
+public class CardIndexTest {
+
+  @Test
+  public void of() throws Exception {
+    assertEquals(0, CardIndex.of(TWO, SPADE));
+    assertEquals(12, CardIndex.of(ACE, SPADE));
+    assertEquals(51, CardIndex.of(new Card(ACE, CLUB)));
+  }
+
+  @Test
+  public void rankAndSuit() throws Exception {
+    for (Suit suit : Suit.values()) {
+      for (Rank rank : Rank.values()) {
+        int cardIndex = CardIndex.of(rank, suit);
+        assertEquals(rank, CardIndex.rank(cardIndex));
+        assertEquals(suit, CardIndex.suit(cardIndex));
+      }
+    }
+  }
+
+  @Test
+  public void toCard() throws Exception {
+    Card card = CardIndex.toCard(CardIndex.of(ACE, CLUB));
+    assertEquals(ACE, card.getRank());
+    assertEquals(CLUB, card.getSuit());
+  }
+
+  @Test
+  public void mask() throws Exception {
+    assertEquals(1L << 51, CardIndex.mask(CardIndex.of(ACE, CLUB)));
+  }
+}
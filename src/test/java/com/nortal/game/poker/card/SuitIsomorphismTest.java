@@ -0,0 +1,87 @@
+package com.nortal.game.poker.card;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SuitIsomorphismTest {
+
+  @Test
+  public void everyHandMapsToItsCanonicalClass() throws Exception {
+    int[] classSizes = new int[SuitIsomorphism.CLASS_COUNT];
+    int handCount = 0;
+    for (int a = 0; a < 52; a++) {
+      for (int b = a + 1; b < 52; b++) {
+        for (int c = b + 1; c < 52; c++) {
+          for (int d = c + 1; d < 52; d++) {
+            for (int e = d + 1; e < 52; e++) {
+              long mask = (1L << a) | (1L << b) | (1L << c) | (1L << d) | (1L << e);
+              int classIndex = SuitIsomorphism.classIndex(mask);
+              if (SuitIsomorphism.representative(classIndex) != SuitIsomorphism.canonicalMask(mask)) {
+                assertEquals(SuitIsomorphism.canonicalMask(mask), SuitIsomorphism.representative(classIndex));
+              }
+              classSizes[classIndex]++;
+              handCount++;
+            }
+          }
+        }
+      }
+    }
+    assertEquals(2598960, handCount);
+    for (int classIndex = 0; classIndex < SuitIsomorphism.CLASS_COUNT; classIndex++) {
+      assertTrue(classSizes[classIndex] > 0 && 24 % classSizes[classIndex] == 0);
+    }
+  }
+
+  @Test
+  public void representativesAreSortedCanonicalHands() throws Exception {
+    for (int classIndex = 0; classIndex < SuitIsomorphism.CLASS_COUNT; classIndex++) {
+      long representative = SuitIsomorphism.representative(classIndex);
+      assertEquals(SuitIsomorphism.HAND_SIZE, Long.bitCount(representative));
+      assertEquals(representative, SuitIsomorphism.canonicalMask(representative));
+      if (classIndex > 0) assertTrue(representative > SuitIsomorphism.representative(classIndex - 1));
+    }
+  }
+
+  @Test
+  public void suitPermutationsShareClass() throws Exception {
+    List<Card> hand = Arrays.asList(new Card(ACE, SPADE), new Card(KING, SPADE), new Card(QUEEN, HEART),
+        new Card(FIVE, HEART), new Card(TWO, SPADE));
+    List<Card> permuted = Arrays.asList(new Card(ACE, CLUB), new Card(KING, CLUB), new Card(QUEEN, DIAMOND),
+        new Card(FIVE, DIAMOND), new Card(TWO, CLUB));
+    List<Card> different = Arrays.asList(new Card(ACE, CLUB), new Card(KING, DIAMOND), new Card(QUEEN, DIAMOND),
+        new Card(FIVE, DIAMOND), new Card(TWO, CLUB));
+
+    assertEquals(SuitIsomorphism.classIndex(hand), SuitIsomorphism.classIndex(permuted));
+    assertNotEquals(SuitIsomorphism.classIndex(hand), SuitIsomorphism.classIndex(different));
+  }
+
+  @Test
+  public void classIndexOfCardArray() throws Exception {
+    int[] cards = {99, CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART), CardIndex.of(ACE, DIAMOND),
+        CardIndex.of(ACE, CLUB), CardIndex.of(KING, HEART)};
+    long mask = SuitIsomorphism.handMask(cards, 1);
+
+    assertEquals(SuitIsomorphism.classIndex(mask), SuitIsomorphism.classIndex(cards, 1));
+    assertEquals(SuitIsomorphism.classIndex(mask),
+        SuitIsomorphism.classIndex(SuitIsomorphism.handMask(Arrays.asList(new Card(ACE, SPADE), new Card(ACE, HEART),
+            new Card(ACE, DIAMOND), new Card(ACE, CLUB), new Card(KING, SPADE)))));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void classIndexNeedsFiveCards() throws Exception {
+    SuitIsomorphism.classIndex(0b1111L);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void classIndexRejectsBitsOutsideDeck() throws Exception {
+    SuitIsomorphism.classIndex(0b1111L | (1L << 60));
+  }
+}
@@ -0,0 +1,88 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExactEquityEnumeratorTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+  private final ExactEquityEnumerator enumerator = new ExactEquityEnumerator(new LookupTableHandEvaluator(), executor, 3);
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void knownHandsHaveSingleOutcome() throws Exception {
+    int[][] knownCards = {
+        {CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE), CardIndex.of(QUEEN, SPADE), CardIndex.of(JACK, SPADE), CardIndex.of(TEN, SPADE)},
+        {CardIndex.of(ACE, HEART), CardIndex.of(ACE, CLUB), CardIndex.of(TWO, SPADE), CardIndex.of(FOUR, DIAMOND), CardIndex.of(SIX, CLUB)}
+    };
+    EquityResult result = enumerator.calculate(knownCards);
+    assertEquals(1, result.getSamples());
+    assertEquals(1, result.getWins(0));
+    assertEquals(1, result.getLosses(1));
+  }
+
+  @Test
+  public void straightFlushBeatsEveryFourOfAKind() throws Exception {
+    int[][] knownCards = {
+        {CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART), CardIndex.of(ACE, CLUB), CardIndex.of(ACE, DIAMOND)},
+        {CardIndex.of(KING, HEART), CardIndex.of(QUEEN, HEART), CardIndex.of(JACK, HEART), CardIndex.of(TEN, HEART), CardIndex.of(NINE, HEART)}
+    };
+    EquityResult result = enumerator.calculate(knownCards);
+    assertEquals(43, result.getSamples());
+    assertEquals(43, result.getWins(1));
+    assertEquals(0, result.getTies(0));
+  }
+
+  @Test
+  public void matchesBruteForceWithSeveralUnknownPlayers() throws Exception {
+    int[][] knownCards = {
+        {CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE), CardIndex.of(QUEEN, SPADE), CardIndex.of(JACK, SPADE)},
+        {CardIndex.of(TWO, HEART), CardIndex.of(TWO, CLUB), CardIndex.of(NINE, DIAMOND)},
+        {CardIndex.of(TEN, HEART), CardIndex.of(TEN, CLUB), CardIndex.of(FIVE, DIAMOND), CardIndex.of(FOUR, DIAMOND)}
+    };
+
+    EquityResult result = enumerator.calculate(knownCards);
+
+    Showdown showdown = new Showdown(new LookupTableHandEvaluator(), knownCards);
+    int[] unseen = showdown.getUnseenCards();
+    long[] wins = new long[3];
+    long[] ties = new long[3];
+    long outcomes = 0;
+    for (int a = 0; a < unseen.length; a++) {
+      for (int b = 0; b < unseen.length; b++) {
+        for (int c = b + 1; c < unseen.length; c++) {
+          for (int d = 0; d < unseen.length; d++) {
+            if (a == b || a == c || a == d || b == d || c == d) continue;
+            showdown.fillMissingCards(new int[]{unseen[a], unseen[b], unseen[c], unseen[d]});
+            showdown.recordWinners(wins, ties);
+            outcomes++;
+          }
+        }
+      }
+    }
+
+    assertEquals(outcomes, ExactEquityEnumerator.countOutcomes(knownCards));
+    assertEquals(outcomes, result.getSamples());
+    for (int player = 0; player < 3; player++) {
+      assertEquals(wins[player], result.getWins(player));
+      assertEquals(ties[player], result.getTies(player));
+    }
+  }
+
+  @Test
+  public void countOutcomes() throws Exception {
+    assertEquals(1035L * 946, ExactEquityEnumerator.countOutcomes(new int[][]{{0, 1, 2}, {3, 4, 5}}));
+  }
+}
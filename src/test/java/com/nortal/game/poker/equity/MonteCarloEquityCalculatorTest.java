@@ -0,0 +1,82 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+
+public class MonteCarloEquityCalculatorTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final MonteCarloEquityCalculator calculator = new MonteCarloEquityCalculator(
+      new LookupTableHandEvaluator(), executor, 2, 0.005, new SplittableRandom(1));
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void knownHandsAlwaysHaveSameWinner() throws Exception {
+    int[][] knownCards = {
+        {CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE), CardIndex.of(QUEEN, SPADE), CardIndex.of(JACK, SPADE), CardIndex.of(TEN, SPADE)},
+        {CardIndex.of(ACE, HEART), CardIndex.of(ACE, CLUB), CardIndex.of(TWO, SPADE), CardIndex.of(FOUR, DIAMOND), CardIndex.of(SIX, CLUB)}
+    };
+
+    EquityResult result = calculator.calculate(knownCards, 1_000_000, 10_000);
+
+    assertEquals(MonteCarloEquityCalculator.MIN_SAMPLES_FOR_CONVERGENCE, result.getSamples(), MonteCarloEquityCalculator.BATCH_SIZE * 2);
+    assertEquals(1.0, result.getWinProbability(0), 0);
+    assertEquals(0, result.getWins(1));
+    assertEquals(result.getSamples(), result.getLosses(1));
+  }
+
+  @Test
+  public void symmetricPlayersHaveEqualEquity() throws Exception {
+    EquityResult result = calculator.calculate(new int[][]{{}, {}}, 200_000, 10_000);
+
+    assertEquals(result.getWinProbability(0), result.getWinProbability(1), 0.03);
+    assertEquals(result.getTieProbability(0), result.getTieProbability(1), 0);
+    assertEquals(result.getSamples(), result.getWins(0) + result.getWins(1) + result.getTies(0));
+  }
+
+  @Test
+  public void stopsAtMaxSamples() throws Exception {
+    MonteCarloEquityCalculator calculator = new MonteCarloEquityCalculator(
+        new LookupTableHandEvaluator(), executor, 2, 0, new SplittableRandom(1));
+    EquityResult result = calculator.calculate(new int[][]{{CardIndex.of(ACE, SPADE)}, {}, {}}, 5000, 10_000);
+    assertEquals(5000, result.getSamples());
+  }
+
+  @Test
+  public void stronglyKnownHandIsFavourite() throws Exception {
+    int[][] knownCards = {
+        {CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART), CardIndex.of(ACE, CLUB), CardIndex.of(ACE, DIAMOND)},
+        {}
+    };
+    EquityResult result = calculator.calculate(knownCards, 100_000, 10_000);
+    assertEquals(1.0, result.getWinProbability(0), 0.01);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void cardCannotBeUsedTwice() throws Exception {
+    calculator.calculate(new int[][]{{CardIndex.of(ACE, SPADE)}, {CardIndex.of(ACE, SPADE)}}, 100, 100);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void playerCannotHaveTooManyCards() throws Exception {
+    calculator.calculate(new int[][]{{0, 1, 2, 3, 4, 5}, {}}, 100, 100);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsAtLeastTwoPlayers() throws Exception {
+    calculator.calculate(new int[][]{{}}, 100, 100);
+  }
+}
@@ -0,0 +1,39 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class OpeningHandStrengthGeneratorTest {
+
+  @Test
+  public void generatedTableMatchesShippedClasses() throws Exception {
+    OpeningHandStrength shipped = OpeningHandStrength.getDefault();
+
+    OpeningHandStrength generated = new OpeningHandStrength(
+        new OpeningHandStrengthGenerator(new LookupTableHandEvaluator(), 4, 42).generate());
+
+    assertEquals(shipped.getClassCount(), generated.getClassCount());
+    for (int classIndex = 0; classIndex < shipped.getClassCount(); classIndex++) {
+      assertEquals(shipped.getScore(classIndex), generated.getScore(classIndex));
+    }
+    assertEquals(1.0, generated.getClassWinProbability(generated.getClassCount() - 1, 4), 0);
+    assertEquals(0.0, generated.getClassWinProbability(0, 1), 0);
+  }
+
+  @Test
+  public void addSharesSplitsTies() throws Exception {
+    double[] shares = new double[OpeningHandStrength.MAX_OPPONENTS];
+
+    OpeningHandStrengthGenerator.addShares(5, new long[]{4, 5, 6, 1}, shares);
+
+    assertArrayEquals(new double[]{1, 0.5, 0, 0}, shares, 0);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsSamples() throws Exception {
+    new OpeningHandStrengthGenerator(new LookupTableHandEvaluator(), 0, 42);
+  }
+}
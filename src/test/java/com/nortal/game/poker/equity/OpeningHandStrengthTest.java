@@ -0,0 +1,113 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OpeningHandStrengthTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+
+  @Test
+  public void defaultTableCoversEveryHandClass() throws Exception {
+    OpeningHandStrength strength = OpeningHandStrength.getDefault();
+
+    assertSame(strength, OpeningHandStrength.getDefault());
+    assertEquals(7462, strength.getClassCount());
+    assertEquals(OpeningHandStrength.MAX_OPPONENTS, strength.getMaxOpponents());
+    for (int classIndex = 0; classIndex < strength.getClassCount(); classIndex++) {
+      if (classIndex > 0) assertTrue(strength.getScore(classIndex) > strength.getScore(classIndex - 1));
+      assertEquals(classIndex, strength.classIndex(strength.getScore(classIndex)));
+      for (int opponents = 2; opponents <= strength.getMaxOpponents(); opponents++) {
+        assertTrue(strength.getClassWinProbability(classIndex, opponents)
+            <= strength.getClassWinProbability(classIndex, opponents - 1));
+      }
+    }
+  }
+
+  @Test
+  public void strengthOrdersHands() throws Exception {
+    OpeningHandStrength strength = OpeningHandStrength.getDefault();
+
+    long royalFlush = score(CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE), CardIndex.of(QUEEN, SPADE),
+        CardIndex.of(JACK, SPADE), CardIndex.of(TEN, SPADE));
+    long jacks = score(CardIndex.of(JACK, SPADE), CardIndex.of(JACK, HEART), CardIndex.of(EIGHT, DIAMOND),
+        CardIndex.of(FIVE, CLUB), CardIndex.of(TWO, SPADE));
+    long sevenHigh = score(CardIndex.of(SEVEN, SPADE), CardIndex.of(FIVE, HEART), CardIndex.of(FOUR, DIAMOND),
+        CardIndex.of(THREE, CLUB), CardIndex.of(TWO, SPADE));
+
+    assertEquals(1.0, strength.getWinProbability(royalFlush, 4), 0.001);
+    assertTrue(strength.getWinProbability(jacks, 1) > 0.5 && strength.getWinProbability(jacks, 1) < 0.8);
+    assertTrue(strength.getWinProbability(jacks, 4) < strength.getWinProbability(jacks, 1));
+    assertTrue(strength.getWinProbability(sevenHigh, 1) < 0.01);
+  }
+
+  @Test
+  public void unknownScore() throws Exception {
+    OpeningHandStrength strength = OpeningHandStrength.getDefault();
+    assertEquals(-1, strength.classIndex(1));
+    try {
+      strength.getWinProbability(1, 1);
+      throw new AssertionError("Expected exception");
+    } catch (RuntimeException expected) {
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void opponentCountIsChecked() throws Exception {
+    OpeningHandStrength.getDefault().getClassWinProbability(0, 5);
+  }
+
+  @Test
+  public void encodeRoundTripsThroughMappedFile() throws Exception {
+    ByteBuffer encoded = OpeningHandStrength.encode(new long[]{10, 20, 30},
+        new double[][]{{0.1, 0.5, 1.0}, {0.05, 0.25, 1.0}});
+    Path file = folder.newFile("strength.bin").toPath();
+    Files.write(file, encoded.array());
+
+    OpeningHandStrength strength = OpeningHandStrength.load(file);
+
+    assertEquals(3, strength.getClassCount());
+    assertEquals(2, strength.getMaxOpponents());
+    assertEquals(1, strength.classIndex(20));
+    assertEquals(0.5, strength.getWinProbability(20, 1), 0.0001);
+    assertEquals(0.25, strength.getWinProbability(20, 2), 0.0001);
+    assertEquals(1.0, strength.getWinProbability(30, 2), 0);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsOtherFiles() throws Exception {
+    OpeningHandStrength.load(new ByteArrayInputStream(new byte[64]));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsTruncatedTable() throws Exception {
+    ByteBuffer encoded = OpeningHandStrength.encode(new long[]{10, 20}, new double[][]{{0.1, 0.5}});
+    OpeningHandStrength.load(new ByteArrayInputStream(encoded.array(), 0, encoded.limit() - 1));
+  }
+
+  private long score(int... cards) {
+    CompactHand hand = new CompactHand();
+    for (int card : cards) {
+      hand.add(card);
+    }
+    return handEvaluator.evaluate(hand);
+  }
+}
@@ -0,0 +1,71 @@
+package com.nortal.game.poker.equity;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RevolvingDoorCombinationsTest {
+
+  @Test
+  public void visitsEveryCombinationOnceChangingOneElementAtATime() throws Exception {
+    for (int n = 0; n <= 12; n++) {
+      for (int k = 0; k <= n; k++) {
+        RevolvingDoorCombinations combinations = new RevolvingDoorCombinations(n, k);
+        Set<Long> visited = new HashSet<>();
+        long previous = mask(combinations);
+        visited.add(previous);
+        while (combinations.next()) {
+          long current = mask(combinations);
+          assertEquals(1L << combinations.getRemoved(), previous & ~current);
+          assertEquals(1L << combinations.getAdded(), current & ~previous);
+          assertTrue(visited.add(current));
+          previous = current;
+        }
+        assertEquals("n=" + n + ", k=" + k, binomial(n, k), visited.size());
+      }
+    }
+  }
+
+  @Test
+  public void reset() throws Exception {
+    RevolvingDoorCombinations combinations = new RevolvingDoorCombinations(5, 2);
+    while (combinations.next()) {
+    }
+    combinations.reset();
+    assertEquals(0, combinations.get(0));
+    assertEquals(1, combinations.get(1));
+    assertTrue(combinations.next());
+  }
+
+  @Test
+  public void emptyCombinationIsVisitedOnce() throws Exception {
+    assertFalse(new RevolvingDoorCombinations(5, 0).next());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void cannotChooseMoreThanAvailable() throws Exception {
+    new RevolvingDoorCombinations(2, 3);
+  }
+
+  private long mask(RevolvingDoorCombinations combinations) {
+    long mask = 0;
+    for (int i = 0; i < combinations.size(); i++) {
+      assertTrue(i == 0 || combinations.get(i - 1) < combinations.get(i));
+      mask |= 1L << combinations.get(i);
+    }
+    return mask;
+  }
+
+  private long binomial(int n, int k) {
+    long result = 1;
+    for (int i = 1; i <= k; i++) {
+      result = result * (n - k + i) / i;
+    }
+    return result;
+  }
+}
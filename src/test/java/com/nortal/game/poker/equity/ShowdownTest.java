@@ -0,0 +1,50 @@
+package com.nortal.game.poker.equity;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Test;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ShowdownTest {
+
+  @Test
+  public void unseenCards() throws Exception {
+    Showdown showdown = new Showdown(new LookupTableHandEvaluator(), new int[][]{{0, 1}, {2}});
+    assertEquals(49, showdown.getUnseenCards().length);
+    assertEquals(3, showdown.getUnseenCards()[0]);
+    assertEquals(7, showdown.getMissingCardCount());
+    assertEquals(3, showdown.getMissingCardCount(0));
+  }
+
+  @Test
+  public void recordWinnersWithTie() throws Exception {
+    Showdown showdown = new Showdown(new LookupTableHandEvaluator(), new int[][]{{}, {}});
+    showdown.fillMissingCards(new int[]{
+        CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE), CardIndex.of(NINE, SPADE), CardIndex.of(SEVEN, SPADE), CardIndex.of(TWO, HEART),
+        CardIndex.of(ACE, CLUB), CardIndex.of(KING, CLUB), CardIndex.of(NINE, CLUB), CardIndex.of(SEVEN, CLUB), CardIndex.of(TWO, DIAMOND)
+    });
+    long[] wins = new long[2];
+    long[] ties = new long[2];
+    showdown.recordWinners(wins, ties);
+    assertArrayEquals(new long[]{0, 0}, wins);
+    assertArrayEquals(new long[]{1, 1}, ties);
+  }
+
+  @Test
+  public void recordWinnersWithSingleWinner() throws Exception {
+    Showdown showdown = new Showdown(new LookupTableHandEvaluator(), new int[][]{{}, {}});
+    showdown.fillMissingCards(new int[]{
+        CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART), CardIndex.of(NINE, SPADE), CardIndex.of(SEVEN, SPADE), CardIndex.of(TWO, HEART),
+        CardIndex.of(KING, CLUB), CardIndex.of(QUEEN, CLUB), CardIndex.of(NINE, CLUB), CardIndex.of(SEVEN, CLUB), CardIndex.of(TWO, DIAMOND)
+    });
+    long[] wins = new long[2];
+    long[] ties = new long[2];
+    showdown.recordWinners(wins, ties);
+    assertArrayEquals(new long[]{1, 0}, wins);
+    assertArrayEquals(new long[]{0, 0}, ties);
+  }
+}
@@ -0,0 +1,123 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.Rank;
+import com.nortal.game.poker.card.Suit;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingHandEvaluatorTest {
+
+  @Test
+  public void suitIsomorphicHandsShareEntry() throws Exception {
+    HandEvaluator delegate = mock(HandEvaluator.class);
+    doReturn(42L).when(delegate).evaluate(any(Hand.class));
+    CachingHandEvaluator handEvaluator = new CachingHandEvaluator(delegate, 16);
+
+    assertEquals(42, handEvaluator.evaluate(createHand(SPADE, HEART)));
+    assertEquals(42, handEvaluator.evaluate(createHand(CLUB, DIAMOND)));
+
+    verify(delegate, times(1)).evaluate(any(Hand.class));
+    assertEquals(1, handEvaluator.getHits());
+    assertEquals(1, handEvaluator.getMisses());
+  }
+
+  @Test
+  public void handsWithDuplicateCardsAreNotCached() throws Exception {
+    HandEvaluator delegate = mock(HandEvaluator.class);
+    Hand hand = new Hand();
+    hand.add(new Card(ACE, SPADE));
+    hand.add(new Card(ACE, SPADE));
+    doReturn(7L).when(delegate).evaluate(hand);
+    CachingHandEvaluator handEvaluator = new CachingHandEvaluator(delegate, 16);
+
+    assertEquals(7, handEvaluator.evaluate(hand));
+    assertEquals(0, handEvaluator.getMisses());
+  }
+
+  @Test
+  public void capacityIsRoundedUpToPowerOfTwo() throws Exception {
+    assertEquals(16, new CachingHandEvaluator(new LookupTableHandEvaluator(), 10).getCapacity());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void capacityMustBePositive() throws Exception {
+    new CachingHandEvaluator(new LookupTableHandEvaluator(), 0);
+  }
+
+  @Test
+  public void smallCacheEvictsAndStaysCorrect() throws Exception {
+    LookupTableHandEvaluator lookupTableEvaluator = new LookupTableHandEvaluator();
+    CachingHandEvaluator handEvaluator = new CachingHandEvaluator(lookupTableEvaluator, 64);
+    int handCount = 5000;
+    int[] cards = LookupTableHandEvaluatorTest.randomHands(handCount, new SplittableRandom(11));
+    CompactHand hand = new CompactHand();
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < handCount; i++) {
+        hand.clear();
+        for (int card = 0; card < 5; card++) {
+          hand.add(cards[i * 5 + card]);
+        }
+        assertEquals(lookupTableEvaluator.evaluate(hand), handEvaluator.evaluate(hand));
+      }
+    }
+    assertEquals(2 * handCount, handEvaluator.getHits() + handEvaluator.getMisses());
+    assertTrue(handEvaluator.getEvictions() > 0);
+  }
+
+  @Test
+  public void defaultCapacityHoldsEveryClass() throws Exception {
+    LookupTableHandEvaluator lookupTableEvaluator = new LookupTableHandEvaluator();
+    CachingHandEvaluator handEvaluator = new CachingHandEvaluator(lookupTableEvaluator);
+    int handCount = 20000;
+    int[] cards = LookupTableHandEvaluatorTest.randomHands(handCount, new SplittableRandom(5));
+    long[] scores = new long[handCount];
+    lookupTableEvaluator.evaluateAll(cards, scores, handCount);
+    CompactHand hand = new CompactHand();
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < handCount; i++) {
+        hand.clear();
+        for (int card = 0; card < 5; card++) {
+          hand.add(cards[i * 5 + card]);
+        }
+        assertEquals(scores[i], handEvaluator.evaluate(hand));
+      }
+    }
+    assertEquals(0, handEvaluator.getEvictions());
+    assertTrue(handEvaluator.getHits() >= handCount);
+  }
+
+  @Test
+  public void valuesOutsideEntryRangeAreNotCached() throws Exception {
+    HandEvaluator delegate = mock(HandEvaluator.class);
+    doReturn(1L << 40).when(delegate).evaluate(any(Hand.class));
+    CachingHandEvaluator handEvaluator = new CachingHandEvaluator(delegate, 16);
+
+    assertEquals(1L << 40, handEvaluator.evaluate(createHand(SPADE, HEART)));
+    assertEquals(1L << 40, handEvaluator.evaluate(createHand(SPADE, HEART)));
+
+    assertEquals(0, handEvaluator.getHits());
+    assertEquals(2, handEvaluator.getMisses());
+  }
+
+  private Hand createHand(Suit suit, Suit otherSuit) {
+    Hand hand = new Hand();
+    hand.add(new Card(ACE, suit));
+    hand.add(new Card(KING, suit));
+    hand.add(new Card(QUEEN, otherSuit));
+    hand.add(new Card(Rank.FIVE, otherSuit));
+    hand.add(new Card(TWO, suit));
+    return hand;
+  }
+}
@@ -0,0 +1,59 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.CardIndex;
+import org.junit.Test;
+
+import static com.nortal.game.poker.card.Rank.ACE;
+import static com.nortal.game.poker.card.Rank.KING;
+import static com.nortal.game.poker.card.Suit.HEART;
+import static com.nortal.game.poker.card.Suit.SPADE;
+import static org.junit.Assert.assertEquals;
+
+public class CompactHandTest {
+
+  @Test
+  public void add() throws Exception {
+    CompactHand hand = new CompactHand();
+    hand.add(CardIndex.of(ACE, SPADE));
+    hand.add(CardIndex.of(KING, HEART));
+    assertEquals(2, hand.size());
+    assertEquals(CardIndex.of(KING, HEART), hand.get(1));
+    assertEquals(CardIndex.mask(CardIndex.of(ACE, SPADE)) | CardIndex.mask(CardIndex.of(KING, HEART)), hand.mask());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void addThrowsExceptionWhenHandIsFull() throws Exception {
+    CompactHand hand = new CompactHand();
+    for (int i = 0; i <= CompactHand.MAX_CARDS; i++) {
+      hand.add(i);
+    }
+  }
+
+  @Test
+  public void set() throws Exception {
+    CompactHand hand = new CompactHand();
+    hand.add(CardIndex.of(ACE, SPADE));
+    hand.set(0, CardIndex.of(KING, HEART));
+    assertEquals(CardIndex.of(KING, HEART), hand.get(0));
+    assertEquals(CardIndex.mask(CardIndex.of(KING, HEART)), hand.mask());
+  }
+
+  @Test
+  public void clear() throws Exception {
+    CompactHand hand = new CompactHand();
+    hand.add(CardIndex.of(ACE, SPADE));
+    hand.clear();
+    assertEquals(0, hand.size());
+    assertEquals(0, hand.mask());
+  }
+
+  @Test
+  public void toHand() throws Exception {
+    CompactHand compactHand = new CompactHand();
+    compactHand.add(CardIndex.of(ACE, SPADE));
+    Hand hand = compactHand.toHand();
+    assertEquals(1, hand.size());
+    assertEquals(ACE, hand.get(0).getRank());
+    assertEquals(SPADE, hand.get(0).getSuit());
+  }
+}
@@ -0,0 +1,18 @@
+package com.nortal.game.poker.hand;
+
+import org.junit.Test;
+
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.*;
+import static org.junit.Assert.assertEquals;
+
+public class HandCategoryTest {
+
+  @Test
+  public void ofScore() throws Exception {
+    assertEquals(HandCategory.HIGH_CARD, HandCategory.of(0));
+    assertEquals(HandCategory.HIGH_CARD, HandCategory.of(ONE_PAIR_BASE));
+    assertEquals(HandCategory.ONE_PAIR, HandCategory.of(ONE_PAIR_BASE + 1));
+    assertEquals(HandCategory.FULL_HOUSE, HandCategory.of(FULL_HOUSE_BASE + 1413));
+    assertEquals(HandCategory.STRAIGHT_FLUSH, HandCategory.of(STRAIGHT_FLUSH_BASE + 14));
+  }
+}
@@ -0,0 +1,153 @@
+package com.nortal.game.poker.hand;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.card.Rank;
+import com.nortal.game.poker.card.Suit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.*;
+import static org.junit.Assert.assertEquals;
+
+public class LookupTableHandEvaluatorTest {
+
+  @Test
+  public void evaluateReturnsZeroForIncompleteHand() throws Exception {
+    Hand hand = new Hand();
+    hand.add(card(ACE, SPADE));
+    assertEquals(0, new LookupTableHandEvaluator().evaluate(hand));
+  }
+
+  @Test
+  public void evaluateStraightFlush() throws Exception {
+    Hand hand = createHand(card(ACE, SPADE), card(KING, SPADE), card(QUEEN, SPADE), card(JACK, SPADE), card(TEN, SPADE));
+    assertEquals(14 + STRAIGHT_FLUSH_BASE, new LookupTableHandEvaluator().evaluate(hand));
+  }
+
+  @Test
+  public void evaluateFiveHighStraight() throws Exception {
+    Hand hand = createHand(card(FIVE, SPADE), card(FOUR, HEART), card(THREE, SPADE), card(TWO, SPADE), card(ACE, SPADE));
+    assertEquals(5 + STRAIGHT_BASE, new LookupTableHandEvaluator().evaluate(hand));
+  }
+
+  @Test
+  public void evaluateFullHouse() throws Exception {
+    Hand hand = createHand(card(KING, HEART), card(ACE, SPADE), card(KING, DIAMOND), card(ACE, HEART), card(ACE, CLUB));
+    assertEquals(1413 + FULL_HOUSE_BASE, new LookupTableHandEvaluator().evaluate(hand));
+  }
+
+  @Test
+  public void evaluateMatchesStandardEvaluatorForEveryHand() throws Exception {
+    List<Card> cards = new ArrayList<>();
+    for (Suit suit : Suit.values()) {
+      for (Rank rank : Rank.values()) {
+        cards.add(card(rank, suit));
+      }
+    }
+
+    HandEvaluator standardEvaluator = new StandardPokerHandEvaluator();
+    HandEvaluator lookupTableEvaluator = new LookupTableHandEvaluator();
+    CompactHand compactHand = new CompactHand();
+    int handCount = 0;
+    for (int a = 0; a < cards.size(); a++) {
+      for (int b = a + 1; b < cards.size(); b++) {
+        for (int c = b + 1; c < cards.size(); c++) {
+          for (int d = c + 1; d < cards.size(); d++) {
+            for (int e = d + 1; e < cards.size(); e++) {
+              Hand hand = createHand(cards.get(a), cards.get(b), cards.get(c), cards.get(d), cards.get(e));
+              long actual = lookupTableEvaluator.evaluate(hand);
+              long expected = standardEvaluator.evaluate(hand);
+              if (actual != expected) assertEquals(hand.toString(), expected, actual);
+              compactHand.clear();
+              for (Card card : hand) {
+                compactHand.add(CardIndex.of(card));
+              }
+              long compactActual = lookupTableEvaluator.evaluate(compactHand);
+              if (compactActual != expected) assertEquals(hand.toString(), expected, compactActual);
+              handCount++;
+            }
+          }
+        }
+      }
+    }
+    assertEquals(2598960, handCount);
+  }
+
+  @Test
+  public void evaluateCompactHand() throws Exception {
+    CompactHand hand = new CompactHand();
+    hand.add(CardIndex.of(ACE, SPADE));
+    hand.add(CardIndex.of(ACE, HEART));
+    hand.add(CardIndex.of(ACE, DIAMOND));
+    hand.add(CardIndex.of(ACE, CLUB));
+    hand.add(CardIndex.of(KING, SPADE));
+    assertEquals(148192 + FOUR_OF_A_KIND_BASE, new LookupTableHandEvaluator().evaluate(hand));
+  }
+
+  @Test
+  public void evaluateAllMatchesSingleEvaluation() throws Exception {
+    int handCount = 1000;
+    int[] cards = randomHands(handCount, new SplittableRandom(3));
+    long[] scores = new long[handCount];
+    LookupTableHandEvaluator handEvaluator = new LookupTableHandEvaluator();
+
+    handEvaluator.evaluateAll(cards, scores, handCount);
+
+    CompactHand hand = new CompactHand();
+    for (int i = 0; i < handCount; i++) {
+      hand.clear();
+      for (int card = 0; card < 5; card++) {
+        hand.add(cards[i * 5 + card]);
+      }
+      assertEquals(handEvaluator.evaluate(hand), scores[i]);
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void evaluateAllNeedsFiveCardsPerHand() throws Exception {
+    new LookupTableHandEvaluator().evaluateAll(new int[9], new long[2], 2);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void evaluateAllNeedsRoomForScores() throws Exception {
+    new LookupTableHandEvaluator().evaluateAll(new int[10], new long[1], 2);
+  }
+
+  static int[] randomHands(int handCount, SplittableRandom random) {
+    int[] deck = new int[CardIndex.CARD_COUNT];
+    for (int card = 0; card < deck.length; card++) {
+      deck[card] = card;
+    }
+    int[] cards = new int[handCount * 5];
+    for (int i = 0; i < handCount; i++) {
+      for (int card = 0; card < 5; card++) {
+        int j = card + random.nextInt(deck.length - card);
+        int swap = deck[j];
+        deck[j] = deck[card];
+        deck[card] = swap;
+        cards[i * 5 + card] = deck[card];
+      }
+    }
+    return cards;
+  }
+
+  private Card card(Rank rank, Suit suit) {
+    return new Card(rank, suit);
+  }
+
+  private Hand createHand(Card card1, Card card2, Card card3, Card card4, Card card5) {
+    Hand hand = new Hand();
+    hand.add(card1);
+    hand.add(card2);
+    hand.add(card3);
+    hand.add(card4);
+    hand.add(card5);
+    return hand;
+  }
+}
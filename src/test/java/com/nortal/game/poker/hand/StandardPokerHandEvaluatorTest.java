@@ -1,6 +1,7 @@
 package com.nortal.game.poker.hand;
 
 import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
 import com.nortal.game.poker.card.Rank;
 import com.nortal.game.poker.card.Suit;
 import org.junit.Test;
@@ -8,10 +9,12 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 import static com.nortal.game.poker.card.Rank.*;
 import static com.nortal.game.poker.card.Suit.*;
 import static com.nortal.game.poker.hand.StandardPokerHandEvaluator.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
@@ -212,6 +215,37 @@ public class StandardPokerHandEvaluatorTest {
     assertTrue(handEvaluator.getFourOfAKindValue(fourOfAKindHigh) < handEvaluator.getStraightFlushValue(straightFlushLow));
   }
 
+  @Test
+  public void evaluateAll() throws Exception {
+    int handCount = 200;
+    int[] cards = LookupTableHandEvaluatorTest.randomHands(handCount, new SplittableRandom(5));
+    long[] scores = new long[handCount];
+    StandardPokerHandEvaluator handEvaluator = new StandardPokerHandEvaluator();
+
+    handEvaluator.evaluateAll(cards, scores, handCount);
+
+    for (int i = 0; i < handCount; i++) {
+      Hand hand = createHand(CardIndex.toCard(cards[i * 5]), CardIndex.toCard(cards[i * 5 + 1]), CardIndex.toCard(cards[i * 5 + 2]),
+          CardIndex.toCard(cards[i * 5 + 3]), CardIndex.toCard(cards[i * 5 + 4]));
+      assertEquals(handEvaluator.evaluate(hand), scores[i]);
+    }
+  }
+
+  @Test
+  public void evaluateAllDefaultImplementation() throws Exception {
+    int handCount = 200;
+    int[] cards = LookupTableHandEvaluatorTest.randomHands(handCount, new SplittableRandom(5));
+    long[] expected = new long[handCount];
+    long[] scores = new long[handCount];
+    StandardPokerHandEvaluator handEvaluator = new StandardPokerHandEvaluator();
+    HandEvaluator delegatingEvaluator = handEvaluator::evaluate;
+
+    handEvaluator.evaluateAll(cards, expected, handCount);
+    delegatingEvaluator.evaluateAll(cards, scores, handCount);
+
+    assertArrayEquals(expected, scores);
+  }
+
   private Card card(Rank rank, Suit suit) {
     return new Card(rank, suit);
   }
@@ -0,0 +1,37 @@
+package com.nortal.game.poker.history;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class BitPackingTest {
+
+  @Test
+  public void bitWidth() throws Exception {
+    assertEquals(0, BitPacking.bitWidth(0));
+    assertEquals(1, BitPacking.bitWidth(1));
+    assertEquals(3, BitPacking.bitWidth(4));
+    assertEquals(64, BitPacking.bitWidth(-1L));
+  }
+
+  @Test
+  public void packAndUnpackEveryWidth() throws Exception {
+    SplittableRandom random = new SplittableRandom(17);
+    long[] values = new long[100];
+    long[] words = new long[100];
+    long[] unpacked = new long[100];
+    for (int bitWidth = 0; bitWidth <= 64; bitWidth++) {
+      long mask = bitWidth == 64 ? -1L : (1L << bitWidth) - 1;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextLong() & mask;
+      }
+      BitPacking.pack(values, values.length, bitWidth, words);
+      BitPacking.unpack(words, values.length, bitWidth, unpacked);
+      for (int i = 0; i < values.length; i++) {
+        assertEquals("width " + bitWidth, values[i], unpacked[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.nortal.game.poker.history;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnReaderTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void deltaColumnRoundTripsAcrossBlocks() throws Exception {
+    Path path = folder.newFile().toPath();
+    int valueCount = ColumnWriter.BLOCK_SIZE * 2 + 17;
+    try (ColumnWriter writer = new ColumnWriter(path, true)) {
+      for (int i = 0; i < valueCount; i++) {
+        writer.write(1_000_000_000L + i / 3);
+      }
+    }
+
+    try (ColumnReader reader = new ColumnReader(path)) {
+      for (int i = 0; i < valueCount; i++) {
+        assertTrue(reader.hasNext());
+        assertEquals(1_000_000_000L + i / 3, reader.nextLong());
+      }
+      assertFalse(reader.hasNext());
+    }
+    assertTrue(Files.size(path) < valueCount);
+  }
+
+  @Test
+  public void plainColumnKeepsNegativeAndLargeValues() throws Exception {
+    Path path = folder.newFile().toPath();
+    long[] values = {-5, Long.MAX_VALUE, Long.MIN_VALUE, 0, 42};
+    try (ColumnWriter writer = new ColumnWriter(path, false)) {
+      for (long value : values) {
+        writer.write(value);
+      }
+    }
+
+    try (ColumnReader reader = new ColumnReader(path)) {
+      for (long value : values) {
+        assertEquals(value, reader.nextLong());
+      }
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void emptyColumnHasNoValues() throws Exception {
+    Path path = folder.newFile().toPath();
+    new ColumnWriter(path, false).close();
+    try (ColumnReader reader = new ColumnReader(path)) {
+      reader.nextLong();
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsFileWithoutHeader() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, new byte[16]);
+    new ColumnReader(path);
+  }
+}
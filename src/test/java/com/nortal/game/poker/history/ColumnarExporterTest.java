@@ -0,0 +1,73 @@
+package com.nortal.game.poker.history;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.HandCategory;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ColumnarExporterTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void exportsOneRowPerSeatAndRound() throws Exception {
+    Path historyPath = folder.newFile().toPath();
+    Files.delete(historyPath);
+    int[] cards = {
+        CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART), CardIndex.of(NINE, SPADE), CardIndex.of(SIX, CLUB),
+        CardIndex.of(THREE, DIAMOND),
+        CardIndex.of(KING, SPADE), CardIndex.of(JACK, HEART), CardIndex.of(NINE, HEART), CardIndex.of(SIX, DIAMOND),
+        CardIndex.of(TWO, DIAMOND)
+    };
+    try (HandHistoryWriter writer = new HandHistoryWriter(historyPath)) {
+      writer.append(10, 1, 2, new int[]{3, -3}, 2, 1, cards);
+      writer.append(11, 1, 0, new int[]{-1, 1}, 2, 2, cards);
+    }
+
+    Path directory = folder.getRoot().toPath().resolve("columns");
+    try (HandHistoryReader reader = new HandHistoryReader(historyPath)) {
+      assertEquals(4, new ColumnarExporter(new LookupTableHandEvaluator()).export(reader, directory));
+    }
+
+    CompactHand pair = new CompactHand();
+    for (int card = 0; card < 5; card++) {
+      pair.add(cards[card]);
+    }
+    long pairScore = new LookupTableHandEvaluator().evaluate(pair);
+    assertColumn(directory, ColumnarExporter.ROUND, 10, 10, 11, 11);
+    assertColumn(directory, ColumnarExporter.PLAYER, 0, 1, 0, 1);
+    assertColumn(directory, ColumnarExporter.POT, 6, 6, 2, 2);
+    assertColumn(directory, ColumnarExporter.WON, 1, 0, 0, 1);
+    try (ColumnReader cardMask = ColumnarExporter.openColumn(directory, ColumnarExporter.CARD_MASK);
+         ColumnReader score = ColumnarExporter.openColumn(directory, ColumnarExporter.SCORE)) {
+      assertEquals(pair.mask(), cardMask.nextLong());
+      assertEquals(pairScore, score.nextLong());
+    }
+
+    long[][] counts = ColumnarExporter.countWinsByCategory(directory);
+    assertEquals(2, counts[HandCategory.ONE_PAIR.ordinal()][0]);
+    assertEquals(1, counts[HandCategory.ONE_PAIR.ordinal()][1]);
+    assertEquals(2, counts[HandCategory.HIGH_CARD.ordinal()][0]);
+    assertEquals(1, counts[HandCategory.HIGH_CARD.ordinal()][1]);
+  }
+
+  private void assertColumn(Path directory, String column, long... expected) throws Exception {
+    try (ColumnReader reader = ColumnarExporter.openColumn(directory, column)) {
+      for (long value : expected) {
+        assertEquals(column, value, reader.nextLong());
+      }
+      assertFalse(reader.hasNext());
+    }
+  }
+}
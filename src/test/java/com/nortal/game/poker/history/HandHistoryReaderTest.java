@@ -0,0 +1,90 @@
+package com.nortal.game.poker.history;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HandHistoryReaderTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void readsBackEveryAppendedRecord() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.delete(path);
+    try (HandHistoryWriter writer = new HandHistoryWriter(path, 4)) {
+      for (int round = 0; round < 10; round++) {
+        appendRound(writer, round);
+      }
+    }
+
+    try (HandHistoryReader reader = new HandHistoryReader(path)) {
+      assertEquals(10, reader.getRecordCount());
+      long round = 0;
+      for (HandHistoryRecord record : reader) {
+        assertEquals(round, record.getRound());
+        assertEquals(42, record.getSeed());
+        assertEquals((int) round % 3, record.getExtraBid());
+        assertEquals(2, record.getPlayerCount());
+        assertEquals(3, record.getChipDelta(0));
+        assertEquals(-3, record.getChipDelta(1));
+        assertTrue(record.isWinner(0));
+        assertFalse(record.isWinner(1));
+        assertEquals(0, record.getCard(0, 0));
+        assertEquals(51, record.getCard(1, 4));
+        round++;
+      }
+      assertEquals(10, round);
+    }
+  }
+
+  @Test
+  public void reopenedWriterAppendsAfterExistingRecords() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.delete(path);
+    try (HandHistoryWriter writer = new HandHistoryWriter(path)) {
+      appendRound(writer, 0);
+    }
+    try (HandHistoryWriter writer = new HandHistoryWriter(path)) {
+      appendRound(writer, 1);
+    }
+
+    try (HandHistoryReader reader = new HandHistoryReader(path)) {
+      assertEquals(2, reader.getRecordCount());
+      assertEquals(1, reader.read(1, new HandHistoryRecord()).getRound());
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsFileWithoutHeader() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, new byte[100]);
+    new HandHistoryReader(path);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void readRejectsIndexOutOfRange() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.delete(path);
+    new HandHistoryWriter(path).close();
+    try (HandHistoryReader reader = new HandHistoryReader(path)) {
+      reader.read(0, new HandHistoryRecord());
+    }
+  }
+
+  private void appendRound(HandHistoryWriter writer, long round) throws IOException {
+    int[] cards = new int[10];
+    for (int card = 0; card < cards.length; card++) {
+      cards[card] = card < 5 ? card : 42 + card;
+    }
+    writer.append(round, 42, (int) round % 3, new int[]{3, -3}, 2, 1, cards);
+  }
+}
@@ -0,0 +1,108 @@
+package com.nortal.game.poker.history;
+
+import com.nortal.game.poker.board.DealGenerator;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.CompactHand;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RecordingBoardTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void recordsDealBidWinnersAndChipMovements() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.delete(path);
+    Human human = new Human("Human");
+    human.setChips(10);
+    Computer computer = new Computer("Computer");
+    computer.setChips(10);
+    int[] humanCards = new int[5];
+
+    try (HandHistoryWriter writer = new HandHistoryWriter(path)) {
+      RecordingBoard board = new RecordingBoard(new Deck(new CounterRandomSource(9)), new LookupTableHandEvaluator(),
+          writer, 9);
+      board.addPlayer(human).addPlayer(computer);
+      board.deal(77);
+      for (int card = 0; card < 5; card++) {
+        humanCards[card] = CardIndex.of(board.getPlayerHand(human).get(card));
+      }
+      board.raiseBid(2);
+      List<Player> winners = board.findPlayersWithBestHand();
+      if (winners.size() == 1) {
+        board.giveChipsOnBoardToPlayer(winners.get(0));
+      } else {
+        board.giveChipsBackToPlayers();
+      }
+    }
+
+    try (HandHistoryReader reader = new HandHistoryReader(path)) {
+      assertEquals(1, reader.getRecordCount());
+      HandHistoryRecord record = reader.read(0, new HandHistoryRecord());
+      assertEquals(77, record.getRound());
+      assertEquals(9, record.getSeed());
+      assertEquals(2, record.getExtraBid());
+      assertEquals(2, record.getPlayerCount());
+      for (int card = 0; card < 5; card++) {
+        assertEquals(humanCards[card], record.getCard(0, card));
+      }
+      assertEquals(human.chipCount() - 10, record.getChipDelta(0));
+      assertEquals(computer.chipCount() - 10, record.getChipDelta(1));
+      assertEquals(0, record.getChipDelta(0) + record.getChipDelta(1));
+      assertTrue(record.isWinner(0) || record.isWinner(1));
+    }
+  }
+
+  @Test
+  public void dealWithoutRoundRecordsReplayableRounds() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.delete(path);
+    Human human = new Human("Human");
+    human.setChips(10);
+    Computer computer = new Computer("Computer");
+    computer.setChips(10);
+
+    try (HandHistoryWriter writer = new HandHistoryWriter(path)) {
+      RecordingBoard board = new RecordingBoard(new Deck(new CounterRandomSource(9)), new LookupTableHandEvaluator(),
+          writer, 9, 0);
+      board.addPlayer(human).addPlayer(computer);
+      for (int round = 0; round < 3; round++) {
+        board.deal();
+        board.giveChipsBackToPlayers();
+        assertEquals(HandHistoryWriter.HEADER_SIZE + (round + 1) * HandHistoryRecord.RECORD_SIZE, Files.size(path));
+      }
+    }
+
+    DealGenerator dealGenerator = new DealGenerator(9);
+    CompactHand[] hands = {new CompactHand(), new CompactHand()};
+    try (HandHistoryReader reader = new HandHistoryReader(path)) {
+      assertEquals(3, reader.getRecordCount());
+      HandHistoryRecord record = new HandHistoryRecord();
+      for (int i = 0; i < 3; i++) {
+        reader.read(i, record);
+        assertEquals(i, record.getRound());
+        dealGenerator.deal(record.getRound(), hands);
+        for (int seat = 0; seat < 2; seat++) {
+          for (int card = 0; card < 5; card++) {
+            assertEquals(hands[seat].get(card), record.getCard(seat, card));
+          }
+        }
+      }
+    }
+  }
+}
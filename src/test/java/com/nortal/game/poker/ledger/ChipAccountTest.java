@@ -0,0 +1,41 @@
+package com.nortal.game.poker.ledger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChipAccountTest {
+
+  @Test
+  public void creditAndDebit() throws Exception {
+    ChipAccount account = new ChipAccount(5);
+    account.credit(3);
+    account.debit(8);
+    assertEquals(0, account.getBalance());
+  }
+
+  @Test
+  public void tryDebitRefusesOverdraft() throws Exception {
+    ChipAccount account = new ChipAccount(5);
+    assertFalse(account.tryDebit(6));
+    assertTrue(account.tryDebit(5));
+    assertEquals(0, account.getBalance());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void debitThrowsOnOverdraft() throws Exception {
+    new ChipAccount(5).debit(6);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void negativeCreditIsRejected() throws Exception {
+    new ChipAccount(5).credit(-1);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void creditOverflowIsRejected() throws Exception {
+    new ChipAccount(Integer.MAX_VALUE).credit(1);
+  }
+}
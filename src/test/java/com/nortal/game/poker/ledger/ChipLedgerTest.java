@@ -0,0 +1,127 @@
+package com.nortal.game.poker.ledger;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChipLedgerTest {
+
+  @Test
+  public void accountIsCreatedOnce() throws Exception {
+    ChipLedger ledger = new ChipLedger();
+    assertSame(ledger.account("alice"), ledger.account("alice"));
+    assertNull(ledger.getAccount("bob"));
+    assertEquals(1, ledger.getAccountCount());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void openAccountRejectsDuplicate() throws Exception {
+    ChipLedger ledger = new ChipLedger();
+    ledger.openAccount("alice", 10);
+    ledger.openAccount("alice", 10);
+  }
+
+  @Test
+  public void closeAccountReturnsBalance() throws Exception {
+    ChipLedger ledger = new ChipLedger();
+    ledger.openAccount("alice", 10);
+
+    assertEquals(10, ledger.closeAccount("alice"));
+    assertNull(ledger.getAccount("alice"));
+    assertEquals(0, ledger.closeAccount("alice"));
+    assertEquals(0, ledger.getAccountCount());
+  }
+
+  @Test
+  public void transferMovesChips() throws Exception {
+    ChipLedger ledger = new ChipLedger();
+    ChipAccount alice = ledger.openAccount("alice", 10);
+    ChipAccount bob = ledger.openAccount("bob", 0);
+
+    ledger.transfer(alice, bob, 4);
+    assertFalse(ledger.tryTransfer(alice, bob, 7));
+
+    assertEquals(6, alice.getBalance());
+    assertEquals(4, bob.getBalance());
+  }
+
+  @Test
+  public void debitAllRollsBackOnOverdraft() throws Exception {
+    ChipAccount[] accounts = {new ChipAccount(5), new ChipAccount(5), new ChipAccount(2)};
+    try {
+      ChipLedger.debitAll(accounts, 3, 3);
+    } catch (RuntimeException expected) {
+    }
+    assertEquals(5, accounts[0].getBalance());
+    assertEquals(5, accounts[1].getBalance());
+    assertEquals(2, accounts[2].getBalance());
+
+    ChipLedger.debitAll(accounts, 3, 2);
+    assertEquals(3, accounts[0].getBalance());
+    assertEquals(0, accounts[2].getBalance());
+  }
+
+  @Test(timeout = 60000)
+  public void concurrentTablesKeepBalancesConsistent() throws Exception {
+    int accountCount = 16;
+    int tableCount = 8;
+    int seatsPerTable = 3;
+    int roundsPerTable = 50000;
+    int startingChips = 100;
+    ChipLedger ledger = new ChipLedger();
+    ChipAccount[] accounts = new ChipAccount[accountCount];
+    for (int i = 0; i < accountCount; i++) {
+      accounts[i] = ledger.openAccount("player-" + i, startingChips);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(tableCount);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger overdrafts = new AtomicInteger();
+    Future<?>[] tables = new Future<?>[tableCount];
+    for (int table = 0; table < tableCount; table++) {
+      SplittableRandom random = new SplittableRandom(table);
+      tables[table] = executor.submit(() -> {
+        ChipAccount[] seats = new ChipAccount[seatsPerTable];
+        start.await();
+        for (int round = 0; round < roundsPerTable; round++) {
+          for (int seat = 0; seat < seatsPerTable; seat++) {
+            seats[seat] = accounts[random.nextInt(accountCount)];
+          }
+          int bid = 1 + random.nextInt(5);
+          try {
+            ChipLedger.debitAll(seats, seatsPerTable, bid);
+          } catch (RuntimeException e) {
+            overdrafts.incrementAndGet();
+            continue;
+          }
+          seats[random.nextInt(seatsPerTable)].credit(bid * seatsPerTable);
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    for (Future<?> table : tables) {
+      table.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals((long) accountCount * startingChips, ledger.getTotalChips());
+    for (ChipAccount account : accounts) {
+      assertTrue(account.getBalance() >= 0);
+    }
+    assertTrue(overdrafts.get() > 0);
+  }
+}
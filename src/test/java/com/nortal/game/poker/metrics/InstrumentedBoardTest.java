@@ -0,0 +1,50 @@
+package com.nortal.game.poker.metrics;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.ui.UI;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class InstrumentedBoardTest {
+
+  @Test
+  public void recordsDealsEvaluationsAndRounds() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    HandEvaluator handEvaluator = new InstrumentedHandEvaluator(new LookupTableHandEvaluator(), registry);
+    InstrumentedBoard board = new InstrumentedBoard(new Deck(new CounterRandomSource(1)), handEvaluator, registry, "7");
+    for (int i = 0; i < 3; i++) {
+      Player player = new Computer("player-" + i);
+      player.setChips(10);
+      board.addPlayer(player);
+    }
+
+    board.deal();
+    board.deal(5);
+    board.findPlayersWithBestHand();
+
+    assertEquals(2, registry.histogram(InstrumentedBoard.DEAL).getCount());
+    assertEquals(1, registry.histogram(InstrumentedBoard.FIND_BEST_HAND).getCount());
+    assertEquals(3, registry.histogram(InstrumentedHandEvaluator.EVALUATE).getCount());
+    assertEquals(3, registry.counter(InstrumentedHandEvaluator.HANDS_EVALUATED).getCount());
+    assertEquals(2, registry.counter(InstrumentedBoard.ROUNDS).getCount());
+    assertEquals(2, registry.counter(InstrumentedBoard.tableRoundsName("7")).getCount());
+  }
+
+  @Test
+  public void instrumentedUIRecordsBidWait() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    UI userInterface = mock(UI.class);
+    doReturn(3).when(userInterface).getExtraBid(5);
+
+    assertEquals(3, new InstrumentedUI(userInterface, registry).getExtraBid(5));
+    assertEquals(1, registry.histogram(InstrumentedUI.BID_WAIT).getCount());
+  }
+}
@@ -0,0 +1,75 @@
+package com.nortal.game.poker.metrics;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void bucketUpperBoundCoversValue() throws Exception {
+    for (long value = 0; value < 100000; value++) {
+      int bucket = LatencyHistogram.bucketIndex(value);
+      assertTrue(LatencyHistogram.bucketUpperBound(bucket) >= value);
+      if (bucket > 0) assertTrue(LatencyHistogram.bucketUpperBound(bucket - 1) < value);
+    }
+    assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void percentilesAreWithinRelativePrecision() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 10000; value++) {
+      histogram.record(value * 1000);
+    }
+
+    assertEquals(10000, histogram.getCount());
+    assertEquals(10_000_000, histogram.getMax());
+    assertEquals(5_000_500, histogram.getMean(), 0.1);
+    assertWithin(5_000_000, histogram.getPercentile(50));
+    assertWithin(9_900_000, histogram.getPercentile(99));
+    assertEquals(10_000_000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void emptyHistogram() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getPercentile(99));
+    assertEquals(0, histogram.getMean(), 0);
+  }
+
+  @Test
+  public void recordDoesNotAllocate() throws Exception {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+    LatencyHistogram histogram = new LatencyHistogram();
+    Counter counter = new Counter();
+    for (int i = 0; i < 100000; i++) {
+      histogram.record(i);
+      counter.increment();
+    }
+
+    long threadId = Thread.currentThread().threadId();
+    long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < 100000; i++) {
+      histogram.record(i * 31L);
+      counter.increment();
+    }
+    long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+  }
+
+  private void assertWithin(long expected, long actual) {
+    assertTrue("Expected about " + expected + " but was " + actual,
+        Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKET_COUNT);
+  }
+}
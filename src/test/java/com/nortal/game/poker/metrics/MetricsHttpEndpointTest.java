@@ -0,0 +1,40 @@
+package com.nortal.game.poker.metrics;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsHttpEndpointTest {
+
+  @Test
+  public void servesRenderedMetrics() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("rounds").add(12);
+    MetricsHttpEndpoint endpoint = new MetricsHttpEndpoint(registry);
+    endpoint.start(new InetSocketAddress("localhost", 0));
+    try {
+      HttpURLConnection connection = (HttpURLConnection)
+          URI.create("http://localhost:" + endpoint.getPort() + MetricsHttpEndpoint.PATH).toURL().openConnection();
+      assertEquals(200, connection.getResponseCode());
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try (InputStream input = connection.getInputStream()) {
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = input.read(buffer)) > 0) {
+          body.write(buffer, 0, read);
+        }
+      }
+      assertTrue(new String(body.toByteArray(), StandardCharsets.UTF_8).contains("rounds_total 12"));
+    } finally {
+      endpoint.stop();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.nortal.game.poker.metrics;
+
+import org.junit.Test;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MetricsMBeanTest {
+
+  @Test
+  public void exposesMetricsAsAttributes() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("rounds").add(7);
+    registry.histogram("ui_bid_wait").record(250);
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+    ObjectName name = MetricsMBean.register(registry, server);
+
+    assertEquals(7L, server.getAttribute(name, "rounds.Count"));
+    assertEquals(1L, server.getAttribute(name, "ui_bid_wait.Count"));
+    assertEquals(250L, server.getAttribute(name, "ui_bid_wait.MaxNanos"));
+    assertEquals(7, server.getMBeanInfo(name).getAttributes().length);
+  }
+
+  @Test(expected = AttributeNotFoundException.class)
+  public void unknownAttribute() throws Exception {
+    new MetricsMBean(new MetricsRegistry()).getAttribute("missing.Count");
+  }
+
+  @Test
+  public void invokeReportsMissingOperation() throws Exception {
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+    ObjectName name = MetricsMBean.register(new MetricsRegistry(), server);
+    try {
+      server.invoke(name, "reset", new Object[0], new String[0]);
+      fail();
+    } catch (ReflectionException e) {
+      assertTrue(e.getTargetException() instanceof NoSuchMethodException);
+    }
+  }
+}
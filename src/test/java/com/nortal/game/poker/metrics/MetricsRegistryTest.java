@@ -0,0 +1,64 @@
+package com.nortal.game.poker.metrics;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+
+  @Test
+  public void registersMetricsOnce() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    assertSame(registry.counter("rounds"), registry.counter("rounds"));
+    assertSame(registry.histogram("board_deal"), registry.histogram("board_deal"));
+  }
+
+  @Test
+  public void renderWritesCountersAndHistograms() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("rounds").add(3);
+    registry.histogram("board_deal").record(100);
+
+    String text = registry.render();
+
+    assertTrue(text.contains("rounds_total 3\n"));
+    assertTrue(text.contains("rounds_per_second "));
+    assertTrue(text.contains("board_deal_count 1\n"));
+    assertTrue(text.contains("board_deal_nanos{quantile=\"0.99\"} 100\n"));
+    assertTrue(text.contains("board_deal_max_nanos 100\n"));
+  }
+
+  @Test
+  public void renderUsesFixedQuantileLabelsAndDecimalPoint() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.histogram("board_deal").record(100);
+    registry.histogram("board_deal").record(200);
+
+    Locale defaultLocale = Locale.getDefault();
+    Locale.setDefault(Locale.GERMANY);
+    String text;
+    try {
+      text = registry.render();
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+
+    assertTrue(text.contains("board_deal_nanos{quantile=\"0.5\"} "));
+    assertTrue(text.contains("board_deal_nanos{quantile=\"0.999\"} 200\n"));
+    assertTrue(text.contains("board_deal_mean_nanos 150.0\n"));
+  }
+
+  @Test
+  public void removeDropsMetric() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("table_1_rounds").increment();
+    registry.remove("table_1_rounds");
+    assertFalse(registry.render().contains("table_1_rounds"));
+    assertEquals(0, registry.getCounters().size());
+  }
+}
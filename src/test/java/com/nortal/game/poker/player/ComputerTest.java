@@ -0,0 +1,113 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import org.junit.Test;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class ComputerTest {
+
+  @Test
+  public void getExtraBidDefaultsToZero() throws Exception {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(5).when(context).getMaxPossibleBid();
+    doReturn(new Hand()).when(context).copyHand(any(Hand.class));
+    assertEquals(0, new Computer("name").getExtraBid(context));
+  }
+
+  @Test
+  public void getExtraBidUsesBidStrategy() throws Exception {
+    Hand hand = new Hand();
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(5).when(context).getMaxPossibleBid();
+    doReturn(hand).when(context).copyHand(any(Hand.class));
+    BidStrategy bidStrategy = mock(BidStrategy.class);
+    doReturn(3).when(bidStrategy).getExtraBid(hand, 5);
+    assertEquals(3, new Computer("name", bidStrategy).getExtraBid(context));
+  }
+
+  @Test
+  public void bidStrategyHasNoDecisionBudget() throws Exception {
+    Computer computer = new Computer("name", new FixedBidStrategy(2));
+    assertEquals(Computer.UNLIMITED_DECISION_BUDGET, computer.getDecisionBudgetNanos());
+    assertTrue(computer.getDecisionStrategy() instanceof BidDecisionStrategy);
+  }
+
+  @Test
+  public void getExtraBidFromContextIsClamped() throws Exception {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(5).when(context).getMaxPossibleBid();
+    doReturn(System.nanoTime() + 10_000_000_000L).when(context).getHardDeadlineNanos();
+    assertEquals(5, new Computer("name", c -> 9, 1000).getExtraBid(context));
+    assertEquals(0, new Computer("name", c -> -1, 1000).getExtraBid(context));
+  }
+
+  @Test
+  public void decisionOverBudgetIsDiscarded() throws Exception {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(5).when(context).getMaxPossibleBid();
+    doReturn(System.nanoTime() + 10_000_000_000L).when(context).getHardDeadlineNanos();
+    doReturn(true).when(context).isPastHardDeadline();
+    Computer computer = new Computer("name", c -> 3, 1000);
+
+    assertEquals(0, computer.getExtraBid(context));
+    assertEquals(1, computer.getDecisions());
+    assertEquals(1, computer.getOverBudgetDecisions());
+  }
+
+  @Test(timeout = 10000)
+  public void strategyIgnoringDeadlineIsAbandoned() throws Exception {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(5).when(context).getMaxPossibleBid();
+    doReturn(System.nanoTime() + 20_000_000).when(context).getHardDeadlineNanos();
+    Computer computer = new Computer("name", c -> {
+      LockSupport.parkNanos(60_000_000_000L);
+      return 5;
+    }, 20_000_000);
+
+    assertEquals(0, computer.getExtraBid(context));
+    assertEquals(1, computer.getOverBudgetDecisions());
+  }
+
+  @Test
+  public void builtInStrategiesDecideInline() throws Exception {
+    LookupTableHandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    assertTrue(new Computer("equity",
+        new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(1), 100, 1), 1000).decidesInline());
+    assertTrue(new Computer("table", new StrengthTableDecisionStrategy(handEvaluator, 1), 1000).decidesInline());
+    assertTrue(new Computer("fixed", new FixedBidStrategy(1)).decidesInline());
+    assertFalse(new Computer("lambda", c -> 1, 1000).decidesInline());
+  }
+
+  @Test
+  public void samplingCutShortBySoftDeadlineStillBids() throws Exception {
+    LookupTableHandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    Computer computer = new Computer("equity",
+        new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(1), 10_000_000, 1), 2_000_000);
+    Board board = new Board(new Deck(new SplittableRandomSource(1)), handEvaluator)
+        .addPlayer(computer).addPlayer(new Computer("opponent"));
+    computer.setChips(100);
+    board.getPlayer(1).setChips(100);
+
+    int bids = 0;
+    for (int round = 0; round < 50; round++) {
+      board.deal();
+      if (computer.getExtraBid(board.getDecisionContext(computer, computer.getDecisionBudgetNanos())) > 0) bids++;
+      board.giveChipsBackToPlayers();
+    }
+
+    assertTrue("Bids: " + bids, bids > 0);
+    assertTrue("Over budget: " + computer.getOverBudgetDecisions(), computer.getOverBudgetDecisions() < 25);
+  }
+}
@@ -0,0 +1,98 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import org.junit.Test;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class EquityDecisionStrategyTest {
+
+  @Test
+  public void unbeatableHandBetsKellyFractionOfChips() throws Exception {
+    EquityDecisionStrategy strategy = createStrategy(1000);
+    DecisionContext context = context(2, 100, 60, CardIndex.of(ACE, SPADE), CardIndex.of(KING, SPADE),
+        CardIndex.of(QUEEN, SPADE), CardIndex.of(JACK, SPADE), CardIndex.of(TEN, SPADE));
+
+    assertEquals(50, strategy.decideExtraBid(context));
+    assertEquals(1.0, strategy.getLastEquity(), 0);
+    assertEquals(1000, strategy.getLastSamples());
+  }
+
+  @Test
+  public void bidIsLimitedByMaxPossibleBid() throws Exception {
+    EquityDecisionStrategy strategy = createStrategy(100);
+    DecisionContext context = context(3, 100, 20, CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART),
+        CardIndex.of(ACE, DIAMOND), CardIndex.of(ACE, CLUB), CardIndex.of(KING, SPADE));
+
+    assertEquals(20, strategy.decideExtraBid(context));
+  }
+
+  @Test
+  public void weakHandDoesNotBid() throws Exception {
+    EquityDecisionStrategy strategy = createStrategy(1000);
+    DecisionContext context = context(2, 100, 100, CardIndex.of(SEVEN, SPADE), CardIndex.of(FIVE, HEART),
+        CardIndex.of(FOUR, DIAMOND), CardIndex.of(THREE, CLUB), CardIndex.of(TWO, SPADE));
+
+    assertEquals(0, strategy.decideExtraBid(context));
+    assertTrue(strategy.getLastEquity() < 0.1);
+  }
+
+  @Test
+  public void equityOfMiddlingHandIsPlausible() throws Exception {
+    EquityDecisionStrategy strategy = createStrategy(20000);
+    DecisionContext context = context(2, 100, 100, CardIndex.of(JACK, SPADE), CardIndex.of(JACK, HEART),
+        CardIndex.of(EIGHT, DIAMOND), CardIndex.of(FIVE, CLUB), CardIndex.of(TWO, SPADE));
+
+    strategy.decideExtraBid(context);
+
+    assertTrue(strategy.getLastEquity() > 0.5 && strategy.getLastEquity() < 0.8);
+  }
+
+  @Test
+  public void stopsSamplingWhenOutOfTime() throws Exception {
+    EquityDecisionStrategy strategy = createStrategy(1_000_000);
+    DecisionContext context = context(2, 100, 100, CardIndex.of(JACK, SPADE), CardIndex.of(JACK, HEART),
+        CardIndex.of(EIGHT, DIAMOND), CardIndex.of(FIVE, CLUB), CardIndex.of(TWO, SPADE));
+    doReturn(true).when(context).isOutOfTime();
+
+    strategy.decideExtraBid(context);
+
+    assertEquals(EquityDecisionStrategy.SAMPLES_PER_DEADLINE_CHECK, strategy.getLastSamples());
+  }
+
+  @Test
+  public void incompleteHandDoesNotBid() throws Exception {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(2).when(context).getPlayerCount();
+    doReturn(3).when(context).getCardCount();
+    assertEquals(0, createStrategy(100).decideExtraBid(context));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void kellyFractionMustBePositive() throws Exception {
+    new EquityDecisionStrategy(new LookupTableHandEvaluator(), new SplittableRandomSource(1), 100, 0);
+  }
+
+  private EquityDecisionStrategy createStrategy(int maxSamples) {
+    return new EquityDecisionStrategy(new LookupTableHandEvaluator(), new SplittableRandomSource(1), maxSamples, 0.5);
+  }
+
+  private DecisionContext context(int playerCount, int chips, int maxPossibleBid, int... cards) {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(playerCount).when(context).getPlayerCount();
+    doReturn(chips).when(context).getChips();
+    doReturn(maxPossibleBid).when(context).getMaxPossibleBid();
+    doReturn(cards.length).when(context).getCardCount();
+    for (int i = 0; i < cards.length; i++) {
+      doReturn(cards[i]).when(context).getCard(i);
+    }
+    return context;
+  }
+}
@@ -0,0 +1,19 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FixedBidStrategyTest {
+
+  @Test
+  public void getExtraBid() throws Exception {
+    assertEquals(2, new FixedBidStrategy(2).getExtraBid(new Hand(), 5));
+  }
+
+  @Test
+  public void getExtraBidIsLimitedByMaxPossibleBid() throws Exception {
+    assertEquals(1, new FixedBidStrategy(2).getExtraBid(new Hand(), 1));
+  }
+}
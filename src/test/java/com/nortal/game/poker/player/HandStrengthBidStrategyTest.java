@@ -0,0 +1,28 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.hand.Hand;
+import com.nortal.game.poker.hand.HandEvaluator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class HandStrengthBidStrategyTest {
+
+  @Test
+  public void bidsEverythingWithStrongHand() throws Exception {
+    Hand hand = new Hand();
+    HandEvaluator handEvaluator = mock(HandEvaluator.class);
+    doReturn(20L).when(handEvaluator).evaluate(hand);
+    assertEquals(7, new HandStrengthBidStrategy(handEvaluator, 20).getExtraBid(hand, 7));
+  }
+
+  @Test
+  public void bidsNothingWithWeakHand() throws Exception {
+    Hand hand = new Hand();
+    HandEvaluator handEvaluator = mock(HandEvaluator.class);
+    doReturn(10L).when(handEvaluator).evaluate(hand);
+    assertEquals(0, new HandStrengthBidStrategy(handEvaluator, 20).getExtraBid(hand, 7));
+  }
+}
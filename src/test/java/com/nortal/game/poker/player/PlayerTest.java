@@ -1,9 +1,11 @@
 package com.nortal.game.poker.player;
 
+import com.nortal.game.poker.ledger.ChipAccount;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class PlayerTest {
@@ -12,53 +14,73 @@ public class PlayerTest {
   public void setChip() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
     player.setChips(666);
-    assertEquals(666, player.chips);
+    assertEquals(666, player.account.getBalance());
   }
 
   @Test
   public void addChips() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 3;
+    player.account.setBalance(3);
     player.addChips(2);
-    assertEquals(5, player.chips);
+    assertEquals(5, player.account.getBalance());
   }
 
   @Test
   public void takeChips() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 3;
+    player.account.setBalance(3);
     player.takeChips(2);
-    assertEquals(1, player.chips);
+    assertEquals(1, player.account.getBalance());
   }
 
   @Test(expected = RuntimeException.class)
   public void takeChipsThrowsException() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 3;
+    player.account.setBalance(3);
     player.takeChips(4);
   }
 
+  @Test
+  public void tryTakeChipsLeavesBalanceOnOverdraft() throws Exception {
+    PlayerImpl player = new PlayerImpl("name");
+    player.account.setBalance(3);
+    assertFalse(player.tryTakeChips(4));
+    assertEquals(3, player.account.getBalance());
+    assertTrue(player.tryTakeChips(3));
+    assertEquals(0, player.account.getBalance());
+  }
+
   @Test
   public void hasChips() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 3;
+    player.account.setBalance(3);
     assertTrue(player.hasChips());
   }
 
   @Test
   public void hasNoChips() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 0;
+    player.account.setBalance(0);
     assertFalse(player.hasChips());
   }
 
   @Test
   public void chipCount() throws Exception {
     PlayerImpl player = new PlayerImpl("name");
-    player.chips = 69;
+    player.account.setBalance(69);
     assertEquals(69, player.chipCount());
   }
 
+  @Test
+  public void playersCanShareAccount() throws Exception {
+    ChipAccount account = new ChipAccount(10);
+    PlayerImpl player1 = new PlayerImpl("name", account);
+    PlayerImpl player2 = new PlayerImpl("name", account);
+    player1.takeChips(4);
+    assertEquals(6, player2.chipCount());
+    assertSame(account, player2.getAccount());
+  }
+
   @Test
   public void getName() throws Exception {
     PlayerImpl player = new PlayerImpl("My Name");
@@ -69,5 +91,9 @@ public class PlayerTest {
     public PlayerImpl(String name) {
       super(name);
     }
+
+    public PlayerImpl(String name, ChipAccount account) {
+      super(name, account);
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.nortal.game.poker.player;
+
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Test;
+
+import static com.nortal.game.poker.card.Rank.*;
+import static com.nortal.game.poker.card.Suit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class StrengthTableDecisionStrategyTest {
+  private final StrengthTableDecisionStrategy strategy = new StrengthTableDecisionStrategy(new LookupTableHandEvaluator(), 0.5);
+
+  @Test
+  public void strongHandBets() throws Exception {
+    DecisionContext context = context(3, 100, 80, CardIndex.of(ACE, SPADE), CardIndex.of(ACE, HEART),
+        CardIndex.of(ACE, DIAMOND), CardIndex.of(ACE, CLUB), CardIndex.of(KING, SPADE));
+    int extraBid = strategy.decideExtraBid(context);
+    assertTrue("Bid " + extraBid, extraBid >= 49 && extraBid <= 50);
+  }
+
+  @Test
+  public void weakHandDoesNotBid() throws Exception {
+    DecisionContext context = context(5, 100, 80, CardIndex.of(SEVEN, SPADE), CardIndex.of(FIVE, HEART),
+        CardIndex.of(FOUR, DIAMOND), CardIndex.of(THREE, CLUB), CardIndex.of(TWO, SPADE));
+    assertEquals(0, strategy.decideExtraBid(context));
+  }
+
+  @Test
+  public void incompleteHandDoesNotBid() throws Exception {
+    DecisionContext context = context(2, 100, 80, CardIndex.of(ACE, SPADE));
+    assertEquals(0, strategy.decideExtraBid(context));
+  }
+
+  private DecisionContext context(int playerCount, int chips, int maxPossibleBid, int... cards) {
+    DecisionContext context = mock(DecisionContext.class);
+    doReturn(playerCount).when(context).getPlayerCount();
+    doReturn(chips).when(context).getChips();
+    doReturn(maxPossibleBid).when(context).getMaxPossibleBid();
+    doReturn(cards.length).when(context).getCardCount();
+    for (int i = 0; i < cards.length; i++) {
+      doReturn(cards[i]).when(context).getCard(i);
+    }
+    return context;
+  }
+}
@@ -0,0 +1,62 @@
+package com.nortal.game.poker.random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CounterRandomSourceTest {
+
+  @Test
+  public void seekRestartsStream() throws Exception {
+    CounterRandomSource random = new CounterRandomSource(5);
+    random.seek(17);
+    long first = random.nextLong();
+    long second = random.nextLong();
+    random.seek(3);
+    random.nextLong();
+    random.seek(17);
+    assertEquals(first, random.nextLong());
+    assertEquals(second, random.nextLong());
+  }
+
+  @Test
+  public void sameSeedAndStreamGiveSameSequence() throws Exception {
+    CounterRandomSource random1 = new CounterRandomSource(5);
+    CounterRandomSource random2 = new CounterRandomSource(5);
+    random1.seek(1000);
+    random2.seek(1000);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(random1.nextLong(), random2.nextLong());
+    }
+  }
+
+  @Test
+  public void streamsAndSeedsDiffer() throws Exception {
+    CounterRandomSource random = new CounterRandomSource(5);
+    random.seek(1);
+    long stream1 = random.nextLong();
+    random.seek(2);
+    assertNotEquals(stream1, random.nextLong());
+
+    CounterRandomSource otherSeed = new CounterRandomSource(6);
+    otherSeed.seek(1);
+    assertNotEquals(stream1, otherSeed.nextLong());
+  }
+
+  @Test
+  public void nextIntIsWithinBoundAndCoversRange() throws Exception {
+    CounterRandomSource random = new CounterRandomSource(1);
+    int[] counts = new int[52];
+    for (int i = 0; i < 52000; i++) {
+      if (i % 52 == 0) random.seek(i / 52);
+      int value = random.nextInt(52);
+      assertTrue(value >= 0 && value < 52);
+      counts[value]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 800 && count < 1200);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.nortal.game.poker.random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Xoshiro256RandomSourceTest {
+
+  @Test
+  public void sameSeedGivesSameSequence() throws Exception {
+    Xoshiro256RandomSource random1 = new Xoshiro256RandomSource(99);
+    Xoshiro256RandomSource random2 = new Xoshiro256RandomSource(99);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(random1.nextLong(), random2.nextLong());
+    }
+  }
+
+  @Test
+  public void nextIntIsWithinBoundAndCoversRange() throws Exception {
+    Xoshiro256RandomSource random = new Xoshiro256RandomSource(1);
+    int[] counts = new int[52];
+    for (int i = 0; i < 52000; i++) {
+      int value = random.nextInt(52);
+      assertTrue(value >= 0 && value < 52);
+      counts[value]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 800 && count < 1200);
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void boundMustBePositive() throws Exception {
+    new Xoshiro256RandomSource(1).nextInt(0);
+  }
+}
@@ -0,0 +1,31 @@
+package com.nortal.game.poker.recovery;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public class BoardSnapshotTest {
+
+  @Test
+  public void encodeAndDecode() throws Exception {
+    BoardSnapshot snapshot = new BoardSnapshot(7, 120, 33, 10, new String[]{"Human", "C\u00f6mputer"},
+        new byte[]{BoardSnapshot.HUMAN, BoardSnapshot.COMPUTER}, new int[]{15, 21}, new int[]{2, 2});
+    ByteBuffer buffer = ByteBuffer.allocate(snapshot.encodedSize());
+    snapshot.encode(buffer);
+    assertEquals(0, buffer.remaining());
+    buffer.flip();
+
+    BoardSnapshot decoded = BoardSnapshot.decode(buffer);
+    assertEquals(7, decoded.getTableId());
+    assertEquals(120, decoded.getSequence());
+    assertEquals(33, decoded.getRound());
+    assertEquals(10, decoded.getCardsShared());
+    assertEquals(2, decoded.getPlayerCount());
+    assertEquals("C\u00f6mputer", decoded.getPlayerName(1));
+    assertEquals(BoardSnapshot.COMPUTER, decoded.getPlayerKind(1));
+    assertEquals(15, decoded.getPlayerChips(0));
+    assertEquals(2, decoded.getChipsOnBoard(1));
+  }
+}
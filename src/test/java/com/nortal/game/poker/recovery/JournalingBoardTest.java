@@ -0,0 +1,142 @@
+package com.nortal.game.poker.recovery;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import com.nortal.game.poker.player.Player;
+import com.nortal.game.poker.random.CounterRandomSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JournalingBoardTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+
+  @Test
+  public void restoreReplaysJournalAfterSnapshot() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    JournalingBoard board;
+    try (TableStore store = new TableStore(directory, 60000)) {
+      board = createBoard(store, 3);
+      for (int round = 0; round < JournalingBoard.SNAPSHOT_EVERY_ROUNDS + 10; round++) {
+        playRound(board);
+      }
+      board.deal();
+      board.raiseBid(1);
+    }
+
+    try (TableStore store = new TableStore(directory, 60000)) {
+      JournalingBoard restored = JournalingBoard.restore(TableStore.recover(directory).get(3L),
+          new Deck(new CounterRandomSource(11)), handEvaluator, store);
+
+      assertEquals(board.getSequence(), restored.getSequence());
+      assertEquals(board.getPot(), restored.getPot());
+      for (int seat = 0; seat < 2; seat++) {
+        Player original = board.getPlayer(seat);
+        Player recovered = restored.getPlayer(seat);
+        assertEquals(original.getName(), recovered.getName());
+        assertEquals(original.chipCount(), recovered.chipCount());
+        assertEquals(board.getPlayerHand(original).toString(), restored.getPlayerHand(recovered).toString());
+      }
+      assertTrue(restored.getPlayer(1) instanceof Computer);
+    }
+  }
+
+  @Test
+  public void restoreFromSnapshotTakenMidRoundRedealsHands() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    JournalingBoard board;
+    try (TableStore store = new TableStore(directory, 60000)) {
+      board = createBoard(store, 4);
+      board.deal(8);
+      board.submitSnapshot();
+    }
+
+    try (TableStore store = new TableStore(directory, 60000)) {
+      JournalingBoard restored = JournalingBoard.restore(TableStore.recover(directory).get(4L),
+          new Deck(new CounterRandomSource(11)), handEvaluator, store);
+
+      assertEquals(2, restored.getPot());
+      assertEquals(board.getPlayerHand(board.getPlayer(0)).toString(),
+          restored.getPlayerHand(restored.getPlayer(0)).toString());
+    }
+  }
+
+  @Test
+  public void tableWithoutExplicitSnapshotIsRecoverable() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    JournalingBoard board;
+    try (TableStore store = new TableStore(directory, 60000)) {
+      board = new JournalingBoard(new Deck(new CounterRandomSource(11)), handEvaluator, store, 6);
+      Human human = new Human("Human");
+      human.setChips(1000);
+      Computer computer = new Computer("Computer");
+      computer.setChips(1000);
+      board.addPlayer(human).addPlayer(computer);
+      for (int round = 0; round < 10; round++) {
+        playRound(board);
+      }
+    }
+
+    Map<Long, RecoveredTable> tables = TableStore.recover(directory);
+    assertEquals(1, tables.size());
+    assertEquals(1, TableStore.journalSegments(directory).size());
+    try (TableStore store = new TableStore(directory, 60000)) {
+      JournalingBoard restored = JournalingBoard.restore(tables.get(6L), new Deck(new CounterRandomSource(11)),
+          handEvaluator, store);
+      assertEquals(board.getPlayer(0).chipCount(), restored.getPlayer(0).chipCount());
+      assertEquals(board.getPlayer(1).chipCount(), restored.getPlayer(1).chipCount());
+      assertEquals(2000, restored.getPlayer(0).chipCount() + restored.getPlayer(1).chipCount());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void firstDealPersistsSnapshotBeforeClose() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      JournalingBoard board = new JournalingBoard(new Deck(new CounterRandomSource(11)), handEvaluator, store, 7);
+      Human human = new Human("Human");
+      human.setChips(1000);
+      board.addPlayer(human).addPlayer(new Computer("Computer"));
+      board.getPlayer(1).setChips(1000);
+      playRound(board);
+      while (TableStore.readSnapshots(directory).get(7L) == null) {
+        Thread.sleep(1);
+      }
+    }
+  }
+
+  private JournalingBoard createBoard(TableStore store, long tableId) {
+    JournalingBoard board = new JournalingBoard(new Deck(new CounterRandomSource(11)), handEvaluator, store, tableId);
+    Human human = new Human("Human");
+    human.setChips(1000);
+    Computer computer = new Computer("Computer");
+    computer.setChips(1000);
+    board.addPlayer(human).addPlayer(computer);
+    board.submitSnapshot();
+    return board;
+  }
+
+  private void playRound(JournalingBoard board) {
+    board.deal();
+    board.raiseBid(Math.min(1, board.getMaxPossibleBid()));
+    List<Player> winners = board.findPlayersWithBestHand();
+    if (winners.size() == 1) {
+      board.giveChipsOnBoardToPlayer(winners.get(0));
+    } else {
+      board.giveChipsBackToPlayers();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.nortal.game.poker.recovery;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TableStoreTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void recoverReturnsSnapshotAndNewerJournalEntries() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      store.journal(1, 1, JournalEntry.DEAL, 0);
+      store.snapshot(snapshot(1, 1));
+      store.journal(1, 2, JournalEntry.RAISE, 3);
+      store.journal(1, 3, JournalEntry.WIN, 0);
+      store.journal(2, 1, JournalEntry.DEAL, 0);
+    }
+
+    Map<Long, RecoveredTable> tables = TableStore.recover(directory);
+    assertEquals(1, tables.size());
+    RecoveredTable table = tables.get(1L);
+    assertEquals(1, table.getSnapshot().getSequence());
+    assertEquals(2, table.getJournal().size());
+    assertEquals(JournalEntry.RAISE, table.getJournal().get(0).getAction());
+    assertEquals(3, table.getJournal().get(0).getArgument());
+    assertEquals(3, table.getJournal().get(1).getSequence());
+  }
+
+  @Test
+  public void recoverIgnoresTornJournalTail() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      store.snapshot(snapshot(1, 0));
+      store.journal(1, 1, JournalEntry.DEAL, 0);
+    }
+    Path journal = TableStore.journalSegments(directory).lastEntry().getValue();
+    Files.write(journal, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+    assertEquals(1, TableStore.recover(directory).get(1L).getJournal().size());
+  }
+
+  @Test
+  public void snapshotsDeleteCoveredJournalSegments() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      stopWriter(store);
+      store.journal(1, 1, JournalEntry.DEAL, 0);
+      store.flushJournal();
+      store.snapshot(snapshot(1, 1));
+      store.writeSnapshots();
+      store.journal(1, 2, JournalEntry.RETURN, 0);
+      store.flushJournal();
+      store.writeSnapshots();
+      assertFalse(Files.exists(TableStore.journalPath(directory, 0)));
+      assertFalse(Files.exists(TableStore.journalPath(directory, 1)));
+      assertEquals(1, TableStore.readJournal(TableStore.journalPath(directory, 2)).size());
+    }
+  }
+
+  @Test
+  public void recoverSkipsEntriesCarriedIntoNewerSegment() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      stopWriter(store);
+      store.snapshot(snapshot(1, 0));
+      store.journal(1, 1, JournalEntry.DEAL, 0);
+      store.journal(1, 2, JournalEntry.RAISE, 1);
+      store.flushJournal();
+      Path segment = TableStore.journalSegments(directory).lastEntry().getValue();
+      Files.copy(segment, directory.resolve("copy"));
+      store.writeSnapshots();
+      assertFalse(Files.exists(segment));
+      Files.move(directory.resolve("copy"), segment);
+    }
+
+    assertEquals(2, TableStore.recover(directory).get(1L).getJournal().size());
+  }
+
+  @Test
+  public void reopenedStoreKeepsEarlierSnapshots() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      store.snapshot(snapshot(5, 4));
+    }
+    try (TableStore store = new TableStore(directory, 60000)) {
+      store.journal(5, 5, JournalEntry.DEAL, 9);
+    }
+
+    RecoveredTable table = TableStore.recover(directory).get(5L);
+    assertEquals(4, table.getSnapshot().getSequence());
+    assertEquals(1, table.getJournal().size());
+  }
+
+  @Test(timeout = 10000)
+  public void writerFailureIsReportedInsteadOfBuffering() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    TableStore store = new TableStore(directory, 60000);
+    store.journalChannel.close();
+    store.journal(1, 1, JournalEntry.DEAL, 0);
+    while (store.getFailure() == null) {
+      Thread.sleep(1);
+    }
+
+    try {
+      store.journal(1, 2, JournalEntry.RAISE, 1);
+      fail();
+    } catch (RuntimeException e) {
+      assertSame(store.getFailure(), e.getCause());
+    }
+    try {
+      store.close();
+      fail();
+    } catch (IOException e) {
+      assertSame(store.getFailure(), e.getCause());
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void boundedJournalBufferKeepsEveryEntry() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000, 4 * JournalEntry.SIZE)) {
+      store.snapshot(snapshot(1, 0));
+      for (int sequence = 1; sequence <= 1000; sequence++) {
+        store.journal(1, sequence, JournalEntry.RAISE, 1);
+        assertTrue(store.pendingJournal.capacity() <= 4 * JournalEntry.SIZE);
+      }
+    }
+
+    assertEquals(1000, TableStore.recover(directory).get(1L).getJournal().size());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsRoomForOneJournalEntry() throws Exception {
+    new TableStore(folder.getRoot().toPath(), 60000, JournalEntry.SIZE - 1);
+  }
+
+  private void stopWriter(TableStore store) throws InterruptedException {
+    store.running = false;
+    LockSupport.unpark(store.writerThread);
+    store.writerThread.join();
+  }
+
+  private BoardSnapshot snapshot(long tableId, long sequence) {
+    return new BoardSnapshot(tableId, sequence, 0, 0, new String[]{"Human", "Computer"},
+        new byte[]{BoardSnapshot.HUMAN, BoardSnapshot.COMPUTER}, new int[]{20, 20}, new int[]{0, 0});
+  }
+}
@@ -0,0 +1,30 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncGameServerTest {
+
+  @Test(timeout = 60000)
+  public void serverPlaysConcurrentTablesWithoutBlockingThreads() throws Exception {
+    GameServer server = new AsyncGameServer(Deck::new, new LookupTableHandEvaluator(),
+        Executors.newFixedThreadPool(2), 5000);
+    server.start(new InetSocketAddress("localhost", 0));
+    try {
+      LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress("localhost", server.getPort()), 16, 5);
+      loadGenerator.run(50000);
+
+      assertEquals(16, loadGenerator.getGamesFinished());
+      assertTrue(loadGenerator.getRounds() >= 16);
+    } finally {
+      server.stop();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.metrics.InstrumentedBoard;
+import com.nortal.game.poker.metrics.InstrumentedHandEvaluator;
+import com.nortal.game.poker.metrics.InstrumentedUI;
+import com.nortal.game.poker.metrics.MetricsRegistry;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.recovery.JournalingBoard;
+import com.nortal.game.poker.recovery.TableStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameServerTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test(timeout = 60000)
+  public void serverRecordsMetrics() throws Exception {
+    MetricsRegistry metrics = new MetricsRegistry();
+    GameServer server = new GameServer(Deck::new, new LookupTableHandEvaluator(),
+        Executors.newVirtualThreadPerTaskExecutor(), metrics);
+    server.start(new InetSocketAddress("localhost", 0));
+    try {
+      LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress("localhost", server.getPort()), 2, 5);
+      loadGenerator.run(50000);
+
+      assertEquals(loadGenerator.getRounds(), metrics.counter(InstrumentedBoard.ROUNDS).getCount());
+      assertEquals(loadGenerator.getRounds(), metrics.histogram(InstrumentedUI.BID_WAIT).getCount());
+      assertTrue(metrics.histogram(InstrumentedHandEvaluator.EVALUATE).getCount() > 0);
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void serverPlaysConcurrentTablesToTheEnd() throws Exception {
+    GameServer server = new GameServer(Deck::new, new LookupTableHandEvaluator(), Executors.newVirtualThreadPerTaskExecutor());
+    server.start(new InetSocketAddress("localhost", 0));
+    try {
+      LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress("localhost", server.getPort()), 8, 5);
+      loadGenerator.run(50000);
+
+      assertEquals(8, loadGenerator.getGamesFinished());
+      assertTrue(loadGenerator.getRounds() >= 8);
+      assertTrue(loadGenerator.getMeanLatencyNanos() > 0);
+      while (server.getActiveTables() > 0) {
+        Thread.sleep(1);
+      }
+      assertEquals(0, server.getLedger().getAccountCount());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void serverKeepsAcceptingAfterAcceptFailure() throws Exception {
+    GameServer server = new GameServer(Deck::new, new LookupTableHandEvaluator(), Executors.newVirtualThreadPerTaskExecutor()) {
+      @Override
+      protected SocketChannel acceptChannel() throws IOException {
+        if (getFailedAccepts() == 0) throw new IOException("Too many open files");
+        return super.acceptChannel();
+      }
+    };
+    server.start(new InetSocketAddress("localhost", 0));
+    try {
+      LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress("localhost", server.getPort()), 2, 5);
+      loadGenerator.run(50000);
+
+      assertEquals(1, server.getFailedAccepts());
+      assertEquals(2, loadGenerator.getGamesFinished());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void serverClosesSessionAfterGameOver() throws Exception {
+    GameServer server = new GameServer(Deck::new, new LookupTableHandEvaluator(), Executors.newVirtualThreadPerTaskExecutor());
+    server.start(new InetSocketAddress("localhost", 0));
+    try (SocketChannel client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+      ByteBuffer buffer = ByteBuffer.allocate(1024);
+      boolean[] gameOver = new boolean[1];
+      while (client.read(buffer) >= 0) {
+        buffer.flip();
+        Protocol.readFrames(buffer, (type, payload) -> {
+          if (type == Protocol.BID_REQUEST) writeFully(client, Protocol.bid(payload.getInt(), payload.getInt()));
+          if (type == Protocol.GAME_OVER) gameOver[0] = true;
+        });
+        buffer.compact();
+      }
+
+      assertTrue(gameOver[0]);
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void journaledTablesAreRecoveredOnStartup() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    try (TableStore store = new TableStore(directory, 60000)) {
+      GameServer server = journaledServer(store);
+      server.start(new InetSocketAddress("localhost", 0));
+      try (SocketChannel client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int[] rounds = new int[1];
+        while (rounds[0] < 3 && client.read(buffer) >= 0) {
+          buffer.flip();
+          Protocol.readFrames(buffer, (type, payload) -> {
+            if (type == Protocol.BID_REQUEST) writeFully(client, Protocol.bid(payload.getInt(), 0));
+            if (type == Protocol.WINNER || type == Protocol.CHIPS_RETURNED) rounds[0]++;
+          });
+          buffer.compact();
+        }
+      }
+      while (server.getActiveTables() > 0) {
+        Thread.sleep(1);
+      }
+      server.stop();
+    }
+
+    try (TableStore store = new TableStore(directory, 60000)) {
+      GameServer server = journaledServer(store);
+      Map<Long, JournalingBoard> recovered = server.recoverTables();
+
+      assertEquals(1, recovered.size());
+      JournalingBoard board = recovered.get(1L);
+      assertTrue(board.getSequence() > 0);
+      int chips = board.getPot();
+      for (int seat = 0; seat < 2; seat++) {
+        chips += board.getPlayer(seat).chipCount();
+      }
+      assertEquals(2 * GameServer.STARTING_CHIPS, chips);
+      assertEquals(1, server.nextTableId.get());
+    }
+  }
+
+  private static GameServer journaledServer(TableStore store) {
+    return new GameServer(tableId -> new Deck(new CounterRandomSource(tableId)), new LookupTableHandEvaluator(),
+        Executors.newVirtualThreadPerTaskExecutor(), null, store);
+  }
+
+  private static void writeFully(SocketChannel channel, ByteBuffer frame) {
+    try {
+      while (frame.hasRemaining()) channel.write(frame);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
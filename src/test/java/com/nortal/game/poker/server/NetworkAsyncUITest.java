@@ -0,0 +1,56 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class NetworkAsyncUITest {
+
+  @Test
+  public void announcementsAreBatchedUntilBidRequest() throws Exception {
+    NetworkSession session = mock(NetworkSession.class);
+    CompletableFuture<Integer> nextBid = new CompletableFuture<>();
+    doReturn(1).when(session).openBidRequest();
+    doReturn(nextBid).when(session).nextBid(1);
+    Computer computer = new Computer("Computer");
+    Board board = new Board(null, null).addPlayer(new Human("Human")).addPlayer(computer);
+    NetworkAsyncUI ui = new NetworkAsyncUI(session, board);
+
+    ui.announceWinner(computer);
+    ui.newRound();
+    verify(session, never()).send(any(ByteBuffer.class));
+
+    assertSame(nextBid, ui.getExtraBid(3));
+
+    ArgumentCaptor<ByteBuffer> sent = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(session).send(sent.capture());
+    List<Byte> types = new ArrayList<>();
+    Protocol.readFrames(sent.getValue(), (type, payload) -> types.add(type));
+    assertEquals(3, types.size());
+    assertEquals(Protocol.WINNER, (byte) types.get(0));
+    assertEquals(Protocol.NEW_ROUND, (byte) types.get(1));
+    assertEquals(Protocol.BID_REQUEST, (byte) types.get(2));
+  }
+
+  @Test
+  public void flushWithoutFramesSendsNothing() throws Exception {
+    NetworkSession session = mock(NetworkSession.class);
+    new NetworkAsyncUI(session, new Board(null, null)).flush();
+    verify(session, never()).send(any(ByteBuffer.class));
+  }
+}
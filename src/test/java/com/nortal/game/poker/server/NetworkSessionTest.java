@@ -0,0 +1,104 @@
+package com.nortal.game.poker.server;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class NetworkSessionTest {
+  private SocketChannel channel;
+  private NetworkSession session;
+
+  @Before
+  public void setUp() throws Exception {
+    channel = SocketChannel.open();
+    session = new NetworkSession(channel, mock(GameServer.class));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    channel.close();
+  }
+
+  @Test
+  public void dropsBidWithoutOpenRequest() throws Exception {
+    session.onFrame(Protocol.BID, bid(0, 3));
+    int requestId = session.openBidRequest();
+    session.onFrame(Protocol.BID, bid(requestId, 5));
+
+    assertEquals(5, session.takeBid());
+    assertEquals(1, session.getDroppedBids());
+  }
+
+  @Test
+  public void acceptsOneBidPerRequest() throws Exception {
+    int requestId = session.openBidRequest();
+    for (int i = 1; i <= 100; i++) {
+      session.onFrame(Protocol.BID, bid(requestId, i));
+    }
+
+    assertEquals(1, session.takeBid());
+    assertEquals(99, session.getDroppedBids());
+    assertTrue(session.bids.isEmpty());
+  }
+
+  @Test
+  public void nextBidCompletesWithAnswerToRequest() throws Exception {
+    session.onFrame(Protocol.BID, bid(0, 2));
+    int requestId = session.openBidRequest();
+    CompletableFuture<Integer> nextBid = session.nextBid(requestId);
+    session.onFrame(Protocol.BID, bid(requestId, 4));
+    session.onFrame(Protocol.BID, bid(requestId, 6));
+
+    assertEquals(4, (int) nextBid.get());
+    assertEquals(2, session.getDroppedBids());
+  }
+
+  @Test
+  public void lateBidDoesNotAnswerNextRequest() throws Exception {
+    int timedOut = session.openBidRequest();
+    CompletableFuture<Integer> firstBid = session.nextBid(timedOut);
+    firstBid.completeOnTimeout(0, 1, TimeUnit.MILLISECONDS);
+    assertEquals(0, (int) firstBid.get());
+    session.onFrame(Protocol.BID, bid(timedOut, 7));
+
+    int requestId = session.openBidRequest();
+    CompletableFuture<Integer> secondBid = session.nextBid(requestId);
+    session.onFrame(Protocol.BID, bid(timedOut, 8));
+    assertFalse(secondBid.isDone());
+    session.onFrame(Protocol.BID, bid(requestId, 3));
+
+    assertEquals(3, (int) secondBid.get());
+    assertEquals(2, session.getDroppedBids());
+  }
+
+  @Test
+  public void closeReleasesWaitingBid() throws Exception {
+    int requestId = session.openBidRequest();
+    session.close();
+    session.close();
+    try {
+      session.takeBid();
+      fail();
+    } catch (RuntimeException e) {
+      assertEquals("Session closed", e.getMessage());
+    }
+    assertTrue(session.nextBid(requestId).isCompletedExceptionally());
+  }
+
+  private ByteBuffer bid(int requestId, int bid) {
+    ByteBuffer payload = ByteBuffer.allocate(8).putInt(requestId).putInt(bid);
+    payload.flip();
+    return payload;
+  }
+}
@@ -0,0 +1,41 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.Human;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class NetworkUITest {
+
+  @Test
+  public void getExtraBidRepeatsRequestUntilBidIsValid() throws Exception {
+    NetworkSession session = mock(NetworkSession.class);
+    doNothing().when(session).send(any(ByteBuffer.class));
+    doReturn(9).doReturn(-1).doReturn(4).when(session).takeBid();
+
+    assertEquals(4, new NetworkUI(session, new Board(null, null)).getExtraBid(5));
+    verify(session, times(3)).openBidRequest();
+    verify(session, times(3)).send(any(ByteBuffer.class));
+  }
+
+  @Test
+  public void announceWinnerSendsSeat() throws Exception {
+    NetworkSession session = mock(NetworkSession.class);
+    Computer computer = new Computer("Computer");
+    Board board = new Board(null, null).addPlayer(new Human("Human")).addPlayer(computer);
+
+    new NetworkUI(session, board).announceWinner(computer);
+
+    verify(session).send(Protocol.winner(1));
+  }
+}
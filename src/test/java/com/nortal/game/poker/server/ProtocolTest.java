@@ -0,0 +1,73 @@
+package com.nortal.game.poker.server;
+
+import com.nortal.game.poker.card.Card;
+import com.nortal.game.poker.card.CardIndex;
+import com.nortal.game.poker.hand.Hand;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nortal.game.poker.card.Rank.ACE;
+import static com.nortal.game.poker.card.Rank.KING;
+import static com.nortal.game.poker.card.Suit.HEART;
+import static com.nortal.game.poker.card.Suit.SPADE;
+import static org.junit.Assert.assertEquals;
+
+public class ProtocolTest {
+
+  @Test
+  public void readFramesDecodesEveryCompleteFrame() throws Exception {
+    Hand hand = new Hand();
+    hand.add(new Card(ACE, SPADE));
+    hand.add(new Card(KING, HEART));
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    buffer.put(Protocol.newRound()).put(Protocol.showCards(1, hand)).put(Protocol.bidRequest(2, 7));
+    buffer.flip();
+
+    List<Byte> types = new ArrayList<>();
+    List<Integer> values = new ArrayList<>();
+    Protocol.readFrames(buffer, (type, payload) -> {
+      types.add(type);
+      while (payload.hasRemaining()) {
+        values.add(type == Protocol.BID_REQUEST ? payload.getInt() : (int) payload.get());
+      }
+    });
+
+    assertEquals(3, types.size());
+    assertEquals(Protocol.NEW_ROUND, (byte) types.get(0));
+    assertEquals(Protocol.SHOW_CARDS, (byte) types.get(1));
+    assertEquals(Protocol.BID_REQUEST, (byte) types.get(2));
+    assertEquals(1, (int) values.get(0));
+    assertEquals(2, (int) values.get(1));
+    assertEquals(CardIndex.of(ACE, SPADE), (int) values.get(2));
+    assertEquals(CardIndex.of(KING, HEART), (int) values.get(3));
+    assertEquals(2, (int) values.get(4));
+    assertEquals(7, (int) values.get(5));
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void readFramesLeavesPartialFrameInBuffer() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    ByteBuffer bid = Protocol.bid(1, 3);
+    buffer.put(Protocol.chipsReturned());
+    buffer.put(bid.array(), 0, 6);
+    buffer.flip();
+
+    List<Byte> types = new ArrayList<>();
+    Protocol.readFrames(buffer, (type, payload) -> types.add(type));
+
+    assertEquals(1, types.size());
+    assertEquals(6, buffer.remaining());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void readFramesRejectsOversizedFrame() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.putInt(Protocol.MAX_PAYLOAD_SIZE + 1).put(Protocol.BID);
+    buffer.flip();
+    Protocol.readFrames(buffer, (type, payload) -> { });
+  }
+}
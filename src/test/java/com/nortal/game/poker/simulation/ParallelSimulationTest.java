@@ -0,0 +1,24 @@
+package com.nortal.game.poker.simulation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelSimulationTest {
+
+  @Test
+  public void run() throws Exception {
+    ParallelSimulation simulation = new ParallelSimulation(Simulation::createDefault, 4, 42);
+
+    SimulationStats stats = simulation.run(100001);
+
+    assertEquals(100001, stats.getRounds());
+    assertEquals(stats.getRounds(), stats.getWins(0) + stats.getWins(1) + stats.getWins(2) + stats.getChipReturns());
+    assertEquals(4 * 3 * 20, stats.getEndingChips(0) + stats.getEndingChips(1) + stats.getEndingChips(2));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsAtLeastOneWorker() throws Exception {
+    new ParallelSimulation(Simulation::createDefault, 0, 42);
+  }
+}
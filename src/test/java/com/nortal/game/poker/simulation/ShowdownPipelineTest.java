@@ -0,0 +1,90 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.random.CounterRandomSource;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public class ShowdownPipelineTest {
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+
+  @Test
+  public void singleLaneMatchesSequentialSimulation() throws Exception {
+    SimulationStats expected = Simulation.createDefault(new Deck(new CounterRandomSource(42))).run(10001);
+
+    assertSameStats(expected, pipeline(1, 1, 1, 64, 4).run(10001));
+    assertSameStats(expected, pipeline(2, 3, 1, 7, 2).run(10001));
+  }
+
+  @Test
+  public void lanesConserveChips() throws Exception {
+    SimulationStats stats = pipeline(1, 2, 3, 100, 4).run(50000);
+
+    assertEquals(50000, stats.getRounds());
+    assertEquals(stats.getRounds(), stats.getWins(0) + stats.getWins(1) + stats.getWins(2) + stats.getChipReturns());
+    assertEquals(3 * 3 * 20, stats.getEndingChips(0) + stats.getEndingChips(1) + stats.getEndingChips(2));
+  }
+
+  @Test
+  public void recordsStageStats() throws Exception {
+    ShowdownPipeline pipeline = pipeline(2, 2, 2, 50, 3);
+
+    pipeline.run(1001);
+
+    for (StageStats stage : new StageStats[]{pipeline.getDealStats(), pipeline.getEvaluateStats(), pipeline.getSettleStats()}) {
+      assertEquals(21, stage.getBatches());
+      assertEquals(1001, stage.getRounds());
+      assertTrue(stage.getMaxInputDepth() <= 3);
+    }
+    assertTrue(pipeline.reportStages().startsWith("deal: 2 thread(s), 21 batches, 1001 rounds"));
+  }
+
+  @Test
+  public void runsWithoutRounds() throws Exception {
+    assertEquals(0, pipeline(1, 1, 2, 10, 2).run(0).getRounds());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsThreadForEveryStage() throws Exception {
+    pipeline(1, 0, 1, 10, 2);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsQueueCapacity() throws Exception {
+    pipeline(1, 1, 1, 10, 0);
+  }
+
+  @Test(timeout = 10000, expected = RuntimeException.class)
+  public void evaluatorFailureStopsPipeline() throws Exception {
+    HandEvaluator failingEvaluator = mock(HandEvaluator.class);
+    doThrow(new RuntimeException("Broken")).when(failingEvaluator).evaluateAll(any(int[].class), any(long[].class), anyInt());
+
+    new ShowdownPipeline(42, failingEvaluator, () -> Simulation.createDefaultPlayers(handEvaluator),
+        Simulation.DEFAULT_STARTING_CHIPS, 1, 1, 1, 10, 2).run(1000);
+  }
+
+  private ShowdownPipeline pipeline(int dealThreads, int evaluateThreads, int settleThreads, int batchSize, int queueCapacity) {
+    return new ShowdownPipeline(42, handEvaluator, () -> Simulation.createDefaultPlayers(handEvaluator),
+        Simulation.DEFAULT_STARTING_CHIPS, dealThreads, evaluateThreads, settleThreads, batchSize, queueCapacity);
+  }
+
+  private void assertSameStats(SimulationStats expected, SimulationStats actual) {
+    assertEquals(expected.getRounds(), actual.getRounds());
+    assertEquals(expected.getGames(), actual.getGames());
+    assertEquals(expected.getChipReturns(), actual.getChipReturns());
+    for (int player = 0; player < 3; player++) {
+      assertEquals(expected.getWins(player), actual.getWins(player));
+      assertEquals(expected.getChipsWon(player), actual.getChipsWon(player));
+      assertEquals(expected.getBusts(player), actual.getBusts(player));
+      assertEquals(expected.getEndingChips(player), actual.getEndingChips(player));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.nortal.game.poker.simulation;
+
+import com.nortal.game.poker.board.Board;
+import com.nortal.game.poker.board.Deck;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.Computer;
+import com.nortal.game.poker.player.EquityDecisionStrategy;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import com.nortal.game.poker.random.CounterRandomSource;
+import com.nortal.game.poker.random.SplittableRandomSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimulationTest {
+
+  @Test
+  public void run() throws Exception {
+    List<Computer> players = new ArrayList<>();
+    players.add(new Computer("player-1", new FixedBidStrategy(0)));
+    players.add(new Computer("player-2", new FixedBidStrategy(3)));
+    Simulation simulation = new Simulation(new Board(new Deck(new CounterRandomSource(1)), new LookupTableHandEvaluator()), players, 20);
+
+    SimulationStats stats = simulation.run(10000);
+
+    assertEquals(10000, stats.getRounds());
+    assertEquals(stats.getRounds(), stats.getWins(0) + stats.getWins(1) + stats.getChipReturns());
+    assertEquals(40, stats.getEndingChips(0) + stats.getEndingChips(1));
+    assertTrue(stats.getGames() > 0);
+    assertTrue(stats.getRoundsPerSecond() > 0);
+  }
+
+  @Test
+  public void runsDecisionStrategyComputers() throws Exception {
+    LookupTableHandEvaluator handEvaluator = new LookupTableHandEvaluator();
+    List<Computer> players = new ArrayList<>();
+    players.add(new Computer("equity",
+        new EquityDecisionStrategy(handEvaluator, new SplittableRandomSource(1), 64, 0.5), 1_000_000_000L));
+    players.add(new Computer("player-2", new FixedBidStrategy(1)));
+    Simulation simulation = new Simulation(new Board(new Deck(new CounterRandomSource(1)), handEvaluator), players, 20);
+
+    SimulationStats stats = simulation.run(1000);
+
+    assertEquals(1000, stats.getRounds());
+    assertEquals(40, stats.getEndingChips(0) + stats.getEndingChips(1));
+  }
+
+  @Test
+  public void playerOutOfChipsStartsNewGame() throws Exception {
+    List<Computer> players = new ArrayList<>();
+    players.add(new Computer("player-1"));
+    players.add(new Computer("player-2"));
+    Simulation simulation = new Simulation(new Board(new Deck(new CounterRandomSource(1)), new LookupTableHandEvaluator()), players, 1);
+
+    SimulationStats stats = simulation.run(3);
+
+    assertEquals(3, stats.getRounds());
+    long wins = stats.getWins(0) + stats.getWins(1);
+    assertTrue(wins == stats.getGames() || wins == stats.getGames() + 1);
+    assertEquals(stats.getGames(), stats.getBusts(0) + stats.getBusts(1));
+  }
+}
@@ -0,0 +1,58 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.player.FixedBidStrategy;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EloLeaderboardTest {
+  private final List<Entrant> entrants = Arrays.asList(
+      new Entrant("A", () -> new FixedBidStrategy(0)),
+      new Entrant("B", () -> new FixedBidStrategy(0)));
+
+  @Test
+  public void expectedScore() throws Exception {
+    assertEquals(0.5, EloLeaderboard.expectedScore(1500, 1500), 1e-9);
+    assertEquals(0.909, EloLeaderboard.expectedScore(1800, 1400), 1e-3);
+  }
+
+  @Test
+  public void winMovesRatings() throws Exception {
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+
+    leaderboard.record(new MatchResult(new Match(0, 1, 0), MatchResult.WIN, 10));
+
+    assertEquals(1508, leaderboard.getRating(1), 1e-9);
+    assertEquals(1492, leaderboard.getRating(0), 1e-9);
+    assertEquals(1, leaderboard.getWins(1));
+    assertEquals(1, leaderboard.getLosses(0));
+    assertEquals(Arrays.asList(1, 0), leaderboard.getRanking());
+    assertEquals(10, leaderboard.getRounds());
+  }
+
+  @Test
+  public void drawBetweenEqualsKeepsRatings() throws Exception {
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+
+    leaderboard.record(new MatchResult(new Match(0, 0, 1), MatchResult.DRAW, 10));
+
+    assertEquals(EloLeaderboard.INITIAL_RATING, leaderboard.getRating(0), 1e-9);
+    assertEquals(1, leaderboard.getDraws(0));
+    assertEquals(0.5, leaderboard.getPoints(1), 0);
+  }
+
+  @Test
+  public void report() throws Exception {
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    leaderboard.record(new MatchResult(new Match(0, 1, 0), MatchResult.WIN, 10));
+
+    String report = leaderboard.report();
+
+    assertTrue(report.startsWith("Matches: 1, rounds: 10"));
+    assertTrue(report.contains("1. B: rating 1508.0"));
+  }
+}
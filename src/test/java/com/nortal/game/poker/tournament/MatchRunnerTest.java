@@ -0,0 +1,67 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MatchRunnerTest {
+  private final Entrant passive = new Entrant("Passive", () -> new FixedBidStrategy(0));
+  private final Entrant allIn = new Entrant("All in", () -> new FixedBidStrategy(Integer.MAX_VALUE));
+
+  @Test
+  public void playsUntilSomebodyIsOutOfChips() throws Exception {
+    MatchRunner runner = new MatchRunner(new LookupTableHandEvaluator(), 20, 100_000, 42);
+
+    MatchResult result = runner.play(new Match(3, 0, 1), passive, allIn);
+
+    assertTrue(result.getRounds() > 0 && result.getRounds() < 100_000);
+    assertTrue(result.getFirstScore() == MatchResult.WIN || result.getFirstScore() == MatchResult.LOSS);
+    assertEquals(MatchResult.WIN, result.getFirstScore() + result.getSecondScore(), 0);
+  }
+
+  @Test
+  public void sameMatchIsReproducible() throws Exception {
+    MatchRunner runner = new MatchRunner(new LookupTableHandEvaluator(), 20, 100_000, 42);
+
+    MatchResult first = runner.play(new Match(7, 0, 1), passive, allIn);
+    MatchResult second = runner.play(new Match(7, 0, 1), passive, allIn);
+
+    assertEquals(first.getRounds(), second.getRounds());
+    assertEquals(first.getFirstScore(), second.getFirstScore(), 0);
+  }
+
+  @Test
+  public void roundLimitDecidesByChips() throws Exception {
+    MatchRunner runner = new MatchRunner(new LookupTableHandEvaluator(), 20, 1, 42);
+
+    MatchResult result = runner.play(new Match(0, 0, 1), passive, passive);
+
+    assertEquals(1, result.getRounds());
+  }
+
+  @Test
+  public void outOfRangeBidsAreClamped() throws Exception {
+    MatchRunner runner = new MatchRunner(new LookupTableHandEvaluator(), 20, 1000, 42);
+    Entrant negative = new Entrant("Negative", () -> (hand, maxPossibleBid) -> -5);
+    Entrant greedy = new Entrant("Greedy", () -> (hand, maxPossibleBid) -> maxPossibleBid + 5);
+
+    MatchResult result = runner.play(new Match(0, 0, 1), negative, greedy);
+
+    assertTrue(result.getRounds() > 0);
+  }
+
+  @Test
+  public void scoreComparesChips() throws Exception {
+    assertEquals(MatchResult.WIN, MatchRunner.score(3, 2), 0);
+    assertEquals(MatchResult.DRAW, MatchRunner.score(2, 2), 0);
+    assertEquals(MatchResult.LOSS, MatchRunner.score(1, 2), 0);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsAtLeastOneRound() throws Exception {
+    new MatchRunner(new LookupTableHandEvaluator(), 20, 0, 42);
+  }
+}
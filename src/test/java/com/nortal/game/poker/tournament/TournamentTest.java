@@ -0,0 +1,141 @@
+package com.nortal.game.poker.tournament;
+
+import com.nortal.game.poker.hand.HandEvaluator;
+import com.nortal.game.poker.hand.LookupTableHandEvaluator;
+import com.nortal.game.poker.player.FixedBidStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TournamentTest {
+  private final HandEvaluator handEvaluator = new LookupTableHandEvaluator();
+
+  @Test
+  public void roundRobinPlaysEveryPair() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator);
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 4);
+
+    EloLeaderboard leaderboard = tournament.runRoundRobin(4);
+
+    int pairs = entrants.size() * (entrants.size() - 1) / 2;
+    assertEquals(4 * pairs, leaderboard.getMatches());
+    double ratingSum = 0;
+    int wins = 0;
+    int losses = 0;
+    for (int i = 0; i < entrants.size(); i++) {
+      ratingSum += leaderboard.getRating(i);
+      wins += leaderboard.getWins(i);
+      losses += leaderboard.getLosses(i);
+      assertEquals(4 * (entrants.size() - 1),
+          leaderboard.getWins(i) + leaderboard.getDraws(i) + leaderboard.getLosses(i));
+    }
+    assertEquals(entrants.size() * EloLeaderboard.INITIAL_RATING, ratingSum, 1e-6);
+    assertEquals(wins, losses);
+  }
+
+  @Test
+  public void resultsDoNotDependOnParallelism() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator);
+
+    String sequential = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 7), 1)
+        .runRoundRobin(2).report();
+    String parallel = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 7), 4)
+        .runRoundRobin(2).report();
+
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void swissAvoidsRematchesAndGivesByes() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator).subList(0, 5);
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 2);
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    Set<Long> playedPairs = new HashSet<>();
+    Set<Integer> byes = new HashSet<>();
+
+    for (int round = 0; round < 3; round++) {
+      List<Match> matches = tournament.pairSwissRound(leaderboard, playedPairs, byes);
+      assertEquals(2, matches.size());
+      for (MatchResult result : tournament.playAll(new ForkJoinPool(1), matches)) {
+        leaderboard.record(result);
+      }
+    }
+
+    assertEquals(6, playedPairs.size());
+    assertEquals(3, byes.size());
+    double points = 0;
+    for (int i = 0; i < entrants.size(); i++) {
+      points += leaderboard.getPoints(i);
+    }
+    assertEquals(6 + 3, points, 0);
+  }
+
+  @Test
+  public void runSwiss() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator);
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 4);
+
+    EloLeaderboard leaderboard = tournament.runSwiss(3);
+
+    assertEquals(3 * entrants.size() / 2, leaderboard.getMatches());
+    assertTrue(leaderboard.report().contains("Passive"));
+  }
+
+  @Test
+  public void swissGivesEveryEntrantOneBye() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator).subList(0, 5);
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 1);
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    Set<Long> playedPairs = new HashSet<>();
+    Set<Integer> byes = new HashSet<>();
+
+    for (int round = 0; round < tournament.getMaxSwissRounds(); round++) {
+      tournament.pairSwissRound(leaderboard, playedPairs, byes);
+    }
+
+    assertEquals(5, byes.size());
+    assertEquals(10, playedPairs.size());
+  }
+
+  @Test(timeout = 10000)
+  public void swissPairingFallsBackToRematchesWhenSearchIsExhausted() throws Exception {
+    List<Entrant> entrants = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      entrants.add(new Entrant("Entrant " + i, () -> new FixedBidStrategy(0)));
+    }
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 1);
+    EloLeaderboard leaderboard = new EloLeaderboard(entrants);
+    Set<Long> playedPairs = new HashSet<>();
+
+    for (int round = 0; round < 50; round++) {
+      List<Match> matches = tournament.pairSwissRound(leaderboard, playedPairs, new HashSet<>());
+      Set<Integer> seated = new HashSet<>();
+      for (Match match : matches) {
+        seated.add(match.getFirstEntrant());
+        seated.add(match.getSecondEntrant());
+      }
+      assertEquals(40, seated.size());
+    }
+  }
+
+  @Test
+  public void swissStopsOnceEveryPairingIsUsedUp() throws Exception {
+    List<Entrant> entrants = Tournament.createDefaultEntrants(handEvaluator).subList(0, 4);
+    Tournament tournament = new Tournament(entrants, new MatchRunner(handEvaluator, 20, 10_000, 42), 2);
+
+    assertEquals(6, tournament.runSwiss(10).getMatches());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void needsTwoEntrants() throws Exception {
+    new Tournament(Tournament.createDefaultEntrants(handEvaluator).subList(0, 1),
+        new MatchRunner(handEvaluator, 20, 10_000, 42), 1);
+  }
+}